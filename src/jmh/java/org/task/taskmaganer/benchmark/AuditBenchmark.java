@@ -0,0 +1,86 @@
+package org.task.taskmaganer.benchmark;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.runtime.reflect.Factory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.task.taskmaganer.aspect.AuditContext;
+import org.task.taskmaganer.aspect.AuditMessageBuilder;
+import org.task.taskmaganer.aspect.AuditMetadataExtractor;
+import org.task.taskmaganer.aspect.AuditMethodDescriptor;
+import org.task.taskmaganer.dto.request.UpdateTaskRequest;
+import org.task.taskmaganer.service.TaskService;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Audit aspect'inin request thread'indeki işi: metadata çıkarma ve context oluşturma,
+ * ayrıca yazıcı thread'inde yapılan mesaj oluşturma.
+ * <p>
+ * JoinPoint, AspectJ'nin runtime factory'si ile {@code TaskService.updateTask} için kurulur.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuditBenchmark {
+
+    private AuditMetadataExtractor metadataExtractor;
+    private AuditMessageBuilder messageBuilder;
+    private JoinPoint joinPoint;
+    private AuditContext completedContext;
+
+    @Setup
+    public void setUp() {
+        metadataExtractor = new AuditMetadataExtractor();
+        messageBuilder = new AuditMessageBuilder();
+
+        Factory factory = new Factory("TaskService.java", TaskService.class);
+        JoinPoint.StaticPart staticPart = factory.makeSJP(JoinPoint.METHOD_EXECUTION,
+                factory.makeMethodSig(1, "updateTask", TaskService.class,
+                        new Class[]{UUID.class, UpdateTaskRequest.class},
+                        new String[]{"id", "request"}, new Class[0], Object.class), 0);
+        TaskService target = new TaskService(null, null, null, null, null, 0);
+        joinPoint = Factory.makeJP(staticPart, target, target,
+                UUID.fromString("69e17a2f-4b6e-4a9e-b343-5c7d4a20773f"), new UpdateTaskRequest());
+
+        completedContext = createContext();
+        completedContext.markSuccess(null, 12);
+    }
+
+    @Benchmark
+    public AuditContext createContext() {
+        AuditMethodDescriptor descriptor = metadataExtractor.describe(joinPoint);
+        Object[] args = joinPoint.getArgs();
+        return AuditContext.builder()
+                .auditLog(descriptor.getAuditLog())
+                .action(descriptor.getAction())
+                .entityType(descriptor.getEntityType())
+                .entityId(descriptor.entityId(args))
+                .userId(metadataExtractor.extractCurrentUserId())
+                .methodParams(descriptor.parameters(args))
+                .build();
+    }
+
+    @Benchmark
+    public Map<String, Object> extractParameters() {
+        return metadataExtractor.describe(joinPoint).parameters(joinPoint.getArgs());
+    }
+
+    @Benchmark
+    public String buildMessage() {
+        return messageBuilder.build(completedContext);
+    }
+}
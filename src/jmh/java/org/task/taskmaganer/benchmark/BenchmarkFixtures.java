@@ -0,0 +1,64 @@
+package org.task.taskmaganer.benchmark;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.task.taskmaganer.entity.Role;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Benchmark'larda ortak kullanılan örnek veri.
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "dGFzay1tYW5hZ2VyLXNlY3JldC1rZXktZm9yLWp3dC10b2tlbi1nZW5lcmF0aW9uLTIwMjY=";
+    static final long JWT_EXPIRATION = 86_400_000L;
+    static final int PAGE_SIZE = 20;
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user() {
+        User user = new User("benchuser", "bench@example.com", "Bench", "User", "encoded-password");
+        user.setId(UUID.fromString("69e17a2f-4b6e-4a9e-b343-5c7d4a20773f"));
+        user.setRole(Role.USER);
+        user.setIsActive(true);
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+        user.setUpdatedAt(LocalDateTime.of(2024, 1, 15, 14, 45));
+        return user;
+    }
+
+    static Task task(User user, int index) {
+        Task task = new Task("Task " + index, "Benchmark task description " + index,
+                TaskPriority.values()[index % TaskPriority.values().length],
+                TaskStatus.values()[index % TaskStatus.values().length], user);
+        task.setId(UUID.nameUUIDFromBytes(("task-" + index).getBytes()));
+        task.setIsActive(true);
+        task.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30).plusMinutes(index));
+        task.setUpdatedAt(LocalDateTime.of(2024, 1, 15, 14, 45).plusMinutes(index));
+        return task;
+    }
+
+    static List<Task> tasks(int count) {
+        User user = user();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(user, i));
+        }
+        return tasks;
+    }
+
+    static Page<Task> taskPage() {
+        return new PageImpl<>(tasks(PAGE_SIZE),
+                PageRequest.of(3, PAGE_SIZE, Sort.by(Sort.Direction.DESC, Task.Fields.createdAt)), 10_000);
+    }
+}
@@ -0,0 +1,53 @@
+package org.task.taskmaganer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.task.taskmaganer.config.CorrelationIdFilter;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * İstek başına correlation ID üretimi. {@code uuidSubstring} eski LoggingAspect yoludur
+ * (SecureRandom'lı UUID, string'e çevirip kesme); {@code threadLocalRandom}
+ * {@link CorrelationIdFilter}'ın kullandığı yoldur. {@code *Contended} varyantları aynı
+ * işi 8 thread ile yapar; UUID'de tüm thread'ler tek SecureRandom'ı paylaşır.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CorrelationIdBenchmark {
+
+    @Benchmark
+    public String uuidSubstring() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Benchmark
+    public String threadLocalRandom() {
+        return CorrelationIdFilter.newCorrelationId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uuidSubstringContended() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String threadLocalRandomContended() {
+        return CorrelationIdFilter.newCorrelationId();
+    }
+}
@@ -0,0 +1,64 @@
+package org.task.taskmaganer.benchmark;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.security.JwtService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT üretimi ve doğrulaması. {@code verifyCold} doğrulanmış-token cache'i kapalı
+ * (max-size=0) bir JwtService ile imza + JSON çözümleme maliyetini ölçer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private JwtService cachedService;
+    private JwtService uncachedService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedService = new JwtService(BenchmarkFixtures.JWT_SECRET, BenchmarkFixtures.JWT_EXPIRATION, 10_000);
+        uncachedService = new JwtService(BenchmarkFixtures.JWT_SECRET, BenchmarkFixtures.JWT_EXPIRATION, 0);
+        user = BenchmarkFixtures.user();
+        token = cachedService.generateToken(user);
+        cachedService.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedService.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims verifyCold() {
+        return uncachedService.verify(token);
+    }
+
+    @Benchmark
+    public Claims verifyCached() {
+        return cachedService.verify(token);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return cachedService.isTokenValid(token, user);
+    }
+}
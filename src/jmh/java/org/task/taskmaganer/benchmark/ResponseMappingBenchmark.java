@@ -0,0 +1,58 @@
+package org.task.taskmaganer.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.task.taskmaganer.dto.response.PageResponse;
+import org.task.taskmaganer.dto.response.TaskResponse;
+import org.task.taskmaganer.dto.response.UserResponse;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.User;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity → DTO dönüşümleri ve PageResponse oluşturma.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private User user;
+    private Task task;
+    private Page<Task> taskPage;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkFixtures.user();
+        task = BenchmarkFixtures.task(user, 1);
+        taskPage = BenchmarkFixtures.taskPage();
+    }
+
+    @Benchmark
+    public TaskResponse taskResponse() {
+        return new TaskResponse(task);
+    }
+
+    @Benchmark
+    public UserResponse userResponse() {
+        return new UserResponse(user);
+    }
+
+    @Benchmark
+    public PageResponse<TaskResponse> pageResponse() {
+        return new PageResponse<>(taskPage.map(TaskResponse::new));
+    }
+}
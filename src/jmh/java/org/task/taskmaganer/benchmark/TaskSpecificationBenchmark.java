@@ -0,0 +1,94 @@
+package org.task.taskmaganer.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.specification.TaskSpecification;
+import org.task.taskmaganer.specification.TaskSpecification.TaskFilterCriteria;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskSpecification#withFilters} ile Criteria predicate'i kurma ve Hibernate'in
+ * sorguyu SQL'e çevirmesi. Şema in-memory H2 üzerinde oluşturulur; ağ/veritabanı gerekmez.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSpecificationBenchmark {
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private TaskFilterCriteria criteria;
+
+    @Setup
+    public void setUp() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(new DriverManagerDataSource("jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "sa", ""));
+        factory.setPackagesToScan("org.task.taskmaganer.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        factory.afterPropertiesSet();
+
+        entityManagerFactory = factory.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        criteria = TaskFilterCriteria.builder()
+                .searchQuery("report")
+                .status(TaskStatus.values()[0])
+                .priority(TaskPriority.values()[0])
+                .userId(UUID.fromString("69e17a2f-4b6e-4a9e-b343-5c7d4a20773f"))
+                .isActive(true)
+                .createdAtFrom(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public Predicate buildPredicate() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        return TaskSpecification.withFilters(criteria).toPredicate(root, query, cb);
+    }
+
+    @Benchmark
+    public TypedQuery<Task> buildQuery() {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        query.where(TaskSpecification.withFilters(criteria).toPredicate(root, query, cb));
+        return entityManager.createQuery(query);
+    }
+}
@@ -0,0 +1,70 @@
+package org.task.taskmaganer.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Endpoint başına gecikme histogramı (mikrosaniye) ve hata sayacı.
+ */
+class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, key -> new EndpointStats());
+        endpointStats.histogram.recordValue(
+                Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (!success) {
+            endpointStats.errors.increment();
+        }
+    }
+
+    void reset() {
+        stats.clear();
+    }
+
+    Map<String, Summary> summarize(double elapsedSeconds) {
+        Map<String, Summary> summaries = new TreeMap<>();
+        stats.forEach((endpoint, endpointStats) -> summaries.put(endpoint,
+                Summary.of(endpointStats.histogram, endpointStats.errors.sum(), elapsedSeconds)));
+        return summaries;
+    }
+
+    private static final class EndpointStats {
+        private final Histogram histogram = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    record Summary(long requests, long errors, double throughput,
+                   double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+
+        static Summary of(Histogram histogram, long errors, double elapsedSeconds) {
+            long requests = histogram.getTotalCount();
+            return new Summary(
+                    requests,
+                    errors,
+                    elapsedSeconds > 0 ? requests / elapsedSeconds : 0,
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getValueAtPercentile(99.9)),
+                    toMillis(histogram.getMaxValue())
+            );
+        }
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
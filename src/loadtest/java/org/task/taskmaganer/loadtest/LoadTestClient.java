@@ -0,0 +1,106 @@
+package org.task.taskmaganer.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Uygulamaya HTTP istekleri gönderen ince istemci. Her istek endpoint adıyla
+ * {@link LatencyRecorder}'a kaydedilir.
+ */
+class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    LoadTestClient(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+    }
+
+    Response get(String endpoint, String path, String token) {
+        return send(endpoint, request(path, token).GET().build());
+    }
+
+    Response post(String endpoint, String path, String token, Map<String, ?> body) {
+        return send(endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build());
+    }
+
+    Response put(String endpoint, String path, String token, Map<String, ?> body) {
+        return send(endpoint, request(path, token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            boolean success = response.statusCode() / 100 == 2;
+            recorder.record(endpoint, System.nanoTime() - start, success);
+            return new Response(response.statusCode(), success ? readJson(response.body()) : null);
+        } catch (IOException ex) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            return new Response(-1, null);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return new Response(-1, null);
+        }
+    }
+
+    private byte[] toJson(Map<String, ?> body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not serialize request body", ex);
+        }
+    }
+
+    private JsonNode readJson(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    record Response(int status, JsonNode body) {
+
+        boolean isSuccess() {
+            return status / 100 == 2;
+        }
+
+        String text(String field) {
+            return body != null && body.hasNonNull(field) ? body.get(field).asText() : null;
+        }
+    }
+}
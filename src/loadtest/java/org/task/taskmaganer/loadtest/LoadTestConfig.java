@@ -0,0 +1,34 @@
+package org.task.taskmaganer.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Yük testi parametreleri. Değerler {@code -Dloadtest.*} system property'lerinden okunur.
+ */
+record LoadTestConfig(
+        String baseUrl,
+        int users,
+        int tasks,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Path reportFile,
+        double maxP99Millis,
+        double maxErrorRate
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.baseUrl", "http://localhost:8080"),
+                Integer.getInteger("loadtest.users", 20),
+                Integer.getInteger("loadtest.tasks", 2000),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60)),
+                Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json")),
+                Double.parseDouble(System.getProperty("loadtest.maxP99Ms", "0")),
+                Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01"))
+        );
+    }
+}
@@ -0,0 +1,227 @@
+package org.task.taskmaganer.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uçtan uca yük testi.
+ * <p>
+ * Akış: N kullanıcı kaydı + login, M görev oluşturma, ısınma, ardından belirlenen süre
+ * boyunca karışık okuma/yazma/arama yükü. Endpoint başına p50/p99/p999 ve throughput
+ * konsola ve JSON rapora yazılır. {@code loadtest.maxP99Ms} veya {@code loadtest.maxErrorRate}
+ * aşılırsa süreç 1 ile çıkar, böylece Maven build'i (ve release) durdurulur.
+ */
+public final class LoadTestRunner {
+
+    private static final String PASSWORD = "loadtest123";
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED", "CANCELLED"};
+    private static final String[] SEARCH_TERMS = {"report", "review", "deploy", "invoice", "meeting"};
+
+    /**
+     * Operasyon karışımı: ağırlık toplamı 100.
+     */
+    private enum Operation {
+        LIST_TASKS(25),
+        GET_TASK(20),
+        SEARCH_TASKS(15),
+        LIST_USER_TASKS(10),
+        GET_USER(5),
+        CREATE_TASK(10),
+        UPDATE_TASK(10),
+        LOGIN(5);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(int roll) {
+            int cumulative = 0;
+            for (Operation operation : values()) {
+                cumulative += operation.weight;
+                if (roll < cumulative) {
+                    return operation;
+                }
+            }
+            return LIST_TASKS;
+        }
+    }
+
+    private record Session(String username, String token, String userId) {
+    }
+
+    private final LoadTestConfig config;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final LoadTestClient client;
+    private final List<Session> sessions = new ArrayList<>();
+    private final List<String> taskIds = new ArrayList<>();
+
+    private LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        this.client = new LoadTestClient(config.baseUrl(), recorder);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        boolean passed = new LoadTestRunner(config).run();
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run() throws Exception {
+        System.out.printf("Seeding %d users and %d tasks against %s%n", config.users(), config.tasks(), config.baseUrl());
+        seedUsers();
+        seedTasks();
+
+        System.out.printf("Warming up for %ds%n", config.warmup().toSeconds());
+        runWorkload(config.warmup().toMillis());
+        recorder.reset();
+
+        System.out.printf("Running mixed workload for %ds with %d workers%n",
+                config.duration().toSeconds(), config.concurrency());
+        long started = System.nanoTime();
+        runWorkload(config.duration().toMillis());
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        Map<String, LatencyRecorder.Summary> summaries = recorder.summarize(elapsedSeconds);
+        printReport(summaries);
+        writeReport(summaries, elapsedSeconds);
+        return checkThresholds(summaries);
+    }
+
+    private void seedUsers() {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < config.users(); i++) {
+            String username = "lt_" + runId + "_" + i;
+            LoadTestClient.Response registered = client.post("POST /auth/register", "/auth/register", null, Map.of(
+                    "username", username,
+                    "email", username + "@loadtest.local",
+                    "firstName", "Load",
+                    "lastName", "Test",
+                    "password", PASSWORD));
+            if (!registered.isSuccess()) {
+                throw new IllegalStateException("Could not register user " + username + " (HTTP " + registered.status() + ")");
+            }
+            String token = registered.text("token");
+            String userId = client.get("GET /users/username/{username}", "/users/username/" + username, token).text("id");
+            sessions.add(new Session(username, token, userId));
+        }
+    }
+
+    private void seedTasks() throws InterruptedException {
+        Queue<String> created = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(config.concurrency());
+        for (int i = 0; i < config.tasks(); i++) {
+            int index = i;
+            executor.submit(() -> {
+                String id = createTask(sessions.get(index % sessions.size()), index);
+                if (id != null) {
+                    created.add(id);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        taskIds.addAll(created);
+        if (taskIds.isEmpty()) {
+            throw new IllegalStateException("No tasks could be created");
+        }
+    }
+
+    private void runWorkload(long durationMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + durationMillis;
+        ExecutorService executor = Executors.newFixedThreadPool(config.concurrency());
+        for (int worker = 0; worker < config.concurrency(); worker++) {
+            executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.currentTimeMillis() < deadline) {
+                    execute(Operation.pick(random.nextInt(100)), random);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(durationMillis + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+    }
+
+    private void execute(Operation operation, ThreadLocalRandom random) {
+        Session session = sessions.get(random.nextInt(sessions.size()));
+        String taskId = taskIds.get(random.nextInt(taskIds.size()));
+
+        switch (operation) {
+            case LIST_TASKS -> client.get("GET /tasks/", "/tasks/?page=" + random.nextInt(10) + "&size=20", session.token());
+            case GET_TASK -> client.get("GET /tasks/{id}", "/tasks/" + taskId, session.token());
+            case SEARCH_TASKS -> client.get("GET /tasks/search",
+                    "/tasks/search?query=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)] + "&size=20", session.token());
+            case LIST_USER_TASKS -> client.get("GET /tasks/user/{userId}",
+                    "/tasks/user/" + session.userId() + "?size=20", session.token());
+            case GET_USER -> client.get("GET /users/{id}", "/users/" + session.userId(), session.token());
+            case CREATE_TASK -> createTask(session, random.nextInt(1_000_000));
+            case UPDATE_TASK -> client.put("PUT /tasks/{id}", "/tasks/" + taskId, session.token(), Map.of(
+                    "status", STATUSES[random.nextInt(STATUSES.length)],
+                    "priority", PRIORITIES[random.nextInt(PRIORITIES.length)]));
+            case LOGIN -> client.post("POST /auth/login", "/auth/login", null, Map.of(
+                    "username", session.username(),
+                    "password", PASSWORD));
+        }
+    }
+
+    private String createTask(Session session, int index) {
+        return client.post("POST /tasks/", "/tasks/", session.token(), Map.of(
+                "title", SEARCH_TERMS[index % SEARCH_TERMS.length] + " task " + index,
+                "description", "Load test task " + index,
+                "priority", PRIORITIES[index % PRIORITIES.length],
+                "status", STATUSES[index % STATUSES.length],
+                "userId", session.userId())).text("id");
+    }
+
+    private void printReport(Map<String, LatencyRecorder.Summary> summaries) {
+        System.out.printf("%n%-32s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms");
+        summaries.forEach((endpoint, s) -> System.out.printf("%-32s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                endpoint, s.requests(), s.errors(), s.throughput(), s.p50Millis(), s.p99Millis(), s.p999Millis()));
+    }
+
+    private void writeReport(Map<String, LatencyRecorder.Summary> summaries, double elapsedSeconds) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("config", config.toString());
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("endpoints", summaries);
+
+        Files.createDirectories(config.reportFile().toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(config.reportFile().toFile(), report);
+        System.out.printf("%nReport written to %s%n", config.reportFile());
+    }
+
+    private boolean checkThresholds(Map<String, LatencyRecorder.Summary> summaries) {
+        boolean passed = true;
+        for (Map.Entry<String, LatencyRecorder.Summary> entry : summaries.entrySet()) {
+            LatencyRecorder.Summary summary = entry.getValue();
+            if (config.maxP99Millis() > 0 && summary.p99Millis() > config.maxP99Millis()) {
+                System.out.printf("FAIL %s p99 %.2fms > %.2fms%n", entry.getKey(), summary.p99Millis(), config.maxP99Millis());
+                passed = false;
+            }
+            if (summary.errorRate() > config.maxErrorRate()) {
+                System.out.printf("FAIL %s error rate %.4f > %.4f%n", entry.getKey(), summary.errorRate(), config.maxErrorRate());
+                passed = false;
+            }
+        }
+        return passed;
+    }
+}
@@ -0,0 +1,222 @@
+package org.task.taskmaganer.aspect;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.task.taskmaganer.config.CorrelationIdFilter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Audit kayıtlarını request thread'inden ayıran asenkron pipeline.
+ * <p>
+ * Aspect tamamlanan {@link AuditContext}'i sadece {@link AuditRingBuffer}'a koyar; mesaj
+ * oluşturma, MDC ve yazma işlemleri tek bir arka plan thread'inde batch halinde yapılır.
+ * Kuyruk dolduğunda davranış {@link AuditBackpressurePolicy} ile belirlenir. İsteğin
+ * correlation ID'si kuyruğa girmeden context'e kopyalanır ve yazıcı thread'inde event
+ * oluşturulurken MDC'ye geri konur.
+ * {@code audit.async.enabled=false} ise event'ler eskisi gibi senkron yazılır.
+ */
+@Component
+public class AsyncAuditDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncAuditDispatcher.class);
+
+    private static final String METRIC_PREFIX = "audit.queue";
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final List<AuditEventSink> sinks;
+    private final AuditMessageBuilder messageBuilder;
+    private final AuditRingBuffer<AuditContext> buffer;
+
+    private final boolean enabled;
+    private final AuditBackpressurePolicy policy;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long blockTimeoutNanos;
+    private final int sampleThreshold;
+    private final int sampleRate;
+    private final AtomicLong sampleSequence = new AtomicLong();
+
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter sampledOut;
+    private final Counter writeFailures;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AsyncAuditDispatcher(List<AuditEventSink> sinks,
+                                AuditMessageBuilder messageBuilder,
+                                MeterRegistry meterRegistry,
+                                @Value("${audit.async.enabled:true}") boolean enabled,
+                                @Value("${audit.async.capacity:8192}") int capacity,
+                                @Value("${audit.async.batch-size:256}") int batchSize,
+                                @Value("${audit.async.flush-interval-ms:100}") long flushIntervalMs,
+                                @Value("${audit.async.policy:BLOCK}") AuditBackpressurePolicy policy,
+                                @Value("${audit.async.block-timeout-ms:50}") long blockTimeoutMs,
+                                @Value("${audit.async.sample-threshold:0.75}") double sampleThreshold,
+                                @Value("${audit.async.sample-rate:10}") int sampleRate) {
+        this.sinks = sinks;
+        this.messageBuilder = messageBuilder;
+        this.buffer = new AuditRingBuffer<>(capacity);
+        this.enabled = enabled;
+        this.policy = policy;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, flushIntervalMs));
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        this.sampleThreshold = (int) (buffer.capacity() * sampleThreshold);
+        this.sampleRate = Math.max(1, sampleRate);
+
+        this.enqueued = Counter.builder(METRIC_PREFIX + ".events").tag("outcome", "enqueued").register(meterRegistry);
+        this.dropped = Counter.builder(METRIC_PREFIX + ".events").tag("outcome", "dropped").register(meterRegistry);
+        this.sampledOut = Counter.builder(METRIC_PREFIX + ".events").tag("outcome", "sampled").register(meterRegistry);
+        this.writeFailures = Counter.builder(METRIC_PREFIX + ".write.failures").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder(METRIC_PREFIX + ".batch.size").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".depth", buffer, AuditRingBuffer::size).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".capacity", buffer, AuditRingBuffer::capacity).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (!buffer.isEmpty()) {
+            logger.warn("Audit writer stopped with {} pending events", buffer.size());
+        }
+    }
+
+    /**
+     * Tamamlanan audit context'ini kuyruğa ekler. Request thread'inde sadece bu çalışır.
+     */
+    public void submit(AuditContext context) {
+        context.setCorrelationId(MDC.get(CorrelationIdFilter.MDC_KEY));
+        if (!running) {
+            writeBatch(List.of(context));
+            return;
+        }
+
+        if (policy == AuditBackpressurePolicy.SAMPLE && shouldSampleOut(context)) {
+            sampledOut.increment();
+            return;
+        }
+
+        if (buffer.offer(context) || (policy == AuditBackpressurePolicy.BLOCK && offerBlocking(context))) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    private boolean shouldSampleOut(AuditContext context) {
+        // Hatalı işlemler örneklenmez; sadece kuyruk eşik üstündeyken başarılı event'ler seyreltilir
+        if (!context.isSuccess() || buffer.size() < sampleThreshold) {
+            return false;
+        }
+        return sampleSequence.getAndIncrement() % sampleRate != 0;
+    }
+
+    private boolean offerBlocking(AuditContext context) {
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.offer(context)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void runWriter() {
+        List<AuditContext> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            buffer.drainTo(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatch(List<AuditContext> contexts) {
+        List<AuditEvent> events = new ArrayList<>(contexts.size());
+        for (AuditContext context : contexts) {
+            CorrelationIdFilter.runWithCorrelationId(context.getCorrelationId(), () -> {
+                try {
+                    events.add(toEvent(context));
+                } catch (Exception ex) {
+                    logger.error("Failed to build audit event", ex);
+                }
+            });
+        }
+
+        batchSizes.record(events.size());
+        for (AuditEventSink sink : sinks) {
+            try {
+                sink.write(events);
+            } catch (Exception ex) {
+                writeFailures.increment();
+                logger.error("Failed to write {} audit events to {}", events.size(),
+                        sink.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+
+    private AuditEvent toEvent(AuditContext context) {
+        String action = context.isSuccess()
+                ? context.getAction()
+                : context.getAction() + "_ERROR";
+
+        return new AuditEvent(
+                action,
+                context.getEntityType(),
+                context.getEntityId(),
+                context.getUserId(),
+                messageBuilder.build(context),
+                context.isSuccess(),
+                context.getExecutionTime(),
+                Instant.ofEpochMilli(context.getCompletedAt()),
+                context.getCorrelationId()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package org.task.taskmaganer.aspect;
+
+/**
+ * Audit kuyruğu dolduğunda request thread'inin davranışı.
+ */
+public enum AuditBackpressurePolicy {
+    BLOCK,   // Yer açılana kadar bekle (block-timeout-ms sonra event düşürülür)
+    DROP,    // Beklemeden düşür
+    SAMPLE   // Kuyruk eşik üstündeyken başarılı event'lerin sadece 1/N'ini kabul et, doluysa düşür
+}
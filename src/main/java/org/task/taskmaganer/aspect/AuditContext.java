@@ -13,6 +13,8 @@ public class AuditContext {
     private Object result;
     private long executionTime;
     private String errorMessage;
+    private long completedAt;
+    private String correlationId;
 
     private AuditContext(Builder builder) {
         this.auditLog = builder.auditLog;
@@ -31,12 +33,21 @@ public class AuditContext {
         this.success = true;
         this.result = result;
         this.executionTime = executionTime;
+        this.completedAt = System.currentTimeMillis();
     }
 
     public void markFailure(Exception ex, long executionTime) {
         this.success = false;
         this.errorMessage = ex.getMessage();
         this.executionTime = executionTime;
+        this.completedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * İsteğin correlation ID'si; context yazıcı thread'ine geçmeden önce request thread'inde atanır.
+     */
+    public void setCorrelationId(String correlationId) {
+        this.correlationId = correlationId;
     }
 
     public boolean shouldLog() {
@@ -58,6 +69,8 @@ public class AuditContext {
     public Object getResult() { return result; }
     public long getExecutionTime() { return executionTime; }
     public String getErrorMessage() { return errorMessage; }
+    public long getCompletedAt() { return completedAt; }
+    public String getCorrelationId() { return correlationId; }
 
     public static class Builder {
         private AuditLog auditLog;
@@ -0,0 +1,20 @@
+package org.task.taskmaganer.aspect;
+
+import java.time.Instant;
+
+/**
+ * Yazıcıya (sink) iletilen, mesajı oluşturulmuş audit kaydı. {@code correlationId} event'i
+ * üreten isteğin ID'sidir; yazıcı thread'inin MDC'sinde bulunmaz.
+ */
+public record AuditEvent(
+        String action,
+        String entityType,
+        String entityId,
+        String userId,
+        String message,
+        boolean success,
+        long executionTime,
+        Instant occurredAt,
+        String correlationId
+) {
+}
@@ -0,0 +1,11 @@
+package org.task.taskmaganer.aspect;
+
+import java.util.List;
+
+/**
+ * Audit event'lerinin batch halinde yazıldığı hedef (log, veritabanı vb.).
+ */
+public interface AuditEventSink {
+
+    void write(List<AuditEvent> events);
+}
@@ -4,15 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
-import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.task.taskmaganer.annotation.AuditLog;
-import org.task.taskmaganer.service.AuditLogService;
-
-import java.lang.reflect.Method;
 
 @Aspect
 @Component
@@ -20,19 +15,16 @@ public class AuditLogAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(AuditLogAspect.class);
 
-    private final AuditLogService auditLogService;
+    private final AsyncAuditDispatcher auditDispatcher;
     private final AuditMetadataExtractor metadataExtractor;
-    private final AuditMessageBuilder messageBuilder;
     private final ObjectMapper objectMapper;
 
     @Autowired
-    public AuditLogAspect(AuditLogService auditLogService,
+    public AuditLogAspect(AsyncAuditDispatcher auditDispatcher,
                          AuditMetadataExtractor metadataExtractor,
-                         AuditMessageBuilder messageBuilder,
                          ObjectMapper objectMapper) {
-        this.auditLogService = auditLogService;
+        this.auditDispatcher = auditDispatcher;
         this.metadataExtractor = metadataExtractor;
-        this.messageBuilder = messageBuilder;
         this.objectMapper = objectMapper;
     }
 
@@ -58,17 +50,16 @@ public class AuditLogAspect {
     }
 
     private AuditContext createAuditContext(ProceedingJoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        AuditLog auditLog = method.getAnnotation(AuditLog.class);
+        AuditMethodDescriptor descriptor = metadataExtractor.describe(joinPoint);
+        Object[] args = joinPoint.getArgs();
 
         return AuditContext.builder()
-                .auditLog(auditLog)
-                .action(metadataExtractor.extractAction(auditLog, method))
-                .entityType(metadataExtractor.extractEntityType(auditLog, joinPoint))
-                .entityId(metadataExtractor.extractEntityId(joinPoint, signature))
+                .auditLog(descriptor.getAuditLog())
+                .action(descriptor.getAction())
+                .entityType(descriptor.getEntityType())
+                .entityId(descriptor.entityId(args))
                 .userId(metadataExtractor.extractCurrentUserId())
-                .methodParams(metadataExtractor.extractMethodParameters(joinPoint))
+                .methodParams(descriptor.parameters(args))
                 .build();
     }
 
@@ -77,21 +68,9 @@ public class AuditLogAspect {
             return;
         }
 
+        // Mesaj oluşturma ve yazma arka plan thread'inde yapılır
         try {
-            String message = messageBuilder.build(context);
-            String action = context.isSuccess()
-                    ? context.getAction()
-                    : context.getAction() + "_ERROR";
-
-            auditLogService.logBusinessEvent(
-                    action,
-                    context.getEntityType(),
-                    context.getEntityId(),
-                    context.getUserId(),
-                    message
-            );
-
-            logger.debug("Audit log created for action: {}", action);
+            auditDispatcher.submit(context);
         } catch (Exception ex) {
             logger.error("Failed to create audit log", ex);
         }
@@ -13,9 +13,11 @@ import org.task.taskmaganer.annotation.EntityId;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.LinkedHashMap;
+import java.lang.reflect.Modifier;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 @Component
 public class AuditMetadataExtractor {
@@ -25,41 +27,21 @@ public class AuditMetadataExtractor {
     private static final String HTTP_HEADER_USER_ID = "X-User-Id";
     private static final String DEFAULT_USER_ID = "system";
 
-    public String extractAction(AuditLog auditLog, Method method) {
-        if (!auditLog.action().isEmpty()) {
-            return auditLog.action();
-        }
-        return inferActionFromMethodName(method.getName());
-    }
-
-    public String extractEntityType(AuditLog auditLog, JoinPoint joinPoint) {
-        if (!auditLog.entityType().isEmpty()) {
-            return auditLog.entityType();
-        }
-        return inferEntityTypeFromClassName(joinPoint.getTarget().getClass().getSimpleName());
-    }
+    private final Map<Method, AuditMethodDescriptor> descriptors = new ConcurrentHashMap<>();
 
-    public String extractEntityId(JoinPoint joinPoint, MethodSignature signature) {
-        Object[] args = joinPoint.getArgs();
-        Annotation[][] annotations = signature.getMethod().getParameterAnnotations();
-
-        // Find @EntityId annotation
-        for (int i = 0; i < annotations.length; i++) {
-            for (Annotation annotation : annotations[i]) {
-                if (annotation instanceof EntityId) {
-                    return formatArg(args[i]);
-                }
-            }
-        }
+    /**
+     * Metod için önceden hesaplanmış descriptor'ı döner; ilk çağrıda oluşturulup cache'lenir.
+     */
+    public AuditMethodDescriptor describe(JoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Method method = signature.getMethod();
 
-        // Fallback: first String/UUID parameter
-        for (Object arg : args) {
-            if (arg instanceof String || arg instanceof UUID) {
-                return formatArg(arg);
-            }
+        AuditMethodDescriptor descriptor = descriptors.get(method);
+        if (descriptor == null) {
+            descriptor = descriptors.computeIfAbsent(method,
+                    key -> buildDescriptor(key, signature, joinPoint.getTarget().getClass()));
         }
-
-        return null;
+        return descriptor;
     }
 
     public String extractCurrentUserId() {
@@ -81,23 +63,77 @@ public class AuditMetadataExtractor {
         return DEFAULT_USER_ID;
     }
 
-    public Map<String, Object> extractMethodParameters(JoinPoint joinPoint) {
-        Map<String, Object> params = new LinkedHashMap<>();
+    private AuditMethodDescriptor buildDescriptor(Method method, MethodSignature signature, Class<?> targetClass) {
+        AuditLog auditLog = method.getAnnotation(AuditLog.class);
+        Class<?>[] parameterTypes = method.getParameterTypes();
+
+        String action = !auditLog.action().isEmpty()
+                ? auditLog.action()
+                : inferActionFromMethodName(method.getName());
+        String entityType = !auditLog.entityType().isEmpty()
+                ? auditLog.entityType()
+                : inferEntityTypeFromClassName(targetClass.getSimpleName());
+
+        return new AuditMethodDescriptor(
+                auditLog,
+                action,
+                entityType,
+                findEntityIdIndex(auditLog, method),
+                findEntityIdCandidates(parameterTypes),
+                resolveParameterNames(signature, parameterTypes.length),
+                resolvePassThrough(parameterTypes)
+        );
+    }
 
-        try {
-            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-            String[] names = signature.getParameterNames();
-            Object[] args = joinPoint.getArgs();
+    private int findEntityIdIndex(AuditLog auditLog, Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        if (auditLog.entityIdIndex() >= 0 && auditLog.entityIdIndex() < annotations.length) {
+            return auditLog.entityIdIndex();
+        }
 
-            for (int i = 0; i < names.length; i++) {
-                params.put(names[i], simplifyArg(args[i]));
+        // Find @EntityId annotation
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof EntityId) {
+                    return i;
+                }
             }
-        } catch (Exception ex) {
-            logger.debug("Could not extract parameters", ex);
-            params.put("error", ex.getMessage());
         }
+        return -1;
+    }
 
-        return params;
+    /**
+     * Fallback için çalışma zamanında String/UUID taşıyabilecek parametrelerin indeksleri.
+     */
+    private int[] findEntityIdCandidates(Class<?>[] parameterTypes) {
+        return IntStream.range(0, parameterTypes.length)
+                .filter(i -> parameterTypes[i].isAssignableFrom(String.class)
+                        || parameterTypes[i].isAssignableFrom(UUID.class))
+                .toArray();
+    }
+
+    private String[] resolveParameterNames(MethodSignature signature, int count) {
+        String[] names = signature.getParameterNames();
+        if (names != null && names.length == count) {
+            return names;
+        }
+        logger.debug("Parameter names not available for {}", signature);
+        return IntStream.range(0, count).mapToObj(i -> "arg" + i).toArray(String[]::new);
+    }
+
+    /**
+     * Tipi final olan ve sadeleştirilmeyecek parametreler (String, Integer vb.) için
+     * çalışma zamanı sınıf kontrolü atlanır.
+     */
+    private boolean[] resolvePassThrough(Class<?>[] parameterTypes) {
+        boolean[] passThrough = new boolean[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Class<?> type = parameterTypes[i];
+            String name = type.getName();
+            passThrough[i] = type.isPrimitive() || (Modifier.isFinal(type.getModifiers())
+                    && !name.startsWith("org.task") && !name.startsWith("java.util"));
+        }
+        return passThrough;
     }
 
     private String inferActionFromMethodName(String methodName) {
@@ -115,22 +151,4 @@ public class AuditMetadataExtractor {
         else if (name.endsWith("Controller")) name = name.replace("Controller", "");
         return name.toUpperCase();
     }
-
-    private String formatArg(Object arg) {
-        return arg != null ? arg.toString() : null;
-    }
-
-    private Object simplifyArg(Object arg) {
-        if (arg == null) return null;
-
-        String className = arg.getClass().getName();
-        boolean isCustomType = className.startsWith("org.task");
-        boolean isCollection = className.startsWith("java.util");
-
-        if (isCustomType || isCollection) {
-            return arg.getClass().getSimpleName();
-        }
-
-        return arg;
-    }
 }
@@ -0,0 +1,86 @@
+package org.task.taskmaganer.aspect;
+
+import org.task.taskmaganer.annotation.AuditLog;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bir {@code @AuditLog} metodunun önceden hesaplanmış audit metadata'sı.
+ * <p>
+ * Annotation, action, entity tipi, entity ID parametresinin indeksi, parametre adları ve
+ * parametre başına sadeleştirme kararı ilk çağrıda bir kez reflection ile çıkarılır.
+ * Sonraki çağrılarda sadece argüman dizisi üzerinde çalışılır.
+ */
+public final class AuditMethodDescriptor {
+
+    private final AuditLog auditLog;
+    private final String action;
+    private final String entityType;
+    private final int entityIdIndex;
+    private final int[] entityIdCandidates;
+    private final String[] parameterNames;
+    private final boolean[] passThrough;
+
+    AuditMethodDescriptor(AuditLog auditLog, String action, String entityType, int entityIdIndex,
+                          int[] entityIdCandidates, String[] parameterNames, boolean[] passThrough) {
+        this.auditLog = auditLog;
+        this.action = action;
+        this.entityType = entityType;
+        this.entityIdIndex = entityIdIndex;
+        this.entityIdCandidates = entityIdCandidates;
+        this.parameterNames = parameterNames;
+        this.passThrough = passThrough;
+    }
+
+    public AuditLog getAuditLog() { return auditLog; }
+    public String getAction() { return action; }
+    public String getEntityType() { return entityType; }
+
+    /**
+     * {@code @EntityId} (veya {@code entityIdIndex}) parametresini, yoksa ilk String/UUID argümanı döner.
+     */
+    public String entityId(Object[] args) {
+        if (entityIdIndex >= 0) {
+            return format(args[entityIdIndex]);
+        }
+        // Tipi String/UUID olabilecek parametreler sırayla denenir
+        for (int index : entityIdCandidates) {
+            Object arg = args[index];
+            if (arg instanceof String || arg instanceof UUID) {
+                return format(arg);
+            }
+        }
+        return null;
+    }
+
+    public Map<String, Object> parameters(Object[] args) {
+        Map<String, Object> params = new LinkedHashMap<>(parameterNames.length * 2);
+        for (int i = 0; i < parameterNames.length; i++) {
+            params.put(parameterNames[i], passThrough[i] ? args[i] : simplify(args[i]));
+        }
+        return params;
+    }
+
+    private static String format(Object arg) {
+        return arg != null ? arg.toString() : null;
+    }
+
+    /**
+     * Uygulama tipleri ve koleksiyonlar sadece sınıf adıyla loglanır.
+     */
+    static Object simplify(Object arg) {
+        if (arg == null) return null;
+
+        String className = arg.getClass().getName();
+        boolean isCustomType = className.startsWith("org.task");
+        boolean isCollection = className.startsWith("java.util");
+
+        if (isCustomType || isCollection) {
+            return arg.getClass().getSimpleName();
+        }
+
+        return arg;
+    }
+}
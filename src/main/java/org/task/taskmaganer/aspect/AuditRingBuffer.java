@@ -0,0 +1,93 @@
+package org.task.taskmaganer.aspect;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Audit event'leri için sınırlı, kilitsiz (lock-free) halka tampon.
+ * <p>
+ * Çok üreticili / tek tüketicili (MPSC): request thread'leri {@link #offer(Object)} ile
+ * CAS üzerinden slot ayırır, sadece arka plandaki yazıcı thread {@link #drainTo(Consumer, int)}
+ * çağırır. Kapasite 2'nin kuvvetine yuvarlanır, indeks hesabı maske ile yapılır.
+ */
+public class AuditRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+
+    // Üreticilerin ayırdığı bir sonraki pozisyon
+    private final AtomicLong tail = new AtomicLong();
+    // Tüketicinin okuyacağı bir sonraki pozisyon (sadece tüketici yazar)
+    private final AtomicLong head = new AtomicLong();
+
+    public AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Ring buffer capacity must be at least 2");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Event'i tampona ekler. Tampon doluysa beklemeden false döner.
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("Ring buffer does not accept null elements");
+        }
+        while (true) {
+            long currentTail = tail.get();
+            if (currentTail - head.get() >= capacity) {
+                return false;
+            }
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                slots.lazySet(index(currentTail), element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * En fazla {@code maxElements} event'i sırayla tüketir. Slot ayrılmış ama henüz
+     * yayınlanmamışsa (üretici yazmadan önce) orada durur; kalanlar bir sonraki turda okunur.
+     *
+     * @return tüketilen event sayısı
+     */
+    public int drainTo(Consumer<? super E> consumer, int maxElements) {
+        long currentHead = head.get();
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = index(currentHead);
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            currentHead++;
+            head.lazySet(currentHead);
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+}
@@ -0,0 +1,54 @@
+package org.task.taskmaganer.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.task.taskmaganer.datasource.SqlMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spring Data repository çağrılarını {@link SqlMetrics}'e bağlar; çağrı süresince
+ * çalışan JDBC ifadeleri {@code repository} ve {@code method} etiketlerini alır.
+ * Repository adı proxy'nin uyguladığı uygulama arayüzüdür (ör. {@code TaskRepository}).
+ */
+@Aspect
+public class RepositorySqlMetricsAspect {
+
+    private static final String APPLICATION_PACKAGE = "org.task.taskmaganer.";
+
+    private final SqlMetrics sqlMetrics;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public RepositorySqlMetricsAspect(SqlMetrics sqlMetrics) {
+        this.sqlMetrics = sqlMetrics;
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlMetrics.Invocation invocation = sqlMetrics.begin(
+                repositoryName(joinPoint.getTarget().getClass()), joinPoint.getSignature().getName());
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            sqlMetrics.end(invocation, System.nanoTime() - start, failed);
+        }
+    }
+
+    private String repositoryName(Class<?> targetClass) {
+        return repositoryNames.computeIfAbsent(targetClass, type -> {
+            for (Class<?> candidate : type.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(candidate) && candidate.getName().startsWith(APPLICATION_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package org.task.taskmaganer.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+/**
+ * Bir cache bölgesinin istatistiklerini Micrometer'ın standart cache metrikleri
+ * ({@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, {@code cache.size})
+ * olarak yayınlar; {@code cache} etiketi bölge adıdır. Hibernate'in yaptığı
+ * invalidation'lar ayrıca {@code cache.invalidations} ile sayılır.
+ */
+class LocalCacheMetrics extends CacheMeterBinder<LocalCacheStorage> {
+
+    LocalCacheMetrics(LocalCacheStorage storage) {
+        super(storage, storage.getName(), Tags.empty());
+    }
+
+    @Override
+    protected Long size() {
+        LocalCacheStorage storage = getCache();
+        return storage != null ? storage.size() : null;
+    }
+
+    @Override
+    protected long hitCount() {
+        LocalCacheStorage storage = getCache();
+        return storage != null ? storage.hitCount() : 0;
+    }
+
+    @Override
+    protected Long missCount() {
+        LocalCacheStorage storage = getCache();
+        return storage != null ? storage.missCount() : null;
+    }
+
+    @Override
+    protected Long evictionCount() {
+        LocalCacheStorage storage = getCache();
+        return storage != null ? storage.evictionCount() : null;
+    }
+
+    @Override
+    protected long putCount() {
+        LocalCacheStorage storage = getCache();
+        return storage != null ? storage.putCount() : 0;
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("cache.invalidations", getCache(), LocalCacheStorage::invalidationCount)
+                .tags(getTagsWithCacheName())
+                .description("Entries removed by Hibernate after updates, deletes or bulk statements")
+                .register(registry);
+    }
+}
@@ -0,0 +1,152 @@
+package org.task.taskmaganer.cache;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tek bir Hibernate cache bölgesinin (region) bellekteki deposu.
+ * <p>
+ * Girdiler TTL ile sınırlıdır; bölge dolduğunda önce süresi dolanlar, sonra en erken
+ * dolacak girdiler toplu olarak atılır (her put'ta tarama yapılmaz). Hibernate'in
+ * kendi isteğiyle yaptığı silmeler (update/delete, bulk HQL) invalidation olarak,
+ * kapasite/TTL kaynaklı silmeler eviction olarak ayrı sayılır.
+ */
+public class LocalCacheStorage implements DomainDataStorageAccess {
+
+    // Bölge dolduğunda tek seferde boşaltılan oran; put başına tam tarama yapılmaması için
+    private static final int EVICTION_BATCH_DIVISOR = 10;
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param maxEntries 0 veya negatifse sınırsız
+     * @param ttlSeconds 0 veya negatifse girdiler süresiz tutulur
+     */
+    public LocalCacheStorage(String name, int maxEntries, long ttlSeconds) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        long now = System.currentTimeMillis();
+        if (maxEntries > 0 && entries.size() >= maxEntries && !entries.containsKey(key)) {
+            ensureCapacity(now);
+        }
+        entries.put(key, new Entry(value, ttlMillis > 0 ? now + ttlMillis : Long.MAX_VALUE));
+        puts.increment();
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        Entry entry = entries.get(key);
+        return entry != null && !entry.isExpired(System.currentTimeMillis());
+    }
+
+    @Override
+    public void evictData() {
+        int size = entries.size();
+        entries.clear();
+        invalidations.add(size);
+    }
+
+    @Override
+    public void evictData(Object key) {
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    @Override
+    public void release() {
+        entries.clear();
+    }
+
+    public long size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long putCount() {
+        return puts.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    private synchronized void ensureCapacity(long now) {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        int excess = entries.size() - maxEntries + Math.max(1, maxEntries / EVICTION_BATCH_DIVISOR);
+        if (excess > 0) {
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(entries::remove);
+        }
+        evictions.add(Math.max(0, before - entries.size()));
+    }
+
+    private record Entry(Object value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
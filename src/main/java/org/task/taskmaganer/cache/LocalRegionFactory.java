@@ -0,0 +1,71 @@
+package org.task.taskmaganer.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.Map;
+
+/**
+ * Hibernate second-level cache bölgelerini uygulama belleğinde tutan RegionFactory.
+ * <p>
+ * Entity ve sorgu sonucu bölgeleri {@link LocalCacheStorage} ile TTL ve kapasite
+ * sınırlıdır. Update-timestamps bölgesi sınırsızdır: bir tablonun zaman damgası
+ * atılırsa Hibernate o tabloyu hiç değişmemiş sayar ve eski sorgu sonuçlarını döner.
+ * <p>
+ * Sadece tek node'lu kurulumda güvenlidir. Cache node'a özeldir ve node'lar arasında
+ * invalidation yoktur: başka bir node'daki yazma bu node'da en geç TTL sonunda görülür,
+ * o süre boyunca okumalar eski veriyi döner. Eski kopyayla yapılan yazmaları entity'lerdeki
+ * {@code @Version} kontrolü reddeder, eski okumaları engellemez. Birden fazla node'da
+ * {@code cache.second-level.enabled} kapalı kalmalı ya da dağıtık bir RegionFactory kullanılmalıdır.
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+
+    private final int maxEntries;
+    private final long ttlSeconds;
+    private final MeterRegistry meterRegistry;
+
+    public LocalRegionFactory(int maxEntries, long ttlSeconds, MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.ttlSeconds = ttlSeconds;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        // Ayarlar constructor'dan gelir
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        // Depolar bölgelerle birlikte release() ile boşaltılır
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return register(new LocalCacheStorage(regionConfig.getRegionName(), maxEntries, ttlSeconds));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return register(new LocalCacheStorage(regionName, maxEntries, ttlSeconds));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return register(new LocalCacheStorage(regionName, 0, 0));
+    }
+
+    private LocalCacheStorage register(LocalCacheStorage storage) {
+        new LocalCacheMetrics(storage).bindTo(meterRegistry);
+        return storage;
+    }
+}
@@ -0,0 +1,101 @@
+package org.task.taskmaganer.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Her isteğe bir correlation ID atar: MDC'ye ({@code correlationId}) koyar ve
+ * {@code X-Correlation-Id} yanıt başlığında döner.
+ * <p>
+ * İstemci başlığı gönderirse o kullanılır; loglara yazıldığı için sadece 64 karaktere kadar
+ * harf, rakam, {@code -}, {@code _} ve {@code .} kabul edilir, aksi halde yeni ID üretilir.
+ * Yeni ID'ler {@link ThreadLocalRandom}'dan 64 bit (16 hex karakter) alır; UUID'nin
+ * SecureRandom'ı gibi thread'ler arasında paylaşılan bir kaynağa gitmez. Filtre Spring
+ * Security'den önce çalışır, kimlik doğrulama logları da ID'yi taşır.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Correlation-Id";
+    public static final String MDC_KEY = "correlationId";
+
+    private static final int MAX_LENGTH = 64;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String correlationId = request.getHeader(HEADER);
+        if (!isValid(correlationId)) {
+            correlationId = newCorrelationId();
+        }
+
+        MDC.put(MDC_KEY, correlationId);
+        response.setHeader(HEADER, correlationId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    /**
+     * 16 hex karakterlik rastgele ID.
+     */
+    public static String newCorrelationId() {
+        long value = ThreadLocalRandom.current().nextLong();
+        char[] chars = new char[16];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = HEX[(int) value & 0xF];
+            value >>>= 4;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * İşi verilen correlation ID MDC'deyken çalıştırır, sonra önceki değeri geri koyar.
+     * İsteğin ID'sini başka bir thread'de (ör. audit yazıcısı) yapılan işe taşımak için.
+     */
+    public static void runWithCorrelationId(String correlationId, Runnable action) {
+        String previous = MDC.get(MDC_KEY);
+        if (correlationId != null) {
+            MDC.put(MDC_KEY, correlationId);
+        }
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                MDC.put(MDC_KEY, previous);
+            } else {
+                MDC.remove(MDC_KEY);
+            }
+        }
+    }
+
+    static boolean isValid(String correlationId) {
+        if (correlationId == null || correlationId.isEmpty() || correlationId.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < correlationId.length(); i++) {
+            char c = correlationId.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
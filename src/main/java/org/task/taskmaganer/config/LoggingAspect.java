@@ -1,21 +1,32 @@
 package org.task.taskmaganer.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolationException;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Arrays;
-import java.util.UUID;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Otomatik request/response ve exception logging için Aspect.
@@ -24,13 +35,27 @@ import java.util.UUID;
  * - Request: method, path, params, body
  * - Response: status, duration, result
  * - Exception: stack trace ile birlikte
+ * <p>
+ * Süreler ayrıca {@code controller.invocations} timer'ına (percentile histogram) yazılır;
+ * etiketler controller, method, HTTP status ve exception tipidir. Exception'ların status'ü
+ * {@code GlobalExceptionHandler} ile aynı kurala göre çözülür: {@code @ResponseStatus},
+ * Spring'in {@link ErrorResponse}'u, doğrulama hataları 400, diğerleri 500. Streaming
+ * yanıtlarda süre, gövde yazılmadan önceki kısımdır.
  */
 @Aspect
 @Component
 public class LoggingAspect {
 
     private static final Logger log = LoggerFactory.getLogger(LoggingAspect.class);
-    private static final String CORRELATION_ID = "correlationId";
+    private static final String TIMER = "controller.invocations";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public LoggingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
 
     /**
      * Tüm controller metodlarını hedef alır.
@@ -50,50 +75,55 @@ public class LoggingAspect {
 
     /**
      * Controller metodlarını sarar ve request/response bilgilerini loglar.
+     * Correlation ID {@link CorrelationIdFilter} tarafından MDC'ye konur; log seviyesi
+     * kapalıysa request bilgisi okunmaz ve log için string oluşturulmaz.
      */
     @Around("restController() && requestMapping()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
-        
-        // Correlation ID oluştur veya al
-        String correlationId = getOrCreateCorrelationId();
-        MDC.put(CORRELATION_ID, correlationId);
-        
-        HttpServletRequest request = getCurrentRequest();
-        String method = request != null ? request.getMethod() : "UNKNOWN";
-        String path = request != null ? request.getRequestURI() : "UNKNOWN";
-        String queryString = request != null ? request.getQueryString() : null;
-        
-        try {
-            // Request logla (sadece DEV ve TEST'te body, PROD'da sadece metadata)
+        long start = System.nanoTime();
+        RequestLine requestLine = log.isInfoEnabled() ? requestLine() : null;
+
+        if (requestLine != null) {
+            // Request logla (sadece DEV ve TEST'te query string, PROD'da sadece metadata)
             if (log.isDebugEnabled()) {
-                log.debug("[{}] → {} {}{}", correlationId, method, path, 
-                        queryString != null ? "?" + queryString : "");
+                log.debug("[{}] → {} {}{}", requestLine.correlationId(), requestLine.method(), requestLine.path(),
+                        requestLine.queryString() != null ? "?" + requestLine.queryString() : "");
             } else {
-                log.info("[{}] → {} {}", correlationId, method, path);
+                log.info("[{}] → {} {}", requestLine.correlationId(), requestLine.method(), requestLine.path());
             }
-            
+        }
+
+        try {
             // Metodu çalıştır
             Object result = joinPoint.proceed();
-            
-            long duration = System.currentTimeMillis() - start;
-            
+
+            long durationNanos = System.nanoTime() - start;
+            record(joinPoint, durationNanos, status(joinPoint, result), NONE);
+
             // Response logla
-            if (log.isDebugEnabled()) {
-                log.debug("[{}] ← {} {} - {}ms - OK", correlationId, method, path, duration);
-            } else {
-                log.info("[{}] ← {} {} - {}ms", correlationId, method, path, duration);
+            if (requestLine != null) {
+                long duration = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+                if (log.isDebugEnabled()) {
+                    log.debug("[{}] ← {} {} - {}ms - OK", requestLine.correlationId(), requestLine.method(),
+                            requestLine.path(), duration);
+                } else {
+                    log.info("[{}] ← {} {} - {}ms", requestLine.correlationId(), requestLine.method(),
+                            requestLine.path(), duration);
+                }
             }
-            
+
             return result;
-            
+
         } catch (Exception ex) {
-            long duration = System.currentTimeMillis() - start;
-            log.error("[{}] ✕ {} {} - {}ms - Exception: {}", 
-                    correlationId, method, path, duration, ex.getMessage(), ex);
+            long durationNanos = System.nanoTime() - start;
+            record(joinPoint, durationNanos, status(ex), ex.getClass().getSimpleName());
+            if (log.isErrorEnabled()) {
+                RequestLine line = requestLine != null ? requestLine : requestLine();
+                log.error("[{}] ✕ {} {} - {}ms - Exception: {}",
+                        line.correlationId(), line.method(), line.path(),
+                        TimeUnit.NANOSECONDS.toMillis(durationNanos), ex.getMessage(), ex);
+            }
             throw ex;
-        } finally {
-            MDC.remove(CORRELATION_ID);
         }
     }
 
@@ -102,7 +132,7 @@ public class LoggingAspect {
      */
     @AfterThrowing(pointcut = "restController()", throwing = "ex")
     public void logAfterThrowing(JoinPoint joinPoint, Throwable ex) {
-        String correlationId = MDC.get(CORRELATION_ID);
+        String correlationId = MDC.get(CorrelationIdFilter.MDC_KEY);
         if (correlationId == null) {
             correlationId = "NO_CORR_ID";
         }
@@ -115,15 +145,49 @@ public class LoggingAspect {
                 ex.getClass().getSimpleName(), ex.getMessage(), ex);
     }
 
-    private String getOrCreateCorrelationId() {
-        HttpServletRequest request = getCurrentRequest();
-        if (request != null) {
-            String correlationId = request.getHeader("X-Correlation-Id");
-            if (correlationId != null && !correlationId.isEmpty()) {
-                return correlationId;
-            }
+    private void record(ProceedingJoinPoint joinPoint, long durationNanos, int status, String exception) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        timers.computeIfAbsent(new TimerKey(method, status, exception), key -> Timer.builder(TIMER)
+                        .description("Controller method execution time")
+                        .tags("controller", method.getDeclaringClass().getSimpleName(),
+                                "method", method.getName(),
+                                "status", String.valueOf(status),
+                                "exception", exception)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static int status(ProceedingJoinPoint joinPoint, Object result) {
+        if (result instanceof ResponseEntity<?> response) {
+            return response.getStatusCode().value();
+        }
+        ResponseStatus responseStatus = AnnotatedElementUtils.findMergedAnnotation(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), ResponseStatus.class);
+        return responseStatus != null ? responseStatus.code().value() : HttpStatus.OK.value();
+    }
+
+    private static int status(Exception ex) {
+        if (ex instanceof ErrorResponse errorResponse) {
+            return errorResponse.getStatusCode().value();
         }
-        return UUID.randomUUID().toString().substring(0, 8);
+        ResponseStatus responseStatus = AnnotatedElementUtils.findMergedAnnotation(ex.getClass(), ResponseStatus.class);
+        if (responseStatus != null) {
+            return responseStatus.code().value();
+        }
+        if (ex instanceof ConstraintViolationException) {
+            return HttpStatus.BAD_REQUEST.value();
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    private RequestLine requestLine() {
+        String correlationId = MDC.get(CorrelationIdFilter.MDC_KEY);
+        HttpServletRequest request = getCurrentRequest();
+        return new RequestLine(correlationId != null ? correlationId : "NO_CORR_ID",
+                request != null ? request.getMethod() : "UNKNOWN",
+                request != null ? request.getRequestURI() : "UNKNOWN",
+                request != null ? request.getQueryString() : null);
     }
 
     private HttpServletRequest getCurrentRequest() {
@@ -133,4 +197,10 @@ public class LoggingAspect {
             return null;
         }
     }
+
+    private record RequestLine(String correlationId, String method, String path, String queryString) {
+    }
+
+    private record TimerKey(Method method, int status, String exception) {
+    }
 }
@@ -0,0 +1,77 @@
+package org.task.taskmaganer.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.task.taskmaganer.datasource.ReadReplicaRoutingDataSource;
+import org.task.taskmaganer.datasource.ReplicaLagMonitor;
+
+import javax.sql.DataSource;
+
+/**
+ * {@code datasource.replica.enabled=true} ise read-only transaction'ları replica'ya
+ * yönlendiren DataSource'u kurar.
+ * <p>
+ * Primary havuzu {@code spring.datasource.*} ayarlarıyla, replica havuzu
+ * {@code datasource.replica.*} ayarlarıyla oluşturulur. Karar bağlantıyı kimin aldığına
+ * değil transaction'a bakar: transaction dışındaki erişimler (Flyway dahil) ve read-write
+ * transaction'lar primary'yi kullanır; JdbcTemplate de bu DataSource'u kullandığından
+ * read-only bir transaction içinde (ör. {@code AuditEventService.findEvents}) replica'ya gider.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username}") String username,
+                                              @Value("${datasource.replica.password}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${datasource.replica.max-lag-ms:5000}") long maxLagMillis,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replica, maxLagMillis, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor lagMonitor,
+                                 MeterRegistry meterRegistry) {
+        // Yönlendirme kararı ilk SQL'de verilir; bu noktada transaction'ın read-only olduğu bilinir
+        return new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primary, replica, lagMonitor, meterRegistry));
+    }
+}
@@ -0,0 +1,13 @@
+package org.task.taskmaganer.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Zamanlanmış görevleri (@Scheduled) etkinleştirir.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // @Scheduled metodların algılanması için boş config sınıfı
+}
@@ -0,0 +1,103 @@
+package org.task.taskmaganer.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.task.taskmaganer.search.InMemoryTaskSearchEngine;
+import org.task.taskmaganer.search.LikeTaskSearchEngine;
+import org.task.taskmaganer.search.NgramTaskSearchEngine;
+import org.task.taskmaganer.search.PostgresFullTextSearchEngine;
+import org.task.taskmaganer.search.PostgresTrigramSearchEngine;
+import org.task.taskmaganer.search.TaskSearchBackend;
+import org.task.taskmaganer.search.TaskSearchEngine;
+import org.task.taskmaganer.search.TaskSearchEngines;
+import org.task.taskmaganer.search.TaskSearchIndex;
+import org.task.taskmaganer.search.TrigramTaskSearchIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Veritabanına göre standart ve fuzzy {@link TaskSearchEngine} seçer.
+ * <p>
+ * Fuzzy arama PostgreSQL'de pg_trgm ile, diğer veritabanlarında (veya
+ * {@code search.engine=NGRAM} ile) bellekteki trigram indeksi ile yapılır. Her iki yol da
+ * aynı {@code search.fuzzy.similarity-threshold} eşiğini kullanır; PostgreSQL'de eşik
+ * bağlantı açılırken {@code pg_trgm.word_similarity_threshold} oturum ayarına yazılır.
+ */
+@Configuration
+public class SearchConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchConfig.class);
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final String POSTGRESQL_URL_PREFIX = "jdbc:postgresql:";
+
+    @Bean
+    public TaskSearchEngines taskSearchEngines(JdbcTemplate jdbcTemplate,
+                                               @Value("${search.engine:AUTO}") TaskSearchBackend backend,
+                                               @Value("${search.fuzzy.similarity-threshold:0.5}") double similarityThreshold,
+                                               @Value("${search.in-memory.max-matches:1000}") int maxMatches) {
+        boolean postgres = isPostgres(jdbcTemplate);
+        TaskSearchBackend resolved = backend != TaskSearchBackend.AUTO ? backend
+                : postgres ? TaskSearchBackend.FULL_TEXT : TaskSearchBackend.IN_MEMORY;
+
+        List<TaskSearchIndex> indexes = new ArrayList<>();
+        TrigramTaskSearchIndex trigramIndex = null;
+        if (!postgres || resolved == TaskSearchBackend.NGRAM) {
+            trigramIndex = new TrigramTaskSearchIndex(jdbcTemplate);
+            indexes.add(trigramIndex);
+        }
+
+        TaskSearchEngine standard = switch (resolved) {
+            case FULL_TEXT -> new PostgresFullTextSearchEngine();
+            case TRIGRAM -> new PostgresTrigramSearchEngine(false);
+            case NGRAM -> new NgramTaskSearchEngine(trigramIndex, false, similarityThreshold, maxMatches);
+            case LIKE -> new LikeTaskSearchEngine();
+            case IN_MEMORY, AUTO -> {
+                InMemoryTaskSearchEngine inMemory = new InMemoryTaskSearchEngine(jdbcTemplate, maxMatches);
+                indexes.add(inMemory);
+                yield inMemory;
+            }
+        };
+        TaskSearchEngine fuzzy = trigramIndex != null
+                ? new NgramTaskSearchEngine(trigramIndex, true, similarityThreshold, maxMatches)
+                : new PostgresTrigramSearchEngine(true);
+
+        log.info("Task search backend: {}, fuzzy: {}", resolved, fuzzy.getClass().getSimpleName());
+        return new TaskSearchEngines(standard, fuzzy, indexes);
+    }
+
+    /**
+     * PostgreSQL havuzlarına (primary ve replica) eşik ayarını {@code connection-init-sql}
+     * olarak ekler. {@code <%} operatörü eşiği bu oturum ayarından okur; ayar
+     * veritabanı seviyesinde değiştirilmez. Havuzda zaten bir init SQL tanımlıysa dokunulmaz.
+     */
+    @Bean
+    public static BeanPostProcessor trigramThresholdPostProcessor(
+            @Value("${search.fuzzy.similarity-threshold:0.5}") double similarityThreshold) {
+        String initSql = "SET pg_trgm.word_similarity_threshold = " + similarityThreshold;
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof HikariDataSource hikari && hikari.getConnectionInitSql() == null
+                        && hikari.getJdbcUrl() != null && hikari.getJdbcUrl().startsWith(POSTGRESQL_URL_PREFIX)) {
+                    hikari.setConnectionInitSql(initSql);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return POSTGRESQL.equalsIgnoreCase(product);
+    }
+}
@@ -0,0 +1,41 @@
+package org.task.taskmaganer.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.task.taskmaganer.cache.LocalRegionFactory;
+
+/**
+ * {@code cache.second-level.enabled=true} ise Hibernate second-level cache'ini ve
+ * query cache'i {@link LocalRegionFactory} ile açar. Varsayılan kapalıdır; cache node'a
+ * özel olduğu için sadece tek node'lu kurulumda açılmalıdır.
+ * <p>
+ * Cache'lenecek entity'ler {@code @Cache} ile, cache'lenecek sorgular
+ * {@code org.hibernate.cacheable} hint'i ile işaretlenir. Kapalıyken bu işaretler
+ * etkisizdir. Bölge istatistikleri {@code /actuator/metrics/cache.gets?tag=cache:<bölge>}
+ * gibi standart cache metrikleriyle okunur.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cache.second-level.enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public LocalRegionFactory localRegionFactory(@Value("${cache.second-level.max-entries:10000}") int maxEntries,
+                                                 @Value("${cache.second-level.ttl-seconds:300}") long ttlSeconds,
+                                                 MeterRegistry meterRegistry) {
+        return new LocalRegionFactory(maxEntries, ttlSeconds, meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(LocalRegionFactory regionFactory) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, regionFactory);
+        };
+    }
+}
@@ -47,6 +47,13 @@ public class SecurityConfig {
                                 "/v3/api-docs/**", "/swagger-resources/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
 
+                        // Audit trail and metrics - admin only
+                        .requestMatchers("/audit-events/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/prometheus").hasRole("ADMIN")
+                        .requestMatchers("/actuator/slowsql").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/tasks/stats/rebuild").hasRole("ADMIN")
+
                         // Read operations - authenticated users
                         .requestMatchers(HttpMethod.GET, "/tasks/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/users/**").authenticated()
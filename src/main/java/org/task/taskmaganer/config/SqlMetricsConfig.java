@@ -0,0 +1,68 @@
+package org.task.taskmaganer.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.task.taskmaganer.aspect.RepositorySqlMetricsAspect;
+import org.task.taskmaganer.datasource.SlowSqlEndpoint;
+import org.task.taskmaganer.datasource.SqlMetrics;
+import org.task.taskmaganer.datasource.SqlMetricsDataSource;
+import org.task.taskmaganer.service.AuditLogService;
+
+import javax.sql.DataSource;
+
+/**
+ * {@code sql.metrics.enabled=true} ise uygulamanın DataSource'unu {@link SqlMetricsDataSource}
+ * ile sarar ve repository çağrılarını ölçer.
+ * <p>
+ * Metrikler {@code /actuator/metrics/sql.statements?tag=repository:TaskRepository} gibi
+ * okunur; yavaş ifade örnekleri {@code /actuator/slowsql} altındadır. Örnekler ve loglar
+ * isteğin correlation ID'sini taşır.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.metrics.enabled", havingValue = "true")
+public class SqlMetricsConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public SqlMetrics sqlMetrics(MeterRegistry meterRegistry,
+                                 AuditLogService auditLogService,
+                                 @Value("${sql.metrics.slow-threshold-ms:200}") long slowThresholdMillis,
+                                 @Value("${sql.metrics.sample-size:100}") int sampleSize) {
+        return new SqlMetrics(meterRegistry, auditLogService, slowThresholdMillis, sampleSize);
+    }
+
+    @Bean
+    public RepositorySqlMetricsAspect repositorySqlMetricsAspect(SqlMetrics sqlMetrics) {
+        return new RepositorySqlMetricsAspect(sqlMetrics);
+    }
+
+    @Bean
+    public SlowSqlEndpoint slowSqlEndpoint(SqlMetrics sqlMetrics) {
+        return new SlowSqlEndpoint(sqlMetrics);
+    }
+
+    /**
+     * Sadece {@code dataSource} bean'i sarılır; replica yönlendirmesi açıkken bu, primary ve
+     * replica havuzlarının önündeki yönlendirici DataSource'tur.
+     */
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourcePostProcessor(ObjectProvider<SqlMetrics> sqlMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof SqlMetricsDataSource)) {
+                    return new SqlMetricsDataSource(dataSource, sqlMetrics::getIfAvailable);
+                }
+                return bean;
+            }
+        };
+    }
+}
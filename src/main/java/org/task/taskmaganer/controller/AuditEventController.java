@@ -0,0 +1,69 @@
+package org.task.taskmaganer.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.task.taskmaganer.dto.request.AuditEventFilter;
+import org.task.taskmaganer.dto.response.AuditEventResponse;
+import org.task.taskmaganer.dto.response.PageResponse;
+import org.task.taskmaganer.service.AuditEventService;
+
+import java.time.LocalDateTime;
+
+/**
+ * audit_events tablosu üzerinde sorgu; {@code audit.persistence.enabled=false} iken yüklenmez.
+ */
+@RestController
+@ConditionalOnProperty(name = "audit.persistence.enabled", havingValue = "true", matchIfMissing = true)
+@RequestMapping(value = "/audit-events", name = "AuditEventController")
+@Tag(name = "Audit Events", description = "Audit kayıtlarını sorgulamak için API endpointleri")
+public class AuditEventController {
+
+    private final AuditEventService auditEventService;
+    private final int maxPageSize;
+
+    @Autowired
+    public AuditEventController(AuditEventService auditEventService,
+                                @Value("${audit.query.max-page-size:200}") int maxPageSize) {
+        this.auditEventService = auditEventService;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @GetMapping
+    @Operation(summary = "Audit event'lerini getir",
+            description = "Entity tipi, entity ID, kullanıcı, korelasyon ID'si ve zaman aralığına göre filtrelenmiş audit kayıtlarını en yeniden eskiye getirir. " +
+                    "Sayfa boyutu 1 ile audit.query.max-page-size arasına çekilir")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Audit kayıtları başarıyla getirildi"),
+            @ApiResponse(responseCode = "400", description = "Geçersiz filtre"),
+            @ApiResponse(responseCode = "403", description = "Yetkisiz erişim")
+    })
+    public ResponseEntity<PageResponse<AuditEventResponse>> getAuditEvents(
+            @Parameter(description = "Entity tipi (örn: TASK)") @RequestParam(required = false) String entityType,
+            @Parameter(description = "Entity ID'si") @RequestParam(required = false) String entityId,
+            @Parameter(description = "İşlemi yapan kullanıcı") @RequestParam(required = false) String userId,
+            @Parameter(description = "İsteğin korelasyon ID'si (X-Correlation-Id)") @RequestParam(required = false) String correlationId,
+            @Parameter(description = "Başlangıç zamanı (dahil)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Bitiş zamanı (hariç)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "20") int size) {
+        AuditEventFilter filter = new AuditEventFilter(entityType, entityId, userId, correlationId, from, to);
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.max(1, Math.min(size, maxPageSize)));
+        PageResponse<AuditEventResponse> response = auditEventService.findEvents(filter, pageable);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -14,17 +14,31 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.task.taskmaganer.dto.request.BulkCreateTaskRequest;
+import org.task.taskmaganer.dto.request.BulkUpdateTaskRequest;
 import org.task.taskmaganer.dto.request.CreateTaskRequest;
+import org.task.taskmaganer.dto.request.PageQuery;
+import org.task.taskmaganer.dto.request.PaginationMode;
 import org.task.taskmaganer.dto.request.SearchTaskRequest;
+import org.task.taskmaganer.dto.request.TaskSelectionRequest;
 import org.task.taskmaganer.dto.request.UpdateTaskRequest;
+import org.task.taskmaganer.dto.response.BulkTaskResponse;
+import org.task.taskmaganer.dto.response.BulkUpdateResponse;
 import org.task.taskmaganer.dto.response.PageResponse;
 import org.task.taskmaganer.dto.response.TaskResponse;
+import org.task.taskmaganer.dto.response.TaskStatsResponse;
 import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.export.TaskExportFormat;
 import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.service.TaskExportService;
 import org.task.taskmaganer.service.TaskService;
+import org.task.taskmaganer.service.TaskStatsService;
 
 import java.util.UUID;
 
@@ -35,10 +49,15 @@ public class TaskController {
 
     private static final Logger log = LoggerFactory.getLogger(TaskController.class);
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskStatsService taskStatsService;
 
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskExportService taskExportService,
+                          TaskStatsService taskStatsService) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskStatsService = taskStatsService;
     }
 
     @PostMapping("/")
@@ -54,6 +73,77 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    @Operation(summary = "Toplu görev oluştur",
+            description = "Görevleri tek transaction'da, batch INSERT ile oluşturur ve öğe bazında sonuç döner. "
+                    + "Kullanıcısı bulunamayan öğeler atlanır.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Tüm görevler oluşturuldu",
+                    content = @Content(schema = @Schema(implementation = BulkTaskResponse.class))),
+            @ApiResponse(responseCode = "207", description = "Bazı görevler oluşturulamadı; ayrıntılar sonuçlarda",
+                    content = @Content(schema = @Schema(implementation = BulkTaskResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Geçersiz istek veya limit aşıldı"),
+            @ApiResponse(responseCode = "500", description = "Sunucu hatası")
+    })
+    public ResponseEntity<BulkTaskResponse> createTasks(@Valid @RequestBody BulkCreateTaskRequest request) {
+        BulkTaskResponse response = taskService.createTasks(request.getTasks());
+        HttpStatus status = response.hasFailures() ? HttpStatus.MULTI_STATUS : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @PutMapping("/bulk")
+    @Operation(summary = "Toplu durum/öncelik güncelle",
+            description = "ID listesi veya arama filtresiyle seçilen görevlerin durum ve/veya önceliğini "
+                    + "tek bir UPDATE ile değiştirir ve değişen görev sayısını döner")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Görevler güncellendi",
+                    content = @Content(schema = @Schema(implementation = BulkUpdateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Geçersiz seçim veya güncellenecek alan yok"),
+            @ApiResponse(responseCode = "500", description = "Sunucu hatası")
+    })
+    public ResponseEntity<BulkUpdateResponse> updateTasks(@Valid @RequestBody BulkUpdateTaskRequest request) {
+        return ResponseEntity.ok(taskService.updateTasks(request));
+    }
+
+    @DeleteMapping("/bulk")
+    @Operation(summary = "Toplu görev sil (soft delete)",
+            description = "ID listesi veya arama filtresiyle seçilen aktif görevleri tek bir UPDATE ile pasif yapar")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Görevler silindi",
+                    content = @Content(schema = @Schema(implementation = BulkUpdateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Geçersiz seçim"),
+            @ApiResponse(responseCode = "500", description = "Sunucu hatası")
+    })
+    public ResponseEntity<BulkUpdateResponse> deleteTasks(@Valid @RequestBody TaskSelectionRequest request) {
+        return ResponseEntity.ok(taskService.deleteTasks(request));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Görev istatistikleri",
+            description = "Duruma ve önceliğe göre görev sayıları. COUNT(*) çalıştırılmaz: tüm görevlerin "
+                    + "toplamları bellekten, kullanıcı toplamları sayaç tablosundan okunur.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "İstatistikler getirildi",
+                    content = @Content(schema = @Schema(implementation = TaskStatsResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Kullanıcı bulunamadı")
+    })
+    public ResponseEntity<TaskStatsResponse> getTaskStats(
+            @Parameter(description = "Sadece bu kullanıcının görevleri") @RequestParam(required = false) UUID userId) {
+        TaskStatsResponse response = userId != null
+                ? taskStatsService.getUserStats(userId)
+                : taskStatsService.getStats();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/stats/rebuild")
+    @Operation(summary = "Görev sayaçlarını yeniden hesapla",
+            description = "Sayaç tablosunu tasks tablosundan yeniden oluşturur (sadece ADMIN)")
+    @ApiResponse(responseCode = "204", description = "Sayaçlar yeniden hesaplandı")
+    public ResponseEntity<Void> rebuildTaskStats() {
+        taskStatsService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Görevi ID'ye göre getir", description = "Belirli bir ID'ye sahip görevi getirir")
     @ApiResponses(value = {
@@ -74,9 +164,11 @@ public class TaskController {
     public ResponseEntity<PageResponse<TaskResponse>> getAllTasks(
             @Parameter(description = "Sayfa numarası (0'dan başlar)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama (alan,yön formatında, örn: createdAt,desc)") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
-        PageResponse<TaskResponse> response = taskService.getAllTasks(pageable);
+            @Parameter(description = "Sıralama (alan,yön formatında, örn: createdAt,desc)") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery query = createPageQuery(page, size, sort, mode, cursor);
+        PageResponse<TaskResponse> response = taskService.getAllTasks(query);
         return ResponseEntity.ok(response);
     }
 
@@ -86,10 +178,12 @@ public class TaskController {
     public ResponseEntity<PageResponse<TaskResponse>> getAllActiveTasks(
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "5") int size,
-            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
+            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery query = createPageQuery(page, size, sort, mode, cursor);
 
-        PageResponse<TaskResponse> response = taskService.getAllActiveTasks(pageable);
+        PageResponse<TaskResponse> response = taskService.getAllActiveTasks(query);
         return ResponseEntity.ok(response);
     }
 
@@ -100,9 +194,11 @@ public class TaskController {
             @Parameter(description = "Görev durumu", required = true) @PathVariable TaskStatus status,
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
-        PageResponse<TaskResponse> response = taskService.getTasksByStatus(status, pageable);
+            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery query = createPageQuery(page, size, sort, mode, cursor);
+        PageResponse<TaskResponse> response = taskService.getTasksByStatus(status, query);
         return ResponseEntity.ok(response);
     }
 
@@ -113,9 +209,11 @@ public class TaskController {
             @Parameter(description = "Görev önceliği", required = true) @PathVariable TaskPriority priority,
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
-        PageResponse<TaskResponse> response = taskService.getTasksByPriority(priority, pageable);
+            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery query = createPageQuery(page, size, sort, mode, cursor);
+        PageResponse<TaskResponse> response = taskService.getTasksByPriority(priority, query);
         return ResponseEntity.ok(response);
     }
 
@@ -126,9 +224,11 @@ public class TaskController {
             @Parameter(description = "Görev durumu", required = true) @PathVariable TaskStatus status,
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
-        PageResponse<TaskResponse> response = taskService.getActiveTasksByStatus(status, pageable);
+            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery query = createPageQuery(page, size, sort, mode, cursor);
+        PageResponse<TaskResponse> response = taskService.getActiveTasksByStatus(status, query);
         return ResponseEntity.ok(response);
     }
 
@@ -139,9 +239,11 @@ public class TaskController {
             @Parameter(description = "Görev önceliği", required = true) @PathVariable TaskPriority priority,
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
-        PageResponse<TaskResponse> response = taskService.getActiveTasksByPriority(priority, pageable);
+            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery query = createPageQuery(page, size, sort, mode, cursor);
+        PageResponse<TaskResponse> response = taskService.getActiveTasksByPriority(priority, query);
         return ResponseEntity.ok(response);
     }
 
@@ -152,10 +254,12 @@ public class TaskController {
             @Parameter(description = "Kullanıcı ID'si", required = true) @PathVariable UUID userId,
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
+            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery query = createPageQuery(page, size, sort, mode, cursor);
 
-        PageResponse<TaskResponse> response = taskService.getTasksByUserId(userId, pageable);
+        PageResponse<TaskResponse> response = taskService.getTasksByUserId(userId, query);
         return ResponseEntity.ok(response);
     }
 
@@ -166,9 +270,11 @@ public class TaskController {
             @Parameter(description = "Kullanıcı ID'si", required = true) @PathVariable UUID userId,
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
-        PageResponse<TaskResponse> response = taskService.getActiveTasksByUserId(userId, pageable);
+            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery query = createPageQuery(page, size, sort, mode, cursor);
+        PageResponse<TaskResponse> response = taskService.getActiveTasksByUserId(userId, query);
         return ResponseEntity.ok(response);
     }
 
@@ -180,9 +286,11 @@ public class TaskController {
             @Parameter(description = "Görev durumu", required = true) @PathVariable TaskStatus status,
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
-        PageResponse<TaskResponse> response = taskService.getTasksByUserIdAndStatus(userId, status, pageable);
+            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery query = createPageQuery(page, size, sort, mode, cursor);
+        PageResponse<TaskResponse> response = taskService.getTasksByUserIdAndStatus(userId, status, query);
         return ResponseEntity.ok(response);
     }
 
@@ -194,9 +302,11 @@ public class TaskController {
             @Parameter(description = "Görev önceliği", required = true) @PathVariable TaskPriority priority,
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
-        PageResponse<TaskResponse> response = taskService.getTasksByUserIdAndPriority(userId, priority, pageable);
+            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery query = createPageQuery(page, size, sort, mode, cursor);
+        PageResponse<TaskResponse> response = taskService.getTasksByUserIdAndPriority(userId, priority, query);
         return ResponseEntity.ok(response);
     }
 
@@ -258,26 +368,54 @@ public class TaskController {
             @Parameter(description = "Arama kriterleri") @RequestBody(required = false) SearchTaskRequest request,
             @Parameter(description = "Sayfa numarası (0'dan başlar)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama (alan,yön formatında)") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
+            @Parameter(description = "Sıralama (alan,yön formatında; arama alaka düzeyi için relevance)") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery query = createPageQuery(page, size, sort, mode, cursor);
         SearchTaskRequest searchRequest = request != null ? request : new SearchTaskRequest();
-        PageResponse<TaskResponse> response = taskService.searchTasks(searchRequest, pageable);
+        PageResponse<TaskResponse> response = taskService.searchTasks(searchRequest, query);
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/export")
+    @Operation(summary = "Görevleri dışa aktar",
+            description = "Arama kriterlerine uyan tüm görevleri NDJSON veya CSV olarak stream eder. "
+                    + "Sayfalama ve COUNT yapılmaz; sonuçlar veritabanı cursor'ından okundukça yazılır.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Dışa aktarma başladı"),
+            @ApiResponse(responseCode = "400", description = "Geçersiz arama parametreleri veya format")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Arama kriterleri") @RequestBody(required = false) SearchTaskRequest request,
+            @Parameter(description = "Çıktı formatı (NDJSON, CSV)") @RequestParam(defaultValue = "NDJSON") TaskExportFormat format) {
+        SearchTaskRequest searchRequest = request != null ? request : new SearchTaskRequest();
+        StreamingResponseBody body = out -> taskExportService.export(searchRequest, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format.getFileExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Görevlerde basit arama", description = "Başlık ve açıklamada anahtar kelime arama")
     @ApiResponse(responseCode = "200", description = "Arama başarıyla tamamlandı")
     public ResponseEntity<PageResponse<TaskResponse>> searchTasksByQuery(
             @Parameter(description = "Arama kelimesi", required = true) @RequestParam String query,
+            @Parameter(description = "Yazım hatalarına toleranslı (trigram benzerliği) arama") @RequestParam(defaultValue = "false") boolean fuzzy,
             @Parameter(description = "Sayfa numarası") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sıralama") @RequestParam(defaultValue = "createdAt,desc") String sort) {
-        Pageable pageable = createPageable(page, size, sort);
-        PageResponse<TaskResponse> response = taskService.searchTasksByQuery(query, pageable);
+            @Parameter(description = "Sıralama (arama alaka düzeyi için relevance)") @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, KEYSET, SLICE, ESTIMATED)") @RequestParam(defaultValue = "OFFSET") PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        PageQuery pageQuery = createPageQuery(page, size, sort, mode, cursor);
+        PageResponse<TaskResponse> response = taskService.searchTasksByQuery(query, fuzzy, pageQuery);
         return ResponseEntity.ok(response);
     }
 
+    private PageQuery createPageQuery(int page, int size, String sort, PaginationMode mode, String cursor) {
+        return PageQuery.of(createPageable(page, size, sort), mode, cursor);
+    }
+
     private Pageable createPageable(int page, int size, String sort) {
         String[] sortParams = sort.split(",");
         String sortField = sortParams[0];
@@ -9,12 +9,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.task.taskmaganer.dto.request.CreateUserRequest;
+import org.task.taskmaganer.dto.request.PageQuery;
+import org.task.taskmaganer.dto.request.PaginationMode;
 import org.task.taskmaganer.dto.request.UpdateUserRequest;
+import org.task.taskmaganer.dto.response.PageResponse;
 import org.task.taskmaganer.dto.response.UserResponse;
+import org.task.taskmaganer.service.UserExportService;
 import org.task.taskmaganer.service.UserService;
 
 import java.util.List;
@@ -25,11 +34,20 @@ import java.util.UUID;
 @Tag(name = "User Management", description = "Kullanıcı yönetimi işlemleri için API endpointleri")
 public class UserController {
 
+    /**
+     * Sayfalama parametresi verilmeyen liste yanıtı users.list.max-size'ta kesildiyse true döner.
+     */
+    static final String RESULT_TRUNCATED_HEADER = "X-Result-Truncated";
+
+    private static final String NDJSON = "application/x-ndjson";
+
     private final UserService userService;
+    private final UserExportService userExportService;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserExportService userExportService) {
         this.userService = userService;
+        this.userExportService = userExportService;
     }
 
     @PostMapping("/")
@@ -83,19 +101,61 @@ public class UserController {
     }
 
     @GetMapping("/")
-    @Operation(summary = "Tüm kullanıcıları getir", description = "Sistemdeki tüm kullanıcıları getirir")
-    @ApiResponse(responseCode = "200", description = "Kullanıcılar başarıyla getirildi")
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
-        List<UserResponse> responses = userService.getAllUsers();
-        return ResponseEntity.ok(responses);
+    @Operation(summary = "Tüm kullanıcıları getir",
+            description = "mode verilmezse kullanıcı adına göre en fazla users.list.max-size kullanıcı liste olarak döner; "
+                    + "daha fazlası varsa X-Result-Truncated: true header'ı eklenir. "
+                    + "mode (OFFSET, SLICE, KEYSET) verilirse sayfalı yanıt döner.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Kullanıcılar başarıyla getirildi"),
+            @ApiResponse(responseCode = "400", description = "Geçersiz sayfalama parametreleri")
+    })
+    public ResponseEntity<?> getAllUsers(
+            @Parameter(description = "Sayfa numarası (0'dan başlar)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sıralama (alan,yön formatında, örn: username,asc)") @RequestParam(defaultValue = "username,asc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, SLICE, KEYSET); verilmezse sınırlı liste") @RequestParam(required = false) PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        if (mode == null && cursor == null) {
+            return listResponse(userService.getAllUsers());
+        }
+        PageResponse<UserResponse> response = userService.getAllUsers(createPageQuery(page, size, sort, mode, cursor));
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/active")
-    @Operation(summary = "Aktif kullanıcıları getir", description = "Silinmemiş tüm aktif kullanıcıları getirir")
-    @ApiResponse(responseCode = "200", description = "Aktif kullanıcılar başarıyla getirildi")
-    public ResponseEntity<List<UserResponse>> getAllActiveUsers() {
-        List<UserResponse> responses = userService.getAllActiveUsers();
-        return ResponseEntity.ok(responses);
+    @Operation(summary = "Aktif kullanıcıları getir",
+            description = "Silinmemiş aktif kullanıcılar; sayfalama davranışı GET /users/ ile aynıdır")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Aktif kullanıcılar başarıyla getirildi"),
+            @ApiResponse(responseCode = "400", description = "Geçersiz sayfalama parametreleri")
+    })
+    public ResponseEntity<?> getAllActiveUsers(
+            @Parameter(description = "Sayfa numarası (0'dan başlar)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Sayfa başına öğe sayısı") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sıralama (alan,yön formatında, örn: username,asc)") @RequestParam(defaultValue = "username,asc") String sort,
+            @Parameter(description = "Sayfalama modu (OFFSET, SLICE, KEYSET); verilmezse sınırlı liste") @RequestParam(required = false) PaginationMode mode,
+            @Parameter(description = "Keyset modunda bir sonraki sayfanın imleci (nextCursor)") @RequestParam(required = false) String cursor) {
+        if (mode == null && cursor == null) {
+            return listResponse(userService.getAllActiveUsers());
+        }
+        PageResponse<UserResponse> response = userService.getAllActiveUsers(createPageQuery(page, size, sort, mode, cursor));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/stream", produces = NDJSON)
+    @Operation(summary = "Tüm kullanıcıları stream et",
+            description = "Tüm kullanıcıları NDJSON olarak, veritabanı cursor'ından okundukça yazar; sınır ve COUNT yoktur")
+    @ApiResponse(responseCode = "200", description = "Stream başladı")
+    public ResponseEntity<StreamingResponseBody> streamUsers() {
+        return streamResponse(false);
+    }
+
+    @GetMapping(value = "/active/stream", produces = NDJSON)
+    @Operation(summary = "Aktif kullanıcıları stream et",
+            description = "Aktif kullanıcıları NDJSON olarak, veritabanı cursor'ından okundukça yazar; sınır ve COUNT yoktur")
+    @ApiResponse(responseCode = "200", description = "Stream başladı")
+    public ResponseEntity<StreamingResponseBody> streamActiveUsers() {
+        return streamResponse(true);
     }
 
     @PutMapping("/{id}")
@@ -103,7 +163,8 @@ public class UserController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Kullanıcı başarıyla güncellendi"),
             @ApiResponse(responseCode = "404", description = "Kullanıcı bulunamadı"),
-            @ApiResponse(responseCode = "400", description = "Geçersiz istek")
+            @ApiResponse(responseCode = "400", description = "Geçersiz istek"),
+            @ApiResponse(responseCode = "403", description = "Rolü sadece ADMIN değiştirebilir")
     })
     public ResponseEntity<UserResponse> updateUser(
             @Parameter(description = "Kullanıcı ID'si", required = true) @PathVariable UUID id,
@@ -153,4 +214,25 @@ public class UserController {
         boolean exists = userService.existsByEmail(email);
         return ResponseEntity.ok(exists);
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<List<UserResponse>> listResponse(Slice<UserResponse> users) {
+        return ResponseEntity.ok()
+                .header(RESULT_TRUNCATED_HEADER, String.valueOf(users.hasNext()))
+                .body(users.getContent());
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamResponse(boolean activeOnly) {
+        StreamingResponseBody body = out -> userExportService.export(activeOnly, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    private PageQuery createPageQuery(int page, int size, String sort, PaginationMode mode, String cursor) {
+        String[] sortParams = sort.split(",");
+        Sort.Direction direction = sortParams.length > 1 && sortParams[1].equalsIgnoreCase("desc")
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+        return PageQuery.of(PageRequest.of(page, size, Sort.by(direction, sortParams[0])), mode, cursor);
+    }
+}
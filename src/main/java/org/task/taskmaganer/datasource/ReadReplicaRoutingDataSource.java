@@ -0,0 +1,70 @@
+package org.task.taskmaganer.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Read-only transaction'ları replica'ya, diğer her şeyi primary'ye gönderen DataSource.
+ * <p>
+ * Karar bağlantı alınırken verildiği için bir {@code LazyConnectionDataSourceProxy}
+ * arkasında kullanılmalıdır; aksi halde transaction manager bağlantıyı read-only bilgisi
+ * set edilmeden önce alır. Replica gecikmeli veya erişilemez ise
+ * ({@link ReplicaLagMonitor}) okumalar primary'ye düşer.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final String METRIC = "datasource.routing.connections";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter fallbackConnections;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+
+        this.primaryConnections = Counter.builder(METRIC).tag("target", "primary").register(meterRegistry);
+        this.replicaConnections = Counter.builder(METRIC).tag("target", "replica").register(meterRegistry);
+        this.fallbackConnections = Counter.builder(METRIC).tag("target", "fallback").register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!routeToReplica()) {
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            replicaConnections.increment();
+            return connection;
+        } catch (SQLException ex) {
+            lagMonitor.markUnavailable(ex);
+            fallbackConnections.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    private boolean routeToReplica() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && lagMonitor.isReplicaAvailable();
+    }
+}
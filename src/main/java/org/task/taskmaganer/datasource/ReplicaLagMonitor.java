@@ -0,0 +1,88 @@
+package org.task.taskmaganer.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replica'nın erişilebilirliğini ve replikasyon gecikmesini periyodik olarak ölçer.
+ * <p>
+ * Gecikme {@code maxLagMillis} değerini aşarsa veya replica'ya bağlanılamazsa okuma
+ * transaction'ları bir sonraki başarılı kontrole kadar primary'ye yönlendirilir.
+ * PostgreSQL'de gecikme {@code pg_last_xact_replay_timestamp()} ile ölçülür; diğer
+ * veritabanlarında sadece bağlantı kontrol edilir.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Replay edilecek WAL yoksa replica güncel kabul edilir; aksi halde son replay'den beri geçen süre
+    private static final String POSTGRES_LAG_SQL =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final DataSource replica;
+    private final long maxLagMillis;
+
+    private volatile boolean available = true;
+    private volatile long lagMillis;
+    private volatile Boolean postgres;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.maxLagMillis = maxLagMillis;
+
+        Gauge.builder("datasource.replica.lag", () -> lagMillis).baseUnit("milliseconds").register(meterRegistry);
+        Gauge.builder("datasource.replica.available", () -> available ? 1 : 0).register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return available;
+    }
+
+    /**
+     * Replica bağlantısı alınamadığında router tarafından çağrılır.
+     */
+    void markUnavailable(SQLException cause) {
+        if (available) {
+            log.warn("Read replica unavailable, routing reads to primary: {}", cause.getMessage());
+        }
+        available = false;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        try (Connection connection = replica.getConnection()) {
+            lagMillis = measureLag(connection);
+            boolean withinLimit = lagMillis <= maxLagMillis;
+            if (withinLimit != available) {
+                log.warn("Read replica {} (lag {} ms, limit {} ms)",
+                        withinLimit ? "back in rotation" : "lagging, routing reads to primary", lagMillis, maxLagMillis);
+            }
+            available = withinLimit;
+        } catch (SQLException ex) {
+            markUnavailable(ex);
+        }
+    }
+
+    private long measureLag(Connection connection) throws SQLException {
+        if (postgres == null) {
+            postgres = "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        }
+        if (!postgres) {
+            return connection.isValid(1) ? 0 : Long.MAX_VALUE;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(POSTGRES_LAG_SQL)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.task.taskmaganer.datasource;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/slowsql}: eşiği aşan son JDBC ifadeleri (en yenisi önce).
+ * DELETE örnekleri temizler; metrikler etkilenmez.
+ */
+@Endpoint(id = "slowsql")
+public class SlowSqlEndpoint {
+
+    private final SqlMetrics sqlMetrics;
+
+    public SlowSqlEndpoint(SqlMetrics sqlMetrics) {
+        this.sqlMetrics = sqlMetrics;
+    }
+
+    @ReadOperation
+    public List<SlowStatementSample> slowStatements() {
+        return sqlMetrics.slowStatements();
+    }
+
+    @DeleteOperation
+    public void clear() {
+        sqlMetrics.clearSlowStatements();
+    }
+}
@@ -0,0 +1,22 @@
+package org.task.taskmaganer.datasource;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Yavaş bir JDBC ifadesinin örneği. Parametre değerleri tutulmaz; {@code parameterTypes}
+ * sadece bağlanan değerlerin tipleridir ({@code NULL} bağlanmamış veya null parametre).
+ *
+ * @param correlationId ifadeyi çalıştıran isteğin correlation ID'si; istek dışında null
+ * @param rows          okunan veya değişen satır sayısı
+ */
+public record SlowStatementSample(Instant timestamp,
+                                  String correlationId,
+                                  String repository,
+                                  String method,
+                                  String operation,
+                                  String sql,
+                                  List<String> parameterTypes,
+                                  long durationMs,
+                                  long rows) {
+}
@@ -0,0 +1,269 @@
+package org.task.taskmaganer.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.task.taskmaganer.service.AuditLogService;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC ifadelerini çalıştıran repository metoduna göre ölçer.
+ * <p>
+ * Repository çağrıları {@link #begin}/{@link #end} ile thread'e bağlanır; bu aralıkta
+ * {@link SqlMetricsDataSource} üzerinden çalışan her ifade o metoda yazılır. Dışındaki
+ * ifadeler (commit sırasındaki flush, JdbcTemplate, Flyway) {@code none} etiketini alır.
+ * <ul>
+ *   <li>{@code sql.statements}: ifade süresi (histogram), repository/method/operation etiketli</li>
+ *   <li>{@code sql.statement.rows}: okunan veya değişen satır sayısı</li>
+ *   <li>{@code sql.statements.slow}: eşiği aşan ifade sayısı</li>
+ *   <li>{@code repository.invocations}: repository metodu süresi</li>
+ *   <li>{@code repository.invocation.statements}: çağrı başına ifade sayısı</li>
+ * </ul>
+ * Eşiği aşan ifadeler ayrıca son {@code sample-size} kadar örnekle saklanır. Örneklerde
+ * parametre değerleri tutulmaz, sadece tipleri; SQL'deki string sabitleri de maskelenir.
+ */
+public class SqlMetrics {
+
+    static final String NONE = "none";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+    private final MeterRegistry meterRegistry;
+    private final AuditLogService auditLogService;
+    private final long slowThresholdNanos;
+    private final int sampleSize;
+
+    private final ThreadLocal<Invocation> current = new ThreadLocal<>();
+    private final Map<String, StatementMeters> statementMeters = new ConcurrentHashMap<>();
+    private final Map<String, InvocationMeters> invocationMeters = new ConcurrentHashMap<>();
+    private final Deque<SlowStatementSample> slowSamples = new ArrayDeque<>();
+
+    public SqlMetrics(MeterRegistry meterRegistry, AuditLogService auditLogService,
+                      long slowThresholdMillis, int sampleSize) {
+        this.meterRegistry = meterRegistry;
+        this.auditLogService = auditLogService;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * Repository metodunu thread'e bağlar; dönen değer {@link #end}'e verilmelidir.
+     * İç içe çağrılarda ifadeler en içteki metoda yazılır.
+     */
+    public Invocation begin(String repository, String method) {
+        Invocation invocation = new Invocation(repository, method, current.get());
+        current.set(invocation);
+        return invocation;
+    }
+
+    public void end(Invocation invocation, long durationNanos, boolean failed) {
+        if (invocation.parent != null) {
+            current.set(invocation.parent);
+        } else {
+            current.remove();
+        }
+        InvocationMeters meters = invocationMeters.computeIfAbsent(
+                invocation.repository + '.' + invocation.method + '.' + failed,
+                key -> new InvocationMeters(invocation.repository, invocation.method, failed));
+        meters.duration.record(durationNanos, TimeUnit.NANOSECONDS);
+        meters.statements.record(invocation.statements);
+    }
+
+    /**
+     * İfade çalıştıktan hemen sonra çağrılır; repository bağlamı ve correlation ID burada alınır.
+     */
+    Execution started(String sql, List<String> parameterTypes, long durationNanos) {
+        Invocation invocation = current.get();
+        if (invocation != null) {
+            invocation.statements++;
+        }
+        return new Execution(this, sql, parameterTypes, durationNanos,
+                invocation != null ? invocation.repository : NONE,
+                invocation != null ? invocation.method : NONE,
+                MDC.get("correlationId"));
+    }
+
+    /**
+     * Satır sayısı belli olduğunda (güncelleme sonrası veya ResultSet kapanınca) çağrılır.
+     */
+    private void completed(Execution execution) {
+        long rows = execution.rows;
+        String operation = operation(execution.sql);
+        StatementMeters meters = statementMeters.computeIfAbsent(
+                execution.repository + '.' + execution.method + '.' + operation,
+                key -> new StatementMeters(execution.repository, execution.method, operation));
+        meters.duration.record(execution.durationNanos, TimeUnit.NANOSECONDS);
+        meters.rows.record(rows);
+
+        if (execution.durationNanos >= slowThresholdNanos) {
+            meters.slow.increment();
+            sample(execution, operation, rows);
+        }
+    }
+
+    /**
+     * Eşiği aşan son ifadeler, en yenisi önce.
+     */
+    public List<SlowStatementSample> slowStatements() {
+        synchronized (slowSamples) {
+            return new ArrayList<>(slowSamples);
+        }
+    }
+
+    public void clearSlowStatements() {
+        synchronized (slowSamples) {
+            slowSamples.clear();
+        }
+    }
+
+    private void sample(Execution execution, String operation, long rows) {
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(execution.durationNanos);
+        String sql = STRING_LITERAL.matcher(execution.sql).replaceAll("'?'");
+        SlowStatementSample sample = new SlowStatementSample(Instant.now(), execution.correlationId,
+                execution.repository, execution.method, operation, sql, execution.parameterTypes, durationMs, rows);
+        synchronized (slowSamples) {
+            if (slowSamples.size() >= sampleSize) {
+                slowSamples.removeLast();
+            }
+            slowSamples.addFirst(sample);
+        }
+        auditLogService.logPerformanceMetric(execution.repository + "." + execution.method, durationMs,
+                "rows=" + rows + " sql=" + sql);
+    }
+
+    static String operation(String sql) {
+        int i = 0;
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c) || c == '(') {
+                i++;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else {
+                break;
+            }
+        }
+        int end = i;
+        while (end < length && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        String keyword = sql.substring(i, end).toLowerCase();
+        return switch (keyword) {
+            case "select", "with" -> "select";
+            case "insert", "update", "delete", "merge" -> keyword;
+            default -> "other";
+        };
+    }
+
+    /**
+     * Thread'e bağlı repository çağrısı.
+     */
+    public static final class Invocation {
+
+        private final String repository;
+        private final String method;
+        private final Invocation parent;
+        private int statements;
+
+        private Invocation(String repository, String method, Invocation parent) {
+            this.repository = repository;
+            this.method = method;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * Çalışmış, satır sayısı henüz kaydedilmemiş bir ifade.
+     */
+    static final class Execution {
+
+        private final SqlMetrics metrics;
+        private final String sql;
+        private final List<String> parameterTypes;
+        private final long durationNanos;
+        private final String repository;
+        private final String method;
+        private final String correlationId;
+        private long rows;
+        private boolean completed;
+
+        private Execution(SqlMetrics metrics, String sql, List<String> parameterTypes, long durationNanos,
+                          String repository, String method, String correlationId) {
+            this.metrics = metrics;
+            this.sql = sql;
+            this.parameterTypes = parameterTypes;
+            this.durationNanos = durationNanos;
+            this.repository = repository;
+            this.method = method;
+            this.correlationId = correlationId;
+        }
+
+        void addRows(long count) {
+            rows += count;
+        }
+
+        /**
+         * İlk çağrı kaydeder, sonrakiler etkisizdir (ResultSet ve Statement ayrı ayrı kapanabilir).
+         */
+        void complete() {
+            if (!completed) {
+                completed = true;
+                metrics.completed(this);
+            }
+        }
+    }
+
+    private final class StatementMeters {
+
+        private final Timer duration;
+        private final DistributionSummary rows;
+        private final Counter slow;
+
+        private StatementMeters(String repository, String method, String operation) {
+            this.duration = Timer.builder("sql.statements")
+                    .description("JDBC statement execution time by repository method")
+                    .tags("repository", repository, "method", method, "operation", operation)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder("sql.statement.rows")
+                    .description("Rows read or changed per JDBC statement")
+                    .tags("repository", repository, "method", method, "operation", operation)
+                    .register(meterRegistry);
+            this.slow = Counter.builder("sql.statements.slow")
+                    .description("JDBC statements slower than the slow statement threshold")
+                    .tags("repository", repository, "method", method, "operation", operation)
+                    .register(meterRegistry);
+        }
+    }
+
+    private final class InvocationMeters {
+
+        private final Timer duration;
+        private final DistributionSummary statements;
+
+        private InvocationMeters(String repository, String method, boolean failed) {
+            this.duration = Timer.builder("repository.invocations")
+                    .description("Repository method execution time")
+                    .tags("repository", repository, "method", method, "outcome", failed ? "error" : "success")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.statements = DistributionSummary.builder("repository.invocation.statements")
+                    .description("JDBC statements executed per repository method call")
+                    .tags("repository", repository, "method", method, "outcome", failed ? "error" : "success")
+                    .register(meterRegistry);
+        }
+    }
+}
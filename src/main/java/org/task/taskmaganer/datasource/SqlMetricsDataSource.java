@@ -0,0 +1,254 @@
+package org.task.taskmaganer.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Bağlantıları sararak çalışan her JDBC ifadesini {@link SqlMetrics}'e bildirir.
+ * <p>
+ * Süre {@code execute*} çağrısının süresidir; sorgularda satırlar ResultSet okundukça
+ * sayılır ve ifade ResultSet (veya Statement) kapanınca kaydedilir. Bağlanan parametrelerin
+ * sadece tipleri tutulur. {@code unwrap} asıl bağlantıya gider; sürücüye özgü API'ler
+ * (ör. {@code PGConnection}) bu katmandan etkilenmez.
+ */
+public class SqlMetricsDataSource extends DelegatingDataSource {
+
+    private final Supplier<SqlMetrics> metrics;
+
+    /**
+     * @param metrics ilk bağlantıda çözülür; DataSource, metrik bean'lerinden önce oluşur
+     */
+    public SqlMetricsDataSource(DataSource target, Supplier<SqlMetrics> metrics) {
+        super(target);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        SqlMetrics sqlMetrics = metrics.get();
+        if (sqlMetrics == null) {
+            return connection;
+        }
+        return proxy(Connection.class, new ConnectionHandler(connection, sqlMetrics));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SqlMetricsDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final SqlMetrics metrics;
+
+        private ConnectionHandler(Connection target, SqlMetrics metrics) {
+            this.target = target;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+
+            Object result = SqlMetricsDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class,
+                        new StatementHandler((Statement) result, null, (Connection) proxy, metrics));
+                case "prepareStatement" -> proxy(PreparedStatement.class,
+                        new StatementHandler((Statement) result, (String) args[0], (Connection) proxy, metrics));
+                case "prepareCall" -> proxy(CallableStatement.class,
+                        new StatementHandler((Statement) result, (String) args[0], (Connection) proxy, metrics));
+                default -> result;
+            };
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private static final String NULL = "NULL";
+
+        private final Statement target;
+        private final Connection connection;
+        private final SqlMetrics metrics;
+        private final List<String> parameterTypes = new ArrayList<>();
+        private String sql;
+        private SqlMetrics.Execution pending;
+
+        private StatementHandler(Statement target, String sql, Connection connection, SqlMetrics metrics) {
+            this.target = target;
+            this.sql = sql;
+            this.connection = connection;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(proxy, method, args);
+            }
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return connection;
+                case "getResultSet": {
+                    ResultSet resultSet = (ResultSet) SqlMetricsDataSource.invoke(target, method, args);
+                    return resultSet != null && pending != null ? resultSet(resultSet, pending, (Statement) proxy) : resultSet;
+                }
+                case "addBatch":
+                    if (args != null && args.length == 1) {
+                        sql = (String) args[0];
+                    }
+                    break;
+                case "clearParameters":
+                    parameterTypes.clear();
+                    break;
+                case "setNull":
+                    parameter((Integer) args[0], null);
+                    break;
+                case "close":
+                    completePending();
+                    break;
+                default:
+                    // Parametre setter'ları (setString(int, String) vb.) en az iki argüman alır
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                        parameter(index, args[1]);
+                    }
+            }
+            return SqlMetricsDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+            completePending();
+            String statementSql = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+
+            long start = System.nanoTime();
+            Object result = SqlMetricsDataSource.invoke(target, method, args);
+            long duration = System.nanoTime() - start;
+
+            SqlMetrics.Execution execution = metrics.started(statementSql != null ? statementSql : "",
+                    parameterTypes.isEmpty() ? List.of() : List.copyOf(parameterTypes), duration);
+            switch (method.getName()) {
+                case "executeQuery":
+                    pending = execution;
+                    return resultSet((ResultSet) result, execution, (Statement) proxy);
+                case "execute":
+                    if (Boolean.TRUE.equals(result)) {
+                        pending = execution;
+                        return result;
+                    }
+                    execution.addRows(Math.max(0, target.getUpdateCount()));
+                    break;
+                case "executeBatch":
+                    for (int count : (int[]) result) {
+                        execution.addRows(Math.max(0, count));
+                    }
+                    break;
+                case "executeLargeBatch":
+                    for (long count : (long[]) result) {
+                        execution.addRows(Math.max(0, count));
+                    }
+                    break;
+                default:
+                    execution.addRows(((Number) result).longValue());
+            }
+            execution.complete();
+            return result;
+        }
+
+        private void parameter(int index, Object value) {
+            while (parameterTypes.size() < index) {
+                parameterTypes.add(NULL);
+            }
+            parameterTypes.set(index - 1, value != null ? value.getClass().getSimpleName() : NULL);
+        }
+
+        private void completePending() {
+            if (pending != null) {
+                pending.complete();
+                pending = null;
+            }
+        }
+    }
+
+    private static ResultSet resultSet(ResultSet resultSet, SqlMetrics.Execution execution, Statement statement) {
+        return proxy(ResultSet.class, new ResultSetHandler(resultSet, execution, statement));
+    }
+
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final SqlMetrics.Execution execution;
+        private final Statement statement;
+
+        private ResultSetHandler(ResultSet target, SqlMetrics.Execution execution, Statement statement) {
+            this.target = target;
+            this.execution = execution;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getStatement":
+                    return statement;
+                case "close":
+                    execution.complete();
+                    break;
+                default:
+                    break;
+            }
+            Object result = SqlMetricsDataSource.invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                execution.addRows(1);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.task.taskmaganer.dto.request;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit event sorgusu için filtreler. Null alanlar filtrelenmez.
+ */
+public record AuditEventFilter(
+        String entityType,
+        String entityId,
+        String userId,
+        String correlationId,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+}
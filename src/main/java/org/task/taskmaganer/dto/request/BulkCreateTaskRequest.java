@@ -0,0 +1,44 @@
+package org.task.taskmaganer.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.Objects;
+
+@Schema(description = "Toplu görev oluşturma isteği")
+public class BulkCreateTaskRequest {
+
+    @NotEmpty(message = "At least one task is required")
+    @Valid
+    @Schema(description = "Oluşturulacak görevler (en fazla tasks.bulk.max-size adet)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<CreateTaskRequest> tasks;
+
+    public BulkCreateTaskRequest() {
+    }
+
+    public BulkCreateTaskRequest(List<CreateTaskRequest> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<CreateTaskRequest> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<CreateTaskRequest> tasks) {
+        this.tasks = tasks;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        BulkCreateTaskRequest that = (BulkCreateTaskRequest) o;
+        return Objects.equals(tasks, that.tasks);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(tasks);
+    }
+}
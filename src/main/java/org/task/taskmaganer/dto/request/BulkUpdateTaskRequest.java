@@ -0,0 +1,56 @@
+package org.task.taskmaganer.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Schema(description = "Toplu durum/öncelik güncelleme isteği")
+public class BulkUpdateTaskRequest extends TaskSelectionRequest {
+
+    @Schema(description = "Yeni görev durumu", example = "COMPLETED")
+    private TaskStatus status;
+
+    @Schema(description = "Yeni görev önceliği", example = "LOW")
+    private TaskPriority priority;
+
+    public BulkUpdateTaskRequest() {
+    }
+
+    public BulkUpdateTaskRequest(List<UUID> ids, SearchTaskRequest filter, TaskStatus status, TaskPriority priority) {
+        super(ids, filter);
+        this.status = status;
+        this.priority = priority;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) return false;
+        BulkUpdateTaskRequest that = (BulkUpdateTaskRequest) o;
+        return status == that.status && priority == that.priority;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), status, priority);
+    }
+}
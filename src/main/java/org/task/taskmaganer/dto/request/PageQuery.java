@@ -0,0 +1,35 @@
+package org.task.taskmaganer.dto.request;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Liste sorgularının sayfalama parametrelerini bir arada tutan record.
+ * <p>
+ * Cursor verilmişse mod otomatik olarak KEYSET kabul edilir.
+ */
+public record PageQuery(Pageable pageable, PaginationMode mode, String cursor) {
+
+    public PageQuery {
+        if (mode == null) {
+            mode = PaginationMode.OFFSET;
+        }
+        if (cursor != null && cursor.isBlank()) {
+            cursor = null;
+        }
+        if (cursor != null) {
+            mode = PaginationMode.KEYSET;
+        }
+    }
+
+    public static PageQuery of(Pageable pageable) {
+        return new PageQuery(pageable, PaginationMode.OFFSET, null);
+    }
+
+    public static PageQuery of(Pageable pageable, PaginationMode mode, String cursor) {
+        return new PageQuery(pageable, mode, cursor);
+    }
+
+    public PageQuery withPageable(Pageable pageable) {
+        return new PageQuery(pageable, mode, cursor);
+    }
+}
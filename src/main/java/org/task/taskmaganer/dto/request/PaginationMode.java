@@ -0,0 +1,11 @@
+package org.task.taskmaganer.dto.request;
+
+/**
+ * Liste endpoint'lerinde kullanılabilecek sayfalama modları.
+ */
+public enum PaginationMode {
+    OFFSET,     // Klasik sayfa numarası + kesin toplam sayı (COUNT(*))
+    KEYSET,     // İmleç (cursor) tabanlı, derin sayfalarda da sabit maliyetli
+    SLICE,      // Sayfa numarası, COUNT(*) yok; size+1 satır ile sadece "sonraki sayfa var mı?"
+    ESTIMATED   // SLICE + planner istatistiklerinden okunan yaklaşık toplam sayı
+}
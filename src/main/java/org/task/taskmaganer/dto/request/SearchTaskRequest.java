@@ -38,6 +38,9 @@ public class SearchTaskRequest {
     @Schema(description = "Oluşturulma tarihi bitiş filtresi", example = "2024-12-31T23:59:59")
     private LocalDateTime createdAtTo;
 
+    @Schema(description = "Yazım hatalarına toleranslı (trigram benzerliği) arama", example = "false")
+    private Boolean fuzzy;
+
     public SearchTaskRequest() {}
 
     public String getSearchQuery() {
@@ -112,6 +115,14 @@ public class SearchTaskRequest {
         this.createdAtTo = createdAtTo;
     }
 
+    public Boolean getFuzzy() {
+        return fuzzy;
+    }
+
+    public void setFuzzy(Boolean fuzzy) {
+        this.fuzzy = fuzzy;
+    }
+
     /**
      * Bu request'i TaskFilterCriteria'ya dönüştürür.
      * Clean Code: Conversion logic tek yerde toplanmış.
@@ -126,7 +137,8 @@ public class SearchTaskRequest {
                 dueDateFrom,
                 dueDateTo,
                 createdAtFrom,
-                createdAtTo
+                createdAtTo,
+                Boolean.TRUE.equals(fuzzy)
         );
     }
 }
@@ -0,0 +1,59 @@
+package org.task.taskmaganer.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Toplu işlemlerde hedef görevleri seçer: ya id listesi ya da arama filtresi verilir.
+ */
+@Schema(description = "Toplu işlem için görev seçimi (ids veya filter)")
+public class TaskSelectionRequest {
+
+    @Schema(description = "Görev ID'leri (en fazla tasks.bulk.max-size adet)",
+            example = "[\"550e8400-e29b-41d4-a716-446655440000\"]")
+    private List<UUID> ids;
+
+    @Valid
+    @Schema(description = "Arama filtresi; en az bir kriter içermelidir")
+    private SearchTaskRequest filter;
+
+    public TaskSelectionRequest() {
+    }
+
+    public TaskSelectionRequest(List<UUID> ids, SearchTaskRequest filter) {
+        this.ids = ids;
+        this.filter = filter;
+    }
+
+    public List<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<UUID> ids) {
+        this.ids = ids;
+    }
+
+    public SearchTaskRequest getFilter() {
+        return filter;
+    }
+
+    public void setFilter(SearchTaskRequest filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        TaskSelectionRequest that = (TaskSelectionRequest) o;
+        return Objects.equals(ids, that.ids) && Objects.equals(filter, that.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ids, filter);
+    }
+}
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.task.taskmaganer.entity.Role;
 
 import java.util.Objects;
 
@@ -32,14 +33,23 @@ public class UpdateUserRequest {
     @Schema(description = "Kullanıcı aktiflik durumu", example = "true")
     private Boolean isActive;
     
+    @Schema(description = "Kullanıcı rolü (sadece ADMIN değiştirebilir, boş bırakılırsa değişmez)", example = "USER")
+    private Role role;
+    
     public UpdateUserRequest() {}
     
     public UpdateUserRequest(String firstName, String lastName, String email, String password, Boolean isActive) {
+        this(firstName, lastName, email, password, isActive, null);
+    }
+    
+    public UpdateUserRequest(String firstName, String lastName, String email, String password, Boolean isActive,
+                             Role role) {
         this.firstName = firstName;
         this.lastName = lastName;
         this.email = email;
         this.password = password;
         this.isActive = isActive;
+        this.role = role;
     }
     
     public String getFirstName() {
@@ -82,6 +92,14 @@ public class UpdateUserRequest {
         this.isActive = isActive;
     }
     
+    public Role getRole() {
+        return role;
+    }
+    
+    public void setRole(Role role) {
+        this.role = role;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
@@ -90,11 +108,12 @@ public class UpdateUserRequest {
                Objects.equals(lastName, that.lastName) && 
                Objects.equals(email, that.email) && 
                Objects.equals(password, that.password) && 
-               Objects.equals(isActive, that.isActive);
+               Objects.equals(isActive, that.isActive) && 
+               role == that.role;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(firstName, lastName, email, password, isActive);
+        return Objects.hash(firstName, lastName, email, password, isActive, role);
     }
 }
\ No newline at end of file
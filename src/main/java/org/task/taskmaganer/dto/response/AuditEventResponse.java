@@ -0,0 +1,136 @@
+package org.task.taskmaganer.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Audit event yanıt modeli")
+public class AuditEventResponse {
+
+    @Schema(description = "Event ID'si", example = "550e8400-e29b-41d4-a716-446655440000")
+    private String id;
+
+    @Schema(description = "Aksiyon", example = "CREATE_TASK")
+    private String action;
+
+    @Schema(description = "Entity tipi", example = "TASK")
+    private String entityType;
+
+    @Schema(description = "Entity ID'si", example = "550e8400-e29b-41d4-a716-446655440000")
+    private String entityId;
+
+    @Schema(description = "İşlemi yapan kullanıcı", example = "system")
+    private String userId;
+
+    @Schema(description = "Audit mesajı")
+    private String message;
+
+    @Schema(description = "İşlem başarılı mı", example = "true")
+    private boolean success;
+
+    @Schema(description = "Çalışma süresi (ms)", example = "12")
+    private Long executionTimeMs;
+
+    @Schema(description = "Event zamanı", example = "2024-01-15T10:30:00")
+    private LocalDateTime occurredAt;
+
+    @Schema(description = "Event'i üreten isteğin korelasyon ID'si (X-Correlation-Id)", example = "3f2a9c1e7b4d4e0a")
+    private String correlationId;
+
+    public AuditEventResponse() {}
+
+    public AuditEventResponse(String id, String action, String entityType, String entityId, String userId,
+                              String message, boolean success, Long executionTimeMs, LocalDateTime occurredAt,
+                              String correlationId) {
+        this.id = id;
+        this.action = action;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.userId = userId;
+        this.message = message;
+        this.success = success;
+        this.executionTimeMs = executionTimeMs;
+        this.occurredAt = occurredAt;
+        this.correlationId = correlationId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(String entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public Long getExecutionTimeMs() {
+        return executionTimeMs;
+    }
+
+    public void setExecutionTimeMs(Long executionTimeMs) {
+        this.executionTimeMs = executionTimeMs;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public void setCorrelationId(String correlationId) {
+        this.correlationId = correlationId;
+    }
+}
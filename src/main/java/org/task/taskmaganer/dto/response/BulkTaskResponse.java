@@ -0,0 +1,51 @@
+package org.task.taskmaganer.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Toplu işlem yanıt modeli")
+public class BulkTaskResponse {
+
+    @Schema(description = "İstekteki öğe sayısı", example = "100")
+    private int requested;
+
+    @Schema(description = "Başarılı öğe sayısı", example = "98")
+    private int succeeded;
+
+    @Schema(description = "Başarısız öğe sayısı", example = "2")
+    private int failed;
+
+    @Schema(description = "İstek sırasıyla öğe sonuçları")
+    private List<BulkTaskResult> results;
+
+    public BulkTaskResponse() {
+    }
+
+    public BulkTaskResponse(List<BulkTaskResult> results) {
+        this.results = results;
+        this.requested = results.size();
+        this.failed = (int) results.stream().filter(result -> result.getStatus() == BulkTaskResult.Status.FAILED).count();
+        this.succeeded = requested - failed;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<BulkTaskResult> getResults() {
+        return results;
+    }
+
+    public boolean hasFailures() {
+        return failed > 0;
+    }
+}
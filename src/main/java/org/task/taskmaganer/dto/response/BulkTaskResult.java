@@ -0,0 +1,63 @@
+package org.task.taskmaganer.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Toplu işlemde tek bir öğenin sonucu. {@code index} istekteki sırayı gösterir.
+ */
+@Schema(description = "Toplu işlemde tek bir öğenin sonucu")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkTaskResult {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    @Schema(description = "İstekteki sıra numarası (0'dan başlar)", example = "0")
+    private int index;
+
+    @Schema(description = "Öğenin sonucu", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "Oluşturulan görev (başarılıysa)")
+    private TaskResponse task;
+
+    @Schema(description = "Hata mesajı (başarısızsa)", example = "User not found with id: 550e8400-e29b-41d4-a716-446655440000")
+    private String error;
+
+    public BulkTaskResult() {
+    }
+
+    private BulkTaskResult(int index, Status status, TaskResponse task, String error) {
+        this.index = index;
+        this.status = status;
+        this.task = task;
+        this.error = error;
+    }
+
+    public static BulkTaskResult created(int index, TaskResponse task) {
+        return new BulkTaskResult(index, Status.CREATED, task, null);
+    }
+
+    public static BulkTaskResult failed(int index, String error) {
+        return new BulkTaskResult(index, Status.FAILED, null, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public TaskResponse getTask() {
+        return task;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,21 @@
+package org.task.taskmaganer.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Toplu güncelleme yanıt modeli")
+public class BulkUpdateResponse {
+
+    @Schema(description = "Değişen görev sayısı (zaten hedef değerde olanlar sayılmaz)", example = "4987")
+    private int affected;
+
+    public BulkUpdateResponse() {
+    }
+
+    public BulkUpdateResponse(int affected) {
+        this.affected = affected;
+    }
+
+    public int getAffected() {
+        return affected;
+    }
+}
@@ -1,7 +1,9 @@
 package org.task.taskmaganer.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -32,6 +34,13 @@ public class PageResponse<T> {
     @Schema(description = "Boş mu?", example = "false")
     private boolean empty;
 
+    @Schema(description = "Keyset modunda bir sonraki sayfanın imleci (son sayfada yok)", example = "Y3JlYXRlZEF0fERFU0N8...")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    @Schema(description = "totalElements planner istatistiklerinden okunan yaklaşık bir değer mi?", example = "false")
+    private boolean totalApproximate;
+
     public PageResponse() {}
 
     public PageResponse(Page<T> page) {
@@ -56,6 +65,41 @@ public class PageResponse<T> {
         this.empty = empty;
     }
 
+    /**
+     * Keyset (cursor) sayfası oluşturur. Toplam sayı hesaplanmadığı için
+     * totalElements ve totalPages -1 döner.
+     */
+    public static <T> PageResponse<T> keyset(List<T> content, int pageSize, boolean first, String nextCursor) {
+        PageResponse<T> response = new PageResponse<>(content, 0, pageSize, -1, -1,
+                nextCursor == null, first, content.isEmpty());
+        response.nextCursor = nextCursor;
+        return response;
+    }
+
+    /**
+     * COUNT(*) çalıştırılmadan oluşturulan sayfa. Toplam sayı bilinmediği için
+     * totalElements ve totalPages -1 döner; "last" alanı size+1 okumadan gelir.
+     */
+    public static <T> PageResponse<T> slice(Slice<T> slice) {
+        return new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), -1, -1,
+                slice.isLast(), slice.isFirst(), slice.isEmpty());
+    }
+
+    /**
+     * Slice + yaklaşık toplam sayı. Tahmin, mevcut sayfanın gösterdiği alt sınırdan
+     * küçükse alt sınır kullanılır.
+     */
+    public static <T> PageResponse<T> estimated(Slice<T> slice, long estimatedTotal) {
+        long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        long total = Math.max(estimatedTotal, seen);
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / slice.getSize());
+
+        PageResponse<T> response = new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(),
+                total, totalPages, slice.isLast(), slice.isFirst(), slice.isEmpty());
+        response.totalApproximate = true;
+        return response;
+    }
+
     public List<T> getContent() {
         return content;
     }
@@ -119,4 +163,20 @@ public class PageResponse<T> {
     public void setEmpty(boolean empty) {
         this.empty = empty;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+
+    public void setTotalApproximate(boolean totalApproximate) {
+        this.totalApproximate = totalApproximate;
+    }
 }
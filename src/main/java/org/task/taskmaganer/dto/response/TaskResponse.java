@@ -2,9 +2,12 @@ package org.task.taskmaganer.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.UUID;
 
 @Schema(description = "Görev yanıt modeli")
 public class TaskResponse {
@@ -55,6 +58,16 @@ public class TaskResponse {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * JPQL/Criteria constructor expression'ları için: entity yüklenmeden doğrudan
+     * kolon değerlerinden oluşturulur (bkz. TaskRepository).
+     */
+    public TaskResponse(UUID id, String title, String description, TaskPriority priority, TaskStatus status,
+                        UUID userId, String username, Boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id.toString(), title, description, priority.name(), status.name(),
+                userId.toString(), username, isActive, createdAt, updatedAt);
+    }
+
     public TaskResponse(Task task) {
         this.id = task.getId().toString();
         this.title = task.getTitle();
@@ -0,0 +1,93 @@
+package org.task.taskmaganer.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Schema(description = "Görev istatistikleri yanıt modeli")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskStatsResponse {
+
+    @Schema(description = "Kullanıcı ID'si (tüm görevler için boş)", example = "550e8400-e29b-41d4-a716-446655440000")
+    private String userId;
+
+    @Schema(description = "Toplam görev sayısı (pasifler dahil)", example = "1250")
+    private long total;
+
+    @Schema(description = "Aktif görev sayısı", example = "1100")
+    private long active;
+
+    @Schema(description = "Duruma göre görev sayıları (pasifler dahil)")
+    private final Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+
+    @Schema(description = "Önceliğe göre görev sayıları (pasifler dahil)")
+    private final Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+
+    @Schema(description = "Duruma göre aktif görev sayıları")
+    private final Map<TaskStatus, Long> activeByStatus = new EnumMap<>(TaskStatus.class);
+
+    @Schema(description = "Önceliğe göre aktif görev sayıları")
+    private final Map<TaskPriority, Long> activeByPriority = new EnumMap<>(TaskPriority.class);
+
+    public TaskStatsResponse() {
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+            activeByStatus.put(status, 0L);
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, 0L);
+            activeByPriority.put(priority, 0L);
+        }
+    }
+
+    public TaskStatsResponse(String userId) {
+        this();
+        this.userId = userId;
+    }
+
+    /**
+     * Bir sayaç hücresini toplamlara ekler.
+     */
+    public void add(TaskStatus status, TaskPriority priority, boolean isActive, long count) {
+        total += count;
+        byStatus.merge(status, count, Long::sum);
+        byPriority.merge(priority, count, Long::sum);
+        if (isActive) {
+            active += count;
+            activeByStatus.merge(status, count, Long::sum);
+            activeByPriority.merge(priority, count, Long::sum);
+        }
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getActive() {
+        return active;
+    }
+
+    public Map<TaskStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public Map<TaskPriority, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public Map<TaskStatus, Long> getActiveByStatus() {
+        return activeByStatus;
+    }
+
+    public Map<TaskPriority, Long> getActiveByPriority() {
+        return activeByPriority;
+    }
+}
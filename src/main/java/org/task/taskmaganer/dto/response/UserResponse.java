@@ -1,10 +1,12 @@
 package org.task.taskmaganer.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.task.taskmaganer.entity.Role;
 import org.task.taskmaganer.entity.User;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.UUID;
 
 @Schema(description = "Kullanıcı yanıt modeli")
 public class UserResponse {
@@ -50,6 +52,16 @@ public class UserResponse {
         this.updatedAt = updatedAt;
     }
     
+    /**
+     * JPQL/Criteria constructor expression'ları için: entity yüklenmeden doğrudan
+     * kolon değerlerinden oluşturulur (bkz. UserRepositoryCustom).
+     */
+    public UserResponse(UUID id, String username, String email, String firstName, String lastName,
+                        Role role, Boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id.toString(), username, email, firstName, lastName, isActive, createdAt, updatedAt);
+        this.role = role != null ? role.name() : "USER";
+    }
+    
     public UserResponse(User user) {
         this.id = user.getId().toString();
         this.username = user.getUsername();
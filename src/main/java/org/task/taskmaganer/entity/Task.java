@@ -1,6 +1,8 @@
 package org.task.taskmaganer.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,8 +12,19 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "tasks")
+@NamedEntityGraph(name = Task.WITH_USER, attributeNodes = @NamedAttributeNode(Task.Fields.user))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
 public class Task {
 
+    public static final String CACHE_REGION = "tasks";
+
+    /**
+     * Kullanıcıyı aynı sorguda (join) getiren fetch planı; yanıtta username gereken
+     * entity okumalarında kullanılır. Varsayılan olarak user lazy yüklenir.
+     */
+    public static final String WITH_USER = "Task.withUser";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -30,7 +43,7 @@ public class Task {
     @Enumerated(EnumType.STRING)
     private TaskStatus status;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -48,6 +61,13 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Cache'ten okunmuş eski bir kopyayla yapılan yazma OptimisticLockException ile reddedilir.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public static final class Fields {
         public static final String id = "id";
         public static final String title = "title";
@@ -59,6 +79,7 @@ public class Task {
         public static final String isActive = "isActive";
         public static final String createdAt = "createdAt";
         public static final String updatedAt = "updatedAt";
+        public static final String version = "version";
 
         private Fields() {
             // Utility class
@@ -157,6 +178,10 @@ public class Task {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
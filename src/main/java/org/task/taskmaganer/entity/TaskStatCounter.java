@@ -0,0 +1,36 @@
+package org.task.taskmaganer.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Bir kullanıcının belirli durum/öncelik/aktiflik kombinasyonundaki görev sayısı.
+ * <p>
+ * Satırlar görevle aynı transaction'da SQL ile artırılıp azaltılır
+ * (bkz. {@code TaskStatCounterRepositoryCustom}); entity sadece okuma içindir.
+ */
+@Entity
+@Immutable
+@Table(name = "task_stat_counters")
+public class TaskStatCounter {
+
+    @EmbeddedId
+    private TaskStatsKey id;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    protected TaskStatCounter() {
+    }
+
+    public TaskStatsKey getId() {
+        return id;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+}
@@ -0,0 +1,110 @@
+package org.task.taskmaganer.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Görev sayaçlarının anahtarı: kullanıcı + durum + öncelik + aktiflik.
+ * Bir görev her an tam olarak bir anahtara sayılır.
+ */
+@Embeddable
+public class TaskStatsKey implements Serializable {
+
+    /**
+     * Sayaç satırlarını her transaction'da aynı sırayla kilitlemek için (deadlock önleme).
+     */
+    public static final Comparator<TaskStatsKey> LOCK_ORDER = Comparator
+            .comparing(TaskStatsKey::getUserId)
+            .thenComparing(TaskStatsKey::getStatus)
+            .thenComparing(TaskStatsKey::getPriority)
+            .thenComparing(TaskStatsKey::getIsActive);
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Column(name = "priority", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    protected TaskStatsKey() {
+    }
+
+    public TaskStatsKey(UUID userId, TaskStatus status, TaskPriority priority, boolean isActive) {
+        this.userId = userId;
+        this.status = status;
+        this.priority = priority;
+        this.isActive = isActive;
+    }
+
+    public static TaskStatsKey of(Task task) {
+        return new TaskStatsKey(task.getUser().getId(), task.getStatus(), task.getPriority(),
+                Boolean.TRUE.equals(task.getIsActive()));
+    }
+
+    /**
+     * Null olmayan değerleri değiştirilmiş kopya.
+     */
+    public TaskStatsKey with(TaskStatus status, TaskPriority priority) {
+        return new TaskStatsKey(userId, status != null ? status : this.status,
+                priority != null ? priority : this.priority, isActive);
+    }
+
+    public TaskStatsKey deactivated() {
+        return new TaskStatsKey(userId, status, priority, false);
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public Boolean getIsActive() {
+        return isActive;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TaskStatsKey that)) return false;
+        return Objects.equals(userId, that.userId) &&
+                status == that.status &&
+                priority == that.priority &&
+                Objects.equals(isActive, that.isActive);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, status, priority, isActive);
+    }
+
+    @Override
+    public String toString() {
+        return "TaskStatsKey{" +
+                "userId=" + userId +
+                ", status=" + status +
+                ", priority=" + priority +
+                ", isActive=" + isActive +
+                '}';
+    }
+}
@@ -1,6 +1,8 @@
 package org.task.taskmaganer.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
@@ -14,8 +16,12 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 public class User implements UserDetails {
 
+    public static final String CACHE_REGION = "users";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -42,6 +48,9 @@ public class User implements UserDetails {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -50,6 +59,31 @@ public class User implements UserDetails {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Cache'ten okunmuş eski bir kopyayla yapılan yazma OptimisticLockException ile reddedilir.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public static final class Fields {
+        public static final String id = "id";
+        public static final String username = "username";
+        public static final String email = "email";
+        public static final String firstName = "firstName";
+        public static final String lastName = "lastName";
+        public static final String role = "role";
+        public static final String isActive = "isActive";
+        public static final String tokenVersion = "tokenVersion";
+        public static final String createdAt = "createdAt";
+        public static final String updatedAt = "updatedAt";
+        public static final String version = "version";
+
+        private Fields() {
+            // Utility class
+        }
+    }
+
     public User() {
     }
 
@@ -154,6 +188,14 @@ public class User implements UserDetails {
         this.isActive = isActive;
     }
 
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(Integer tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -169,4 +211,8 @@ public class User implements UserDetails {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
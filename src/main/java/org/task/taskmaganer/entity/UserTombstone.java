@@ -0,0 +1,44 @@
+package org.task.taskmaganer.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Kalıcı olarak silinen kullanıcının kaydı.
+ * <p>
+ * Silinen satır users tablosunda kalmadığı için diğer node'ların token iptal kayıtları
+ * silmeyi bu tablodan okur. Kayıtlar token ömrü dolduktan sonra temizlenir.
+ */
+@Entity
+@Table(name = "user_tombstones")
+public class UserTombstone {
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @CreationTimestamp
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    protected UserTombstone() {
+    }
+
+    public UserTombstone(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
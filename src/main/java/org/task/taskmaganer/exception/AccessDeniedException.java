@@ -1,9 +1,13 @@
 package org.task.taskmaganer.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
 /**
  * Yetkisiz erişim için kullanılan exception.
  * HTTP 403 Forbidden döner.
  */
+@ResponseStatus(HttpStatus.FORBIDDEN)
 public class AccessDeniedException extends RuntimeException {
     
     public AccessDeniedException(String message) {
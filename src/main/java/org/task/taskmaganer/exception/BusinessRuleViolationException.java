@@ -1,11 +1,15 @@
 package org.task.taskmaganer.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
 import java.util.UUID;
 
 /**
  * İş kurallarının ihlali durumunda kullanılan exception.
  * HTTP 422 Unprocessable Entity döner.
  */
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
 public class BusinessRuleViolationException extends RuntimeException {
     
     private final String ruleCode;
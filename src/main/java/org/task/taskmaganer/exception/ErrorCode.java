@@ -22,6 +22,7 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED("METHOD_NOT_ALLOWED", HttpStatus.METHOD_NOT_ALLOWED, "The HTTP method is not supported for this endpoint"),
     UNSUPPORTED_MEDIA_TYPE("UNSUPPORTED_MEDIA_TYPE", HttpStatus.UNSUPPORTED_MEDIA_TYPE, "The content type is not supported"),
     CONSTRAINT_VIOLATION("CONSTRAINT_VIOLATION", HttpStatus.BAD_REQUEST, "A constraint violation occurred"),
+    CONCURRENT_MODIFICATION("CONCURRENT_MODIFICATION", HttpStatus.CONFLICT, "The resource was modified by another request"),
 
     // 5xx Server Errors
     INTERNAL_SERVER_ERROR("INTERNAL_SERVER_ERROR", HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred"),
@@ -6,6 +6,7 @@ import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 import org.task.taskmaganer.dto.response.ErrorResponse;
 
 import java.util.HashMap;
@@ -68,6 +70,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    /**
+     * {@code @Version} uyuşmazlığı: kayıt okunduktan (veya cache'e girdikten) sonra
+     * başka bir istek tarafından değiştirilmiş. İstemci kaydı yeniden okuyup tekrar denemelidir.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn(ERROR_LOG_TEMPLATE, ErrorCode.CONCURRENT_MODIFICATION.getCode(), request.getRequestURI(), ex.getMessage());
+
+        ErrorResponse response = buildErrorResponse(
+                ErrorCode.CONCURRENT_MODIFICATION,
+                ErrorCode.CONCURRENT_MODIFICATION.getDefaultMessage(),
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(InvalidRequestException.class)
     public ResponseEntity<ErrorResponse> handleInvalidRequestException(
             InvalidRequestException ex, HttpServletRequest request) {
@@ -199,6 +218,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    /**
+     * Eşleşen controller yoksa istek statik kaynak olarak aranır; bulunamayan yol 404'tür.
+     * Koşullu yüklenen endpoint'ler (ör. {@code /audit-events}) kapalıyken de bu yola düşer.
+     */
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNoResourceFound(
+            NoResourceFoundException ex, HttpServletRequest request) {
+        log.warn("No handler found - Path: {}, Method: {}", request.getRequestURI(), ex.getHttpMethod());
+
+        ErrorResponse response = buildErrorResponse(
+                ErrorCode.RESOURCE_NOT_FOUND,
+                "The endpoint '" + request.getRequestURI() + "' does not exist.",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
     @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
     public ResponseEntity<ErrorResponse> handleMediaTypeNotSupported(
             HttpMediaTypeNotSupportedException ex, HttpServletRequest request) {
@@ -1,9 +1,13 @@
 package org.task.taskmaganer.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
 /**
  * Geçersiz istek parametreleri veya formatı için kullanılan exception.
  * HTTP 400 Bad Request döner.
  */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
 public class InvalidRequestException extends RuntimeException {
     
     private final String field;
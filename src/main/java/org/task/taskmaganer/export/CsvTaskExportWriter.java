@@ -0,0 +1,94 @@
+package org.task.taskmaganer.export;
+
+import org.task.taskmaganer.dto.response.TaskResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 uyumlu CSV yazar. Virgül, tırnak veya satır sonu içeren alanlar tırnaklanır;
+ * tablolama programlarında formül olarak çalıştırılmaması için =, +, - veya @ ile
+ * başlayan metin alanlarının başına ' eklenir.
+ */
+class CsvTaskExportWriter implements ExportWriter<TaskResponse> {
+
+    private static final String HEADER =
+            "id,title,description,priority,status,userId,username,isActive,createdAt,updatedAt";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    CsvTaskExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(TaskResponse task) throws IOException {
+        writer.write(task.getId());
+        writer.write(',');
+        writeText(task.getTitle());
+        writer.write(',');
+        writeText(task.getDescription());
+        writer.write(',');
+        writer.write(task.getPriority());
+        writer.write(',');
+        writer.write(task.getStatus());
+        writer.write(',');
+        writer.write(task.getUserId());
+        writer.write(',');
+        writeText(task.getUsername());
+        writer.write(',');
+        writer.write(String.valueOf(task.getIsActive()));
+        writer.write(',');
+        writeValue(task.getCreatedAt());
+        writer.write(',');
+        writeValue(task.getUpdatedAt());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Response stream'i container kapatır; burada sadece tampon boşaltılır
+        writer.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    private void writeText(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String text = isFormulaPrefix(value.charAt(0)) ? "'" + value : value;
+        if (!needsQuoting(text)) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean isFormulaPrefix(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@';
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
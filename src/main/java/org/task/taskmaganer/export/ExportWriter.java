@@ -0,0 +1,32 @@
+package org.task.taskmaganer.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Dışa aktarılan satırları tek tek yazar. Satırlar tamponlanır; {@link #close()}
+ * tamponu boşaltır ama alttaki response stream'ini kapatmaz.
+ *
+ * @param <T> yazılan satır tipi (yanıt DTO'su)
+ */
+public interface ExportWriter<T> extends Closeable {
+
+    void write(T row) throws IOException;
+
+    /**
+     * Stream'deki tüm satırları okundukça yazar.
+     *
+     * @return yazılan satır sayısı
+     */
+    default long writeAll(Stream<? extends T> rows) throws IOException {
+        long count = 0;
+        Iterator<? extends T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            write(iterator.next());
+            count++;
+        }
+        return count;
+    }
+}
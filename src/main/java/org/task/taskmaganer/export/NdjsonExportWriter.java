@@ -0,0 +1,41 @@
+package org.task.taskmaganer.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Her satırı bir satıra tek bir JSON nesnesi olarak yazar (newline-delimited JSON).
+ * Tek bir generator kullanılır; satır başına ara String/byte[] üretilmez ve her satırda
+ * flush yapılmaz, generator tamponu dolduğunda stream'e yazılır.
+ */
+public class NdjsonExportWriter<T> implements ExportWriter<T> {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+
+    public NdjsonExportWriter(OutputStream out, ObjectMapper objectMapper, Class<T> type) throws IOException {
+        this.objectWriter = objectMapper.writerFor(type)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .setPrettyPrinter(new MinimalPrettyPrinter(""));
+    }
+
+    @Override
+    public void write(T row) throws IOException {
+        objectWriter.writeValue(generator, row);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
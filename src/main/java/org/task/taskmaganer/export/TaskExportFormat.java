@@ -0,0 +1,39 @@
+package org.task.taskmaganer.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.task.taskmaganer.dto.response.TaskResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Desteklenen dışa aktarma formatları.
+ */
+public enum TaskExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    TaskExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public ExportWriter<TaskResponse> open(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonExportWriter<>(out, objectMapper, TaskResponse.class);
+            case CSV -> new CsvTaskExportWriter(out);
+        };
+    }
+}
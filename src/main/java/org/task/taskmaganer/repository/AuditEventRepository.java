@@ -0,0 +1,147 @@
+package org.task.taskmaganer.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.task.taskmaganer.aspect.AuditEvent;
+import org.task.taskmaganer.dto.request.AuditEventFilter;
+import org.task.taskmaganer.dto.response.AuditEventResponse;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * audit_events tablosu için JDBC erişimi.
+ * <p>
+ * Yazma yolu JPA'yı bypass eder: event'ler tek bir {@code batchUpdate} ile yazılır,
+ * persistence context ve dirty-checking maliyeti yoktur. Okuma yolu filtreleri
+ * indekslerle uyumlu olacak şekilde native SQL olarak üretir. Tablo sadece Flyway ile
+ * oluşturulduğu için bean {@code audit.persistence.enabled=true} iken vardır.
+ */
+@Repository
+@ConditionalOnProperty(name = "audit.persistence.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditEventRepository {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_events
+                (id, action, entity_type, entity_id, user_id, message, success, execution_time_ms, occurred_at,
+                 correlation_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, action, entity_type, entity_id, user_id, message, success, execution_time_ms, occurred_at,"
+                    + " correlation_id";
+
+    private static final RowMapper<AuditEventResponse> ROW_MAPPER = (rs, rowNum) -> new AuditEventResponse(
+            rs.getString("id"),
+            rs.getString("action"),
+            rs.getString("entity_type"),
+            rs.getString("entity_id"),
+            rs.getString("user_id"),
+            rs.getString("message"),
+            rs.getBoolean("success"),
+            rs.getObject("execution_time_ms", Long.class),
+            rs.getTimestamp("occurred_at").toLocalDateTime(),
+            rs.getString("correlation_id")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public AuditEventRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Event'leri tek bir JDBC batch'i ile yazar.
+     */
+    public void batchInsert(List<AuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setString(2, event.action());
+            ps.setString(3, event.entityType());
+            ps.setString(4, event.entityId());
+            ps.setString(5, event.userId());
+            ps.setString(6, event.message());
+            ps.setBoolean(7, event.success());
+            ps.setObject(8, event.executionTime(), Types.BIGINT);
+            ps.setTimestamp(9, Timestamp.from(event.occurredAt()));
+            ps.setString(10, event.correlationId());
+        });
+    }
+
+    public Page<AuditEventResponse> findAll(AuditEventFilter filter, Pageable pageable) {
+        List<Object> params = new ArrayList<>();
+        String where = buildWhereClause(filter, params);
+
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM audit_events" + where, Long.class, params.toArray());
+
+        List<Object> pageParams = new ArrayList<>(params);
+        pageParams.add(pageable.getPageSize());
+        pageParams.add(pageable.getOffset());
+        List<AuditEventResponse> content = jdbcTemplate.query(
+                SELECT_COLUMNS + " FROM audit_events" + where + " ORDER BY occurred_at DESC, id DESC LIMIT ? OFFSET ?",
+                ROW_MAPPER, pageParams.toArray());
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0);
+    }
+
+    /**
+     * Verilen ayın partition'ını yoksa oluşturur. Sadece PostgreSQL'de anlamlıdır.
+     */
+    public void createMonthlyPartition(LocalDate month) {
+        if (!isPostgres()) {
+            return;
+        }
+        LocalDate start = month.withDayOfMonth(1);
+        LocalDate end = start.plusMonths(1);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS audit_events_" + start.format(PARTITION_SUFFIX)
+                + " PARTITION OF audit_events FOR VALUES FROM ('" + start + "') TO ('" + end + "')");
+    }
+
+    private String buildWhereClause(AuditEventFilter filter, List<Object> params) {
+        List<String> conditions = new ArrayList<>();
+        addCondition(conditions, params, "entity_type = ?", filter.entityType());
+        addCondition(conditions, params, "entity_id = ?", filter.entityId());
+        addCondition(conditions, params, "user_id = ?", filter.userId());
+        addCondition(conditions, params, "correlation_id = ?", filter.correlationId());
+        // occurred_at aralığı partition pruning'i tetikler
+        addCondition(conditions, params, "occurred_at >= ?", filter.from());
+        addCondition(conditions, params, "occurred_at < ?", filter.to());
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private void addCondition(List<String> conditions, List<Object> params, String condition, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            params.add(value);
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            postgres = POSTGRESQL.equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+}
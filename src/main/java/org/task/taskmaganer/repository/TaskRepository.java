@@ -1,13 +1,21 @@
 package org.task.taskmaganer.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.task.taskmaganer.dto.response.TaskResponse;
 import org.task.taskmaganer.entity.Task;
 import org.task.taskmaganer.entity.TaskPriority;
 import org.task.taskmaganer.entity.TaskStatus;
@@ -15,37 +23,109 @@ import org.task.taskmaganer.entity.TaskStatus;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Okuma (liste/detay) sorguları {@link TaskResponse} constructor expression'ı ile sadece
+ * yanıttaki kolonları seçer: entity ve User yüklenmez, persistence context'e bir şey
+ * eklenmez, dirty checking yapılmaz. COUNT sorguları users tablosuna join etmez.
+ * <p>
+ * {@code Task.user} lazy'dir; entity döndüren ve kullanıcıya ihtiyaç duyan metodlar
+ * {@link Task#WITH_USER} fetch planı ile kullanıcıyı aynı sorguda getirir (N+1 yok).
+ * <p>
+ * Second-level cache açıkken {@link #findById(UUID)} önce entity cache'ine bakar. Sadece
+ * enum filtreli liste sorguları (ve COUNT'ları) query cache'e alınır: değer sayısı az
+ * olduğu için isabet oranı yüksektir. Tasks veya users tablosuna yapılan her yazma bu
+ * sonuçları geçersiz kılar.
+ */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>, TaskRepositoryCustom {
 
-    Page<Task> findByStatus(TaskStatus status, Pageable pageable);
+    String SELECT_RESPONSE = "SELECT new org.task.taskmaganer.dto.response.TaskResponse("
+            + "t.id, t.title, t.description, t.priority, t.status, u.id, u.username, t.isActive, t.createdAt, t.updatedAt) "
+            + "FROM Task t JOIN t.user u ";
 
-    Page<Task> findByPriority(TaskPriority priority, Pageable pageable);
+    String COUNT = "SELECT count(t) FROM Task t ";
+
+    String ENUM_FILTER_QUERY_REGION = "task-enum-filters";
 
     boolean existsByTitle(String title);
 
-    Page<Task> findByUserId(UUID userId, Pageable pageable);
+    @Query(value = SELECT_RESPONSE, countQuery = COUNT)
+    Page<TaskResponse> findAllResponses(Pageable pageable);
+
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ENUM_FILTER_QUERY_REGION)
+    }, forCounting = true)
+    @Query(value = SELECT_RESPONSE + "WHERE t.status = :status",
+            countQuery = COUNT + "WHERE t.status = :status")
+    Page<TaskResponse> findByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ENUM_FILTER_QUERY_REGION)
+    }, forCounting = true)
+    @Query(value = SELECT_RESPONSE + "WHERE t.priority = :priority",
+            countQuery = COUNT + "WHERE t.priority = :priority")
+    Page<TaskResponse> findByPriority(@Param("priority") TaskPriority priority, Pageable pageable);
+
+    @Query(value = SELECT_RESPONSE + "WHERE t.user.id = :userId",
+            countQuery = COUNT + "WHERE t.user.id = :userId")
+    Page<TaskResponse> findByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(value = SELECT_RESPONSE + "WHERE t.user.id = :userId AND t.isActive = true",
+            countQuery = COUNT + "WHERE t.user.id = :userId AND t.isActive = true")
+    Page<TaskResponse> findActiveTasksByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(value = SELECT_RESPONSE + "WHERE t.user.id = :userId AND t.status = :status",
+            countQuery = COUNT + "WHERE t.user.id = :userId AND t.status = :status")
+    Page<TaskResponse> findByUserIdAndStatus(@Param("userId") UUID userId, @Param("status") TaskStatus status, Pageable pageable);
 
-    @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.isActive = true")
-    Page<Task> findActiveTasksByUserId(@Param("userId") UUID userId, Pageable pageable);
+    @Query(value = SELECT_RESPONSE + "WHERE t.user.id = :userId AND t.priority = :priority",
+            countQuery = COUNT + "WHERE t.user.id = :userId AND t.priority = :priority")
+    Page<TaskResponse> findByUserIdAndPriority(@Param("userId") UUID userId, @Param("priority") TaskPriority priority, Pageable pageable);
 
-    @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.status = :status")
-    Page<Task> findByUserIdAndStatus(@Param("userId") UUID userId, @Param("status") TaskStatus status, Pageable pageable);
+    /**
+     * Cache'te yoksa kullanıcıyla birlikte tek sorguda yükler; yanıtta username döner.
+     */
+    @Override
+    @EntityGraph(Task.WITH_USER)
+    Optional<Task> findById(UUID id);
 
-    @Query("SELECT t FROM Task t WHERE t.user.id = :userId AND t.priority = :priority")
-    Page<Task> findByUserIdAndPriority(@Param("userId") UUID userId, @Param("priority") TaskPriority priority, Pageable pageable);
+    /**
+     * Görevi değiştirmeden önce satırı kilitler (SELECT ... FOR UPDATE) ve cache'e bakmadan
+     * okur. Aynı görevi değiştiren eşzamanlı istekler sırayla çalışır; sayaç anahtarı
+     * kilitli satırdan alındığı için iki istek aynı eski durumu saymaz.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"))
+    @EntityGraph(Task.WITH_USER)
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findByIdForUpdate(@Param("id") UUID id);
 
+    @EntityGraph(Task.WITH_USER)
     @Query("SELECT t FROM Task t WHERE t.isActive = true AND t.id = :id")
     Optional<Task> findActiveTaskById(@Param("id") UUID id);
 
-    @Query("SELECT t FROM Task t WHERE t.isActive = true")
-    Page<Task> findAllActiveTasks(Pageable pageable);
+    @Query(value = SELECT_RESPONSE + "WHERE t.isActive = true",
+            countQuery = COUNT + "WHERE t.isActive = true")
+    Page<TaskResponse> findAllActiveTasks(Pageable pageable);
 
-    @Query("SELECT t FROM Task t WHERE t.isActive = true AND t.status = :status")
-    Page<Task> findAllActiveTasksByStatus(@Param("status") TaskStatus status, Pageable pageable);
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ENUM_FILTER_QUERY_REGION)
+    }, forCounting = true)
+    @Query(value = SELECT_RESPONSE + "WHERE t.isActive = true AND t.status = :status",
+            countQuery = COUNT + "WHERE t.isActive = true AND t.status = :status")
+    Page<TaskResponse> findAllActiveTasksByStatus(@Param("status") TaskStatus status, Pageable pageable);
 
-    @Query("SELECT t FROM Task t WHERE t.isActive = true AND t.priority = :priority")
-    Page<Task> findAllActiveTasksByPriority(@Param("priority") TaskPriority priority, Pageable pageable);
+    @QueryHints(value = {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ENUM_FILTER_QUERY_REGION)
+    }, forCounting = true)
+    @Query(value = SELECT_RESPONSE + "WHERE t.isActive = true AND t.priority = :priority",
+            countQuery = COUNT + "WHERE t.isActive = true AND t.priority = :priority")
+    Page<TaskResponse> findAllActiveTasksByPriority(@Param("priority") TaskPriority priority, Pageable pageable);
 
+    @EntityGraph(Task.WITH_USER)
     Page<Task> findAll(Specification<Task> spec, Pageable pageable);
 }
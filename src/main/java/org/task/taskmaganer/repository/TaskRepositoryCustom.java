@@ -0,0 +1,83 @@
+package org.task.taskmaganer.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.task.taskmaganer.dto.response.TaskResponse;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatsKey;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.specification.TaskSpecification.TaskFilterCriteria;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Spring Data'nın türetemediği task sorguları.
+ * <p>
+ * Specification alan okuma sorguları {@link TaskResponse} projeksiyonu döner;
+ * entity yüklenmez (bkz. {@link TaskRepository}).
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Sayfa içeriği + COUNT(*).
+     */
+    Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Sayfayı size+1 satır okuyarak getirir; COUNT(*) sorgusu çalıştırmaz.
+     */
+    Slice<TaskResponse> findResponseSlice(Specification<Task> spec, Pageable pageable);
+
+    /**
+     * Verilen sıralamayla en fazla {@code limit} satır (keyset sayfalama için).
+     */
+    List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit);
+
+    /**
+     * Filtreye uyan tüm satırları forward-only cursor ile {@code fetchSize}'lık parçalar halinde
+     * okur. Açık bir transaction içinde tüketilmeli ve kapatılmalıdır.
+     */
+    Stream<TaskResponse> streamResponses(Specification<Task> spec, Sort sort, int fetchSize);
+
+    /**
+     * Filtreye uyan satır sayısını planner istatistiklerinden tahmin eder.
+     * PostgreSQL dışındaki veritabanlarında kesin sayıya düşer.
+     */
+    long estimateCount(TaskFilterCriteria criteria);
+
+    /**
+     * Yeni görevleri JDBC batch'leri halinde ekler. Her batch'ten sonra flush edilir ve
+     * sadece eklenen görevler detach edilir; dönen entity'ler detached'tır, transaction'daki
+     * diğer managed entity'lere dokunulmaz.
+     */
+    List<Task> insertAll(List<Task> tasks);
+
+    /**
+     * Seçilen görevlerin durum ve/veya önceliğini tek bir UPDATE ile değiştirir.
+     * Null değerler değiştirilmez; zaten hedef değerde olan satırlara dokunulmaz.
+     *
+     * @return değişen satır sayısı
+     */
+    int updateStatusAndPriority(Specification<Task> spec, TaskStatus status, TaskPriority priority);
+
+    /**
+     * Seçilen aktif görevleri tek bir UPDATE ile pasif yapar (soft delete).
+     *
+     * @return pasif yapılan satır sayısı
+     */
+    int deactivateAll(Specification<Task> spec);
+
+    /**
+     * Seçilen görevleri kilitler (SELECT ... FOR UPDATE) ve sayaç anahtarı başına sayar;
+     * toplu güncellemelerin sayaçlara yansıtılması için aynı transaction'da güncellemeden
+     * hemen önce çağrılır. Kilitli satırlar transaction bitene kadar başka bir istekle
+     * değişemez, sayımlar güncellemeyle tutarlı kalır.
+     */
+    Map<TaskStatsKey, Long> lockAndCountByStatsKey(Specification<Task> spec);
+}
@@ -0,0 +1,329 @@
+package org.task.taskmaganer.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.task.taskmaganer.dto.response.TaskResponse;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatsKey;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.search.TaskSearchEngine;
+import org.task.taskmaganer.search.TaskSearchEngines;
+import org.task.taskmaganer.specification.TaskSpecification;
+import org.task.taskmaganer.specification.TaskSpecification.TaskFilterCriteria;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * {@link TaskRepositoryCustom} implementasyonu.
+ * <p>
+ * Okuma sorguları Criteria API constructor expression'ı ile sadece {@link TaskResponse}
+ * kolonlarını seçer. Slice sorguları size+1 satır okur. Yaklaşık sayım PostgreSQL'de
+ * {@code EXPLAIN (FORMAT JSON)} çıktısındaki "Plan Rows" değerinden okunur; tablo
+ * taranmaz, sadece planner istatistikleri kullanılır.
+ * <p>
+ * Toplu ekleme {@code hibernate.jdbc.batch_size} büyüklüğünde parçalar halinde yapılır;
+ * UUID id'ler uygulamada üretildiği için Hibernate INSERT'leri batch'leyebilir.
+ * Toplu güncellemeler entity yüklemeden tek bir {@code UPDATE ... WHERE} çalıştırır;
+ * Hibernate bu sırada tasks cache bölgesini ve ilgili sorgu sonuçlarını geçersiz kılar.
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRepositoryCustomImpl.class);
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskSearchEngines searchEngines;
+    private final int batchSize;
+    private volatile Boolean postgres;
+
+    public TaskRepositoryCustomImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                    TaskSearchEngines searchEngines,
+                                    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.searchEngines = searchEngines;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable) {
+        List<TaskResponse> content = readResponses(spec, pageable.getSort(),
+                pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<TaskResponse> findResponseSlice(Specification<Task> spec, Pageable pageable) {
+        List<TaskResponse> rows = readResponses(spec, pageable.getSort(),
+                pageable.getOffset(), pageable.getPageSize() + 1);
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<TaskResponse> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit) {
+        return readResponses(spec, sort, 0, limit);
+    }
+
+    @Override
+    public Stream<TaskResponse> streamResponses(Specification<Task> spec, Sort sort, int fetchSize) {
+        // Projeksiyon entity olmadığı için persistence context büyümez; bellek kullanımı sabit kalır
+        return createResponseQuery(spec, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    public long estimateCount(TaskFilterCriteria criteria) {
+        if (!isPostgres()) {
+            return exactCount(criteria);
+        }
+
+        List<Object> params = new ArrayList<>();
+        String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM tasks t" + buildWhereClause(criteria, params);
+
+        try {
+            String plan = jdbcTemplate.queryForObject(sql, String.class, params.toArray());
+            JsonNode planRows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return planRows.asLong(0);
+        } catch (Exception ex) {
+            log.debug("Planner estimate failed, falling back to exact count: {}", ex.getMessage());
+            return exactCount(criteria);
+        }
+    }
+
+    @Override
+    public List<Task> insertAll(List<Task> tasks) {
+        int batchStart = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            entityManager.persist(tasks.get(i));
+            if ((i + 1) % batchSize == 0) {
+                flushAndDetach(tasks.subList(batchStart, i + 1));
+                batchStart = i + 1;
+            }
+        }
+        flushAndDetach(tasks.subList(batchStart, tasks.size()));
+        return tasks;
+    }
+
+    /**
+     * Batch'i yazar ve sadece bu görevleri context'ten çıkarır; çağıranın yüklediği diğer
+     * entity'ler (ör. görevin kullanıcısı) managed kalır.
+     */
+    private void flushAndDetach(List<Task> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        batch.forEach(entityManager::detach);
+    }
+
+    @Override
+    public int updateStatusAndPriority(Specification<Task> spec, TaskStatus status, TaskPriority priority) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+
+        if (status != null) {
+            update.set(root.get(Task.Fields.status), status);
+        }
+        if (priority != null) {
+            update.set(root.get(Task.Fields.priority), priority);
+        }
+        return executeUpdate(update, root, spec.and(TaskSpecification.differsFrom(status, priority)));
+    }
+
+    @Override
+    public int deactivateAll(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+
+        update.set(root.get(Task.Fields.isActive), false);
+        return executeUpdate(update, root, spec.and(TaskSpecification.withActiveStatus()));
+    }
+
+    /**
+     * GROUP BY ile FOR UPDATE birlikte kullanılamadığı için satırlar görev başına okunup
+     * burada toplanır; sadece anahtar kolonları seçilir.
+     */
+    @Override
+    public Map<TaskStatsKey, Long> lockAndCountByStatsKey(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+
+        // user.id yabancı anahtar kolonundan okunur; users tablosuna join edilmez
+        Path<UUID> userId = root.get(Task.Fields.user).get(User.Fields.id);
+        Path<TaskStatus> status = root.get(Task.Fields.status);
+        Path<TaskPriority> priority = root.get(Task.Fields.priority);
+        Path<Boolean> isActive = root.get(Task.Fields.isActive);
+
+        query.multiselect(userId, status, priority, isActive);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        Map<TaskStatsKey, Long> counts = new HashMap<>();
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        for (Tuple row : rows) {
+            counts.merge(new TaskStatsKey(row.get(userId), row.get(status), row.get(priority), row.get(isActive)),
+                    1L, Long::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Bulk UPDATE'te {@code @UpdateTimestamp} ve {@code @Version} çalışmadığı için updated_at
+     * ve version burada set edilir; aksi halde başka node'un cache'indeki eski kopya yazılabilir.
+     * Specification'lar UPDATE için CriteriaQuery almaz (query = null).
+     */
+    private int executeUpdate(CriteriaUpdate<Task> update, Root<Task> root, Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Path<Long> version = root.get(Task.Fields.version);
+        update.set(root.<LocalDateTime>get(Task.Fields.updatedAt), cb.localDateTime());
+        update.set(version, cb.sum(version, 1L));
+        update.where(spec.toPredicate(root, null, cb));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private long exactCount(TaskFilterCriteria criteria) {
+        return count(TaskSpecification.withFilters(criteria, searchEngines.forCriteria(criteria)));
+    }
+
+    /**
+     * Sadece yanıt kolonlarını seçen constructor expression sorgusu. Sıralama yoksa
+     * Specification'ın koyduğu sıralama (ör. arama alaka düzeyi) korunur.
+     */
+    private List<TaskResponse> readResponses(Specification<Task> spec, Sort sort, long offset, int limit) {
+        return createResponseQuery(spec, sort)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private TypedQuery<TaskResponse> createResponseQuery(Specification<Task> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, User> user = root.join(Task.Fields.user);
+
+        query.select(cb.construct(TaskResponse.class,
+                root.get(Task.Fields.id),
+                root.get(Task.Fields.title),
+                root.get(Task.Fields.description),
+                root.get(Task.Fields.priority),
+                root.get(Task.Fields.status),
+                user.get(User.Fields.id),
+                user.get(User.Fields.username),
+                root.get(Task.Fields.isActive),
+                root.get(Task.Fields.createdAt),
+                root.get(Task.Fields.updatedAt)));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        query.select(cb.count(root));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * TaskSpecification.withFilters ile aynı filtreleri native SQL olarak üretir.
+     * Metin araması kritere göre seçilen {@link TaskSearchEngine}'in koşuluyla yapılır.
+     */
+    private String buildWhereClause(TaskFilterCriteria criteria, List<Object> params) {
+        List<String> conditions = new ArrayList<>();
+
+        if (criteria.searchQuery() != null && !criteria.searchQuery().isEmpty()) {
+            conditions.add(searchEngines.forCriteria(criteria).nativeCondition("t", criteria.searchQuery(), params));
+        }
+        addCondition(conditions, params, "t.status = ?",
+                criteria.status() != null ? criteria.status().name() : null);
+        addCondition(conditions, params, "t.priority = ?",
+                criteria.priority() != null ? criteria.priority().name() : null);
+        addCondition(conditions, params, "t.user_id = ?", criteria.userId());
+        addCondition(conditions, params, "t.is_active = ?", criteria.isActive());
+        addCondition(conditions, params, "t.due_date >= ?", criteria.dueDateFrom());
+        addCondition(conditions, params, "t.due_date <= ?", criteria.dueDateTo());
+        addCondition(conditions, params, "t.created_at >= ?", criteria.createdAtFrom());
+        addCondition(conditions, params, "t.created_at <= ?", criteria.createdAtTo());
+
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private void addCondition(List<String> conditions, List<Object> params, String condition, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            params.add(value);
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            postgres = POSTGRESQL.equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,25 @@
+package org.task.taskmaganer.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.task.taskmaganer.entity.TaskStatCounter;
+import org.task.taskmaganer.entity.TaskStatsKey;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskStatCounterRepository extends JpaRepository<TaskStatCounter, TaskStatsKey>,
+        TaskStatCounterRepositoryCustom {
+
+    /**
+     * Kullanıcının sayaç satırları (en fazla durum x öncelik x 2); primary key'in ön ekinden okunur.
+     */
+    List<TaskStatCounter> findByIdUserId(UUID userId);
+
+    @Query("SELECT c.id.status AS status, c.id.priority AS priority, c.id.isActive AS isActive, " +
+           "SUM(c.taskCount) AS taskCount FROM TaskStatCounter c " +
+           "GROUP BY c.id.status, c.id.priority, c.id.isActive")
+    List<TaskStatTotal> sumByStatusPriorityAndActive();
+}
@@ -0,0 +1,22 @@
+package org.task.taskmaganer.repository;
+
+import org.task.taskmaganer.entity.TaskStatsKey;
+
+import java.util.Map;
+
+/**
+ * Sayaç satırlarını entity yüklemeden, veritabanında atomik olarak değiştiren işlemler.
+ */
+public interface TaskStatCounterRepositoryCustom {
+
+    /**
+     * Her anahtarın sayacına verilen farkı ekler; satır yoksa oluşturur. Tek bir JDBC
+     * batch'i olarak, açık transaction içinde çalışır.
+     */
+    void addAll(Map<TaskStatsKey, Long> deltas);
+
+    /**
+     * Tüm sayaçları tasks tablosundan yeniden hesaplar.
+     */
+    void rebuild();
+}
@@ -0,0 +1,102 @@
+package org.task.taskmaganer.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.task.taskmaganer.entity.TaskStatsKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TaskStatCounterRepositoryCustom} implementasyonu.
+ * <p>
+ * Artırma {@code task_count = task_count + ?} ile veritabanında yapılır; okuma-değiştirme-yazma
+ * olmadığı için eşzamanlı transaction'lar birbirinin değişikliğini ezmez. PostgreSQL'de
+ * {@code INSERT ... ON CONFLICT DO UPDATE} ile tek batch'tir; diğer veritabanlarında önce
+ * UPDATE, satırı olmayan anahtarlar için INSERT yapılır. Satırlar her transaction'da aynı
+ * sırayla ({@link TaskStatsKey#LOCK_ORDER}) kilitlenir.
+ */
+public class TaskStatCounterRepositoryCustomImpl implements TaskStatCounterRepositoryCustom {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO task_stat_counters (user_id, status, priority, is_active, task_count) VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (user_id, status, priority, is_active) " +
+            "DO UPDATE SET task_count = task_stat_counters.task_count + EXCLUDED.task_count";
+
+    private static final String UPDATE_SQL =
+            "UPDATE task_stat_counters SET task_count = task_count + ? " +
+            "WHERE user_id = ? AND status = ? AND priority = ? AND is_active = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO task_stat_counters (user_id, status, priority, is_active, task_count) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String REBUILD_SQL =
+            "INSERT INTO task_stat_counters (user_id, status, priority, is_active, task_count) " +
+            "SELECT user_id, status, priority, is_active, COUNT(*) FROM tasks " +
+            "GROUP BY user_id, status, priority, is_active";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public TaskStatCounterRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addAll(Map<TaskStatsKey, Long> deltas) {
+        List<Map.Entry<TaskStatsKey, Long>> changes = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey(TaskStatsKey.LOCK_ORDER))
+                .toList();
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        if (isPostgres()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, changes.stream().map(TaskStatCounterRepositoryCustomImpl::insertArgs).toList());
+            return;
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, changes.stream()
+                .map(entry -> {
+                    TaskStatsKey key = entry.getKey();
+                    return new Object[]{entry.getValue(), key.getUserId(), key.getStatus().name(),
+                            key.getPriority().name(), key.getIsActive()};
+                })
+                .toList());
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                inserts.add(insertArgs(changes.get(i)));
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+    }
+
+    @Override
+    public void rebuild() {
+        jdbcTemplate.update("DELETE FROM task_stat_counters");
+        jdbcTemplate.update(REBUILD_SQL);
+    }
+
+    private static Object[] insertArgs(Map.Entry<TaskStatsKey, Long> entry) {
+        TaskStatsKey key = entry.getKey();
+        return new Object[]{key.getUserId(), key.getStatus().name(), key.getPriority().name(),
+                key.getIsActive(), entry.getValue()};
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            postgres = POSTGRESQL.equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,18 @@
+package org.task.taskmaganer.repository;
+
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
+
+/**
+ * Tüm kullanıcılar için toplanmış sayaç satırı: durum + öncelik + aktiflik başına görev sayısı.
+ */
+public interface TaskStatTotal {
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    Boolean getIsActive();
+
+    Long getTaskCount();
+}
@@ -0,0 +1,15 @@
+package org.task.taskmaganer.repository;
+
+import java.util.UUID;
+
+/**
+ * Token iptal kontrolü için kullanıcının sadece hesap durumu kolonlarını okuyan projeksiyon.
+ */
+public interface UserAccountState {
+
+    UUID getId();
+
+    Integer getTokenVersion();
+
+    Boolean getIsActive();
+}
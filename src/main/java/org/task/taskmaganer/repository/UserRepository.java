@@ -10,7 +10,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
     
     Optional<User> findByUsername(String username);
     
@@ -23,6 +23,11 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @Query("SELECT u FROM User u WHERE u.isActive = true AND u.id = :id")
     Optional<User> findActiveUserById(@Param("id") UUID id);
     
-    @Query("SELECT u FROM User u WHERE u.isActive = true")
-    java.util.List<User> findAllActiveUsers();
+    @Query("SELECT u.id AS id, u.tokenVersion AS tokenVersion, u.isActive AS isActive " +
+           "FROM User u WHERE u.tokenVersion > 0 OR u.isActive = false")
+    java.util.List<UserAccountState> findRevokedAccountStates();
+    
+    @Query("SELECT u.id AS id, u.tokenVersion AS tokenVersion, u.isActive AS isActive " +
+           "FROM User u WHERE u.updatedAt >= :since")
+    java.util.List<UserAccountState> findAccountStatesUpdatedSince(@Param("since") java.time.LocalDateTime since);
 }
\ No newline at end of file
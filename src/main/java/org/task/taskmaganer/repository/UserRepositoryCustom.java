@@ -0,0 +1,42 @@
+package org.task.taskmaganer.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.task.taskmaganer.dto.response.UserResponse;
+import org.task.taskmaganer.entity.User;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Kullanıcı listeleri için {@link UserResponse} projeksiyonu dönen sorgular.
+ * <p>
+ * Entity yüklenmez: persistence context ve second-level cache liste boyutuyla büyümez,
+ * şifre hash'i gibi yanıtta olmayan kolonlar okunmaz.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Sayfa içeriği + COUNT(*).
+     */
+    Page<UserResponse> findResponses(Specification<User> spec, Pageable pageable);
+
+    /**
+     * Sayfayı size+1 satır okuyarak getirir; COUNT(*) sorgusu çalıştırmaz.
+     */
+    Slice<UserResponse> findResponseSlice(Specification<User> spec, Pageable pageable);
+
+    /**
+     * Verilen sıralamayla en fazla {@code limit} satır (keyset sayfalama için).
+     */
+    List<UserResponse> findResponses(Specification<User> spec, Sort sort, int limit);
+
+    /**
+     * Filtreye uyan tüm satırları forward-only cursor ile {@code fetchSize}'lık parçalar halinde
+     * okur. Açık bir transaction içinde tüketilmeli ve kapatılmalıdır.
+     */
+    Stream<UserResponse> streamResponses(Specification<User> spec, Sort sort, int fetchSize);
+}
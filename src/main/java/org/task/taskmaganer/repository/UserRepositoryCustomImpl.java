@@ -0,0 +1,108 @@
+package org.task.taskmaganer.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.task.taskmaganer.dto.response.UserResponse;
+import org.task.taskmaganer.entity.User;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@link UserRepositoryCustom} implementasyonu. Okuma sorguları Criteria API constructor
+ * expression'ı ile sadece {@link UserResponse} kolonlarını seçer; slice sorguları size+1 satır okur.
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<UserResponse> findResponses(Specification<User> spec, Pageable pageable) {
+        List<UserResponse> content = createResponseQuery(spec, pageable.getSort())
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<UserResponse> findResponseSlice(Specification<User> spec, Pageable pageable) {
+        List<UserResponse> rows = createResponseQuery(spec, pageable.getSort())
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<UserResponse> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<UserResponse> findResponses(Specification<User> spec, Sort sort, int limit) {
+        return createResponseQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<UserResponse> streamResponses(Specification<User> spec, Sort sort, int fetchSize) {
+        return createResponseQuery(spec, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    private TypedQuery<UserResponse> createResponseQuery(Specification<User> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserResponse> query = cb.createQuery(UserResponse.class);
+        Root<User> root = query.from(User.class);
+
+        query.select(cb.construct(UserResponse.class,
+                root.get(User.Fields.id),
+                root.get(User.Fields.username),
+                root.get(User.Fields.email),
+                root.get(User.Fields.firstName),
+                root.get(User.Fields.lastName),
+                root.get(User.Fields.role),
+                root.get(User.Fields.isActive),
+                root.get(User.Fields.createdAt),
+                root.get(User.Fields.updatedAt)));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<User> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<User> root = query.from(User.class);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        query.select(cb.count(root));
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
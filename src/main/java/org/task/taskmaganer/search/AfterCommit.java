@@ -0,0 +1,28 @@
+package org.task.taskmaganer.search;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bellekteki arama indekslerinin güncellemelerini commit sonrasına erteler;
+ * rollback olan yazmalar indekse yansımaz.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
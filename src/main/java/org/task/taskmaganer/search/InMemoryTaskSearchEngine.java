@@ -0,0 +1,172 @@
+package org.task.taskmaganer.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.task.taskmaganer.entity.Task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * H2 gibi full-text desteği olmayan veritabanları için bellekte tutulan inverted index.
+ * <p>
+ * Başlık ve açıklama kelimelere ayrılır; her kelime için görev id'leri tutulur. Sorgudaki
+ * her kelime bir veya daha fazla indeks kelimesinin öneki olmalıdır (AND). Eşleşen id'ler
+ * {@code id IN (...)} olarak sorguya eklenir. İndeks açılışta tablodan yüklenir, görev
+ * yazmalarında commit sonrası güncellenir. Yazmalar seyrek olduğu için senkronize, okumalar kilitsizdir.
+ * <p>
+ * IN listesi {@code maxMatches} ile sınırlıdır; daha fazla görevle eşleşen sorgular (ör. tek
+ * harfli önekler) her kelime için {@link LikeTaskSearchEngine} koşullarının AND'i ile aranır.
+ * Alt dize eşleşmesi önek eşleşmesini kapsadığı için sonuçlar eksilmez.
+ */
+public class InMemoryTaskSearchEngine implements TaskSearchEngine, TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryTaskSearchEngine.class);
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxMatches;
+    private final LikeTaskSearchEngine fallback = new LikeTaskSearchEngine();
+    private final NavigableMap<String, Set<UUID>> postings = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Set<String>> documents = new ConcurrentHashMap<>();
+
+    public InMemoryTaskSearchEngine(JdbcTemplate jdbcTemplate, int maxMatches) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxMatches = maxMatches;
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        postings.clear();
+        documents.clear();
+        jdbcTemplate.query("SELECT id, title, description FROM tasks", rs -> {
+            index(rs.getObject("id", UUID.class), rs.getString("title"), rs.getString("description"));
+        });
+        log.info("In-memory task search index built with {} tasks and {} terms", documents.size(), postings.size());
+    }
+
+    @Override
+    public Specification<Task> matching(String searchQuery) {
+        return (root, query, cb) -> {
+            Set<String> terms = tokenize(searchQuery);
+            if (terms.isEmpty()) {
+                return cb.conjunction();
+            }
+            Set<UUID> ids = search(terms);
+            if (ids.size() > maxMatches) {
+                Specification<Task> like = Specification.where(null);
+                for (String term : terms) {
+                    like = like.and(fallback.matching(term));
+                }
+                return like.toPredicate(root, query, cb);
+            }
+            return ids.isEmpty() ? cb.disjunction() : root.get(Task.Fields.id).in(ids);
+        };
+    }
+
+    @Override
+    public Specification<Task> orderByRelevance(String searchQuery) {
+        return TaskSearchOrders.newestFirst();
+    }
+
+    @Override
+    public String nativeCondition(String alias, String searchQuery, List<Object> params) {
+        Set<String> terms = tokenize(searchQuery);
+        Set<UUID> ids = search(terms);
+        if (ids.size() > maxMatches) {
+            List<String> conditions = new ArrayList<>();
+            terms.forEach(term -> conditions.add(fallback.nativeCondition(alias, term, params)));
+            return String.join(" AND ", conditions);
+        }
+        if (ids.isEmpty()) {
+            return "1 = 0";
+        }
+        params.addAll(ids);
+        return alias + ".id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+    }
+
+    @Override
+    public void onTaskSaved(Task task) {
+        UUID id = task.getId();
+        String title = task.getTitle();
+        String description = task.getDescription();
+        AfterCommit.run(() -> reindex(id, title, description));
+    }
+
+    @Override
+    public void onTaskRemoved(UUID id) {
+        AfterCommit.run(() -> remove(id));
+    }
+
+    Set<UUID> search(Set<String> terms) {
+        Set<UUID> result = null;
+        for (String term : terms) {
+            Set<UUID> matches = new HashSet<>();
+            // Önek araması: "rep" → "report", "repo" ...
+            postings.subMap(term, true, term + Character.MAX_VALUE, true)
+                    .values()
+                    .forEach(matches::addAll);
+            if (result == null) {
+                result = matches;
+            } else {
+                result.retainAll(matches);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result != null ? result : Set.of();
+    }
+
+    private synchronized void reindex(UUID id, String title, String description) {
+        remove(id);
+        index(id, title, description);
+    }
+
+    private synchronized void index(UUID id, String title, String description) {
+        Set<String> terms = tokenize(title);
+        terms.addAll(tokenize(description));
+        documents.put(id, terms);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private synchronized void remove(UUID id) {
+        Set<String> terms = documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            postings.computeIfPresent(term, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new HashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,32 @@
+package org.task.taskmaganer.search;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.specification.TaskSpecification;
+
+import java.util.List;
+
+/**
+ * Eski davranış: {@code lower(title|description) LIKE '%q%'}. İndeks kullanamaz,
+ * sadece {@code search.engine=LIKE} ile açıkça seçildiğinde kullanılır.
+ */
+public class LikeTaskSearchEngine implements TaskSearchEngine {
+
+    @Override
+    public Specification<Task> matching(String searchQuery) {
+        return TaskSpecification.withSearchQuery(searchQuery);
+    }
+
+    @Override
+    public Specification<Task> orderByRelevance(String searchQuery) {
+        return TaskSearchOrders.newestFirst();
+    }
+
+    @Override
+    public String nativeCondition(String alias, String searchQuery, List<Object> params) {
+        String pattern = "%" + searchQuery.toLowerCase().trim() + "%";
+        params.add(pattern);
+        params.add(pattern);
+        return "(lower(" + alias + ".title) LIKE ? OR lower(" + alias + ".description) LIKE ?)";
+    }
+}
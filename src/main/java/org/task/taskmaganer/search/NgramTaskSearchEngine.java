@@ -0,0 +1,135 @@
+package org.task.taskmaganer.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+import org.task.taskmaganer.entity.Task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * {@link TrigramTaskSearchIndex} üzerinde alt dize veya yazım hatası toleranslı (fuzzy) arama.
+ * <p>
+ * Eşleşen id'ler {@code id IN (...)} olarak sorguya eklenir. Alaka sıralaması için
+ * benzerlik puanları onda birlik dilimlere ayrılıp {@code CASE} ifadesiyle sıralanır.
+ * <p>
+ * IN listesi {@code maxMatches} ile sınırlıdır. Alt dize aramasında trigram uzunluğundan
+ * kısa veya sınırdan fazla görevle eşleşen sorgular {@link LikeTaskSearchEngine} ile
+ * aranır; fuzzy aramada en yüksek puanlı {@code maxMatches} görev tutulur.
+ */
+public class NgramTaskSearchEngine implements TaskSearchEngine {
+
+    private static final int SCORE_BUCKETS = 10;
+
+    private final TrigramTaskSearchIndex index;
+    private final boolean fuzzy;
+    private final double similarityThreshold;
+    private final int maxMatches;
+    private final LikeTaskSearchEngine fallback = new LikeTaskSearchEngine();
+
+    public NgramTaskSearchEngine(TrigramTaskSearchIndex index, boolean fuzzy, double similarityThreshold,
+                                 int maxMatches) {
+        this.index = index;
+        this.fuzzy = fuzzy;
+        this.similarityThreshold = similarityThreshold;
+        this.maxMatches = maxMatches;
+    }
+
+    @Override
+    public Specification<Task> matching(String searchQuery) {
+        return (root, query, cb) -> {
+            if (isEmpty(searchQuery)) {
+                return cb.conjunction();
+            }
+            Map<UUID, Double> scores = scores(searchQuery);
+            if (scores == null) {
+                return fallback.matching(searchQuery).toPredicate(root, query, cb);
+            }
+            return scores.isEmpty() ? cb.disjunction() : root.get(Task.Fields.id).in(scores.keySet());
+        };
+    }
+
+    @Override
+    public Specification<Task> orderByRelevance(String searchQuery) {
+        if (isEmpty(searchQuery)) {
+            return TaskSearchOrders.newestFirst();
+        }
+        return (root, query, cb) -> {
+            if (TaskSearchOrders.isRowQuery(query)) {
+                Map<UUID, Double> scores = scores(searchQuery);
+                Map<Integer, List<UUID>> buckets = scores != null ? bucketize(scores) : Map.of();
+                if (buckets.isEmpty()) {
+                    query.orderBy(cb.desc(root.get(Task.Fields.createdAt)));
+                } else {
+                    CriteriaBuilder.Case<Integer> rank = cb.selectCase();
+                    buckets.forEach((bucket, ids) -> rank.when(root.get(Task.Fields.id).in(ids), bucket));
+                    Expression<Integer> relevance = rank.otherwise(0);
+                    query.orderBy(cb.desc(relevance), cb.desc(root.get(Task.Fields.createdAt)));
+                }
+            }
+            return cb.conjunction();
+        };
+    }
+
+    @Override
+    public String nativeCondition(String alias, String searchQuery, List<Object> params) {
+        Map<UUID, Double> scores = scores(searchQuery);
+        if (scores == null) {
+            return fallback.nativeCondition(alias, searchQuery, params);
+        }
+        Set<UUID> ids = scores.keySet();
+        if (ids.isEmpty()) {
+            return "1 = 0";
+        }
+        params.addAll(ids);
+        return alias + ".id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+    }
+
+    /**
+     * Eşleşen görevlerin puanları; sorgu LIKE ile aranacaksa {@code null}.
+     */
+    private Map<UUID, Double> scores(String searchQuery) {
+        if (fuzzy) {
+            return strongest(index.similarTo(searchQuery, similarityThreshold));
+        }
+        if (searchQuery.trim().length() < TrigramTaskSearchIndex.GRAM) {
+            return null;
+        }
+        Map<UUID, Double> scores = index.containing(searchQuery);
+        return scores.size() > maxMatches ? null : scores;
+    }
+
+    private Map<UUID, Double> strongest(Map<UUID, Double> scores) {
+        if (scores.size() <= maxMatches) {
+            return scores;
+        }
+        Map<UUID, Double> strongest = new HashMap<>();
+        scores.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                .limit(maxMatches)
+                .forEach(entry -> strongest.put(entry.getKey(), entry.getValue()));
+        return strongest;
+    }
+
+    /**
+     * En yüksek dilim önce gelecek şekilde puan dilimi → görev id'leri.
+     */
+    private static Map<Integer, List<UUID>> bucketize(Map<UUID, Double> scores) {
+        Map<Integer, List<UUID>> buckets = new TreeMap<>(Collections.reverseOrder());
+        scores.forEach((id, score) -> buckets
+                .computeIfAbsent((int) Math.round(score * SCORE_BUCKETS), key -> new ArrayList<>())
+                .add(id));
+        return buckets;
+    }
+
+    private static boolean isEmpty(String str) {
+        return str == null || str.trim().isEmpty();
+    }
+}
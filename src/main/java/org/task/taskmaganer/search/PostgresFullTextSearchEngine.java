@@ -0,0 +1,63 @@
+package org.task.taskmaganer.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.task.taskmaganer.entity.Task;
+
+import java.util.List;
+
+/**
+ * PostgreSQL full-text arama: {@code tsvector @@ websearch_to_tsquery} ve {@code ts_rank}.
+ * <p>
+ * Başlık 'A', açıklama 'B' ağırlığıyla indekslenir; başlıkta geçen eşleşmeler üst sıralara çıkar.
+ * Sorgu sözdizimi web aramasına benzer: {@code "tam ifade"}, {@code -hariç}, {@code or}.
+ */
+public class PostgresFullTextSearchEngine implements TaskSearchEngine {
+
+    @Override
+    public Specification<Task> matching(String searchQuery) {
+        return (root, query, cb) -> {
+            if (isEmpty(searchQuery)) {
+                return cb.conjunction();
+            }
+            return cb.isTrue(function(TaskSearchFunctionContributor.MATCH_FUNCTION, Boolean.class, root, cb, searchQuery));
+        };
+    }
+
+    @Override
+    public Specification<Task> orderByRelevance(String searchQuery) {
+        if (isEmpty(searchQuery)) {
+            return TaskSearchOrders.newestFirst();
+        }
+        return (root, query, cb) -> {
+            if (TaskSearchOrders.isRowQuery(query)) {
+                query.orderBy(
+                        cb.desc(function(TaskSearchFunctionContributor.RANK_FUNCTION, Double.class, root, cb, searchQuery)),
+                        cb.desc(root.get(Task.Fields.createdAt)));
+            }
+            return cb.conjunction();
+        };
+    }
+
+    @Override
+    public String nativeCondition(String alias, String searchQuery, List<Object> params) {
+        params.add(searchQuery.trim());
+        return (TaskSearchFunctionContributor.SEARCH_VECTOR + " @@ " + TaskSearchFunctionContributor.SEARCH_QUERY)
+                .replace("?1", alias + ".title")
+                .replace("?2", alias + ".description")
+                .replace("?3", "?");
+    }
+
+    private <T> Expression<T> function(String name, Class<T> type, Root<Task> root, CriteriaBuilder cb, String searchQuery) {
+        return cb.function(name, type,
+                root.get(Task.Fields.title),
+                root.get(Task.Fields.description),
+                cb.literal(searchQuery.trim()));
+    }
+
+    private static boolean isEmpty(String str) {
+        return str == null || str.trim().isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+package org.task.taskmaganer.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.task.taskmaganer.entity.Task;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * PostgreSQL pg_trgm ile alt dize ve yazım hatası toleranslı (fuzzy) arama.
+ * <p>
+ * Alt dize modunda eski {@code lower(title|description) LIKE '%q%'} koşulu kullanılır;
+ * V10'daki trigram GIN indeksleri sayesinde tablo taranmaz. Fuzzy modda
+ * {@code q <% lower(title)} (word similarity) kullanılır. Her iki modda da sonuçlar
+ * {@code word_similarity} puanına göre sıralanabilir.
+ */
+public class PostgresTrigramSearchEngine implements TaskSearchEngine {
+
+    private final boolean fuzzy;
+    private final LikeTaskSearchEngine substring = new LikeTaskSearchEngine();
+
+    public PostgresTrigramSearchEngine(boolean fuzzy) {
+        this.fuzzy = fuzzy;
+    }
+
+    @Override
+    public Specification<Task> matching(String searchQuery) {
+        if (!fuzzy) {
+            return substring.matching(searchQuery);
+        }
+        return (root, query, cb) -> {
+            if (isEmpty(searchQuery)) {
+                return cb.conjunction();
+            }
+            return cb.isTrue(function(TaskSearchFunctionContributor.TRIGRAM_MATCH_FUNCTION, Boolean.class, root, cb, searchQuery));
+        };
+    }
+
+    @Override
+    public Specification<Task> orderByRelevance(String searchQuery) {
+        if (isEmpty(searchQuery)) {
+            return TaskSearchOrders.newestFirst();
+        }
+        return (root, query, cb) -> {
+            if (TaskSearchOrders.isRowQuery(query)) {
+                query.orderBy(
+                        cb.desc(function(TaskSearchFunctionContributor.TRIGRAM_RANK_FUNCTION, Double.class, root, cb, searchQuery)),
+                        cb.desc(root.get(Task.Fields.createdAt)));
+            }
+            return cb.conjunction();
+        };
+    }
+
+    @Override
+    public String nativeCondition(String alias, String searchQuery, List<Object> params) {
+        if (!fuzzy) {
+            return substring.nativeCondition(alias, searchQuery, params);
+        }
+        params.add(normalize(searchQuery));
+        params.add(normalize(searchQuery));
+        return TaskSearchFunctionContributor.TRIGRAM_MATCH
+                .replace("?1", alias + ".title")
+                .replace("?2", alias + ".description")
+                .replace("?3", "?");
+    }
+
+    private <T> Expression<T> function(String name, Class<T> type, Root<Task> root, CriteriaBuilder cb, String searchQuery) {
+        return cb.function(name, type,
+                root.get(Task.Fields.title),
+                root.get(Task.Fields.description),
+                cb.literal(normalize(searchQuery)));
+    }
+
+    private static String normalize(String searchQuery) {
+        return searchQuery.toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static boolean isEmpty(String str) {
+        return str == null || str.trim().isEmpty();
+    }
+}
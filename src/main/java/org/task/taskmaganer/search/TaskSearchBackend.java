@@ -0,0 +1,13 @@
+package org.task.taskmaganer.search;
+
+/**
+ * {@code search.engine} ayarının değerleri.
+ */
+public enum TaskSearchBackend {
+    AUTO,       // PostgreSQL ise FULL_TEXT, değilse IN_MEMORY
+    FULL_TEXT,  // PostgreSQL tsvector + GIN
+    TRIGRAM,    // PostgreSQL pg_trgm ile indeksli alt dize araması
+    IN_MEMORY,  // Uygulama içi inverted index
+    NGRAM,      // Uygulama içi trigram indeksi ile alt dize araması
+    LIKE        // Eski LIKE '%q%' davranışı
+}
@@ -0,0 +1,34 @@
+package org.task.taskmaganer.search;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.task.taskmaganer.entity.Task;
+
+import java.util.List;
+
+/**
+ * Görev başlığı ve açıklamasında metin araması yapan backend.
+ * <p>
+ * Uygulama açılışında veritabanına göre seçilir ({@code SearchConfig}):
+ * PostgreSQL'de tsvector + GIN indeksli full-text arama, diğer veritabanlarında
+ * (H2) bellekte tutulan inverted index kullanılır. {@code fuzzy} aramalar için ayrıca
+ * trigram tabanlı bir backend seçilir; ikisi {@link TaskSearchEngines} üzerinden kullanılır.
+ */
+public interface TaskSearchEngine {
+
+    /**
+     * Sorguyla eşleşen görevleri filtreleyen specification. Sorgu boşsa filtre uygulanmaz.
+     */
+    Specification<Task> matching(String searchQuery);
+
+    /**
+     * Sonuçları alaka düzeyine göre sıralayan specification (predicate eklemez).
+     * Sıralamayı desteklemeyen backend'ler en yeni görevleri önce döner.
+     */
+    Specification<Task> orderByRelevance(String searchQuery);
+
+    /**
+     * Planner tahmini gibi native SQL sorguları için {@code alias} tablosu üzerinde
+     * aynı eşleşme koşulu. Parametreler {@code params} listesine eklenir.
+     */
+    String nativeCondition(String alias, String searchQuery, List<Object> params);
+}
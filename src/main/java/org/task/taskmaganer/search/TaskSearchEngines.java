@@ -0,0 +1,45 @@
+package org.task.taskmaganer.search;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.specification.TaskSpecification.TaskFilterCriteria;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Standart ve fuzzy arama backend'lerini ve bellekte tutulan indekslerini bir arada tutar.
+ * <p>
+ * Servis ve repository katmanı arama kriterine göre backend'i buradan alır; görev
+ * yazmaları da bellekteki indekslere buradan yansıtılır.
+ */
+public class TaskSearchEngines {
+
+    private final TaskSearchEngine standard;
+    private final TaskSearchEngine fuzzy;
+    private final List<TaskSearchIndex> indexes;
+
+    public TaskSearchEngines(TaskSearchEngine standard, TaskSearchEngine fuzzy, List<TaskSearchIndex> indexes) {
+        this.standard = standard;
+        this.fuzzy = fuzzy;
+        this.indexes = List.copyOf(indexes);
+    }
+
+    public TaskSearchEngine forCriteria(TaskFilterCriteria criteria) {
+        return criteria.fuzzy() ? fuzzy : standard;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndexes() {
+        indexes.forEach(TaskSearchIndex::rebuild);
+    }
+
+    public void onTaskSaved(Task task) {
+        indexes.forEach(index -> index.onTaskSaved(task));
+    }
+
+    public void onTaskRemoved(UUID taskId) {
+        indexes.forEach(index -> index.onTaskRemoved(taskId));
+    }
+}
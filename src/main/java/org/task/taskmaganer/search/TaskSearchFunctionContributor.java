@@ -0,0 +1,63 @@
+package org.task.taskmaganer.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * PostgreSQL full-text ve trigram arama fonksiyonlarını Hibernate'e (HQL/Criteria) kaydeder.
+ * <p>
+ * Fonksiyonlar V9/V10 migration'larındaki GIN expression indeksleri ile birebir aynı
+ * ifadeleri üretir; planner indeksi ancak ifade aynıysa kullanabilir.
+ * META-INF/services üzerinden yüklenir.
+ */
+public class TaskSearchFunctionContributor implements FunctionContributor {
+
+    static final String MATCH_FUNCTION = "task_fts_match";
+    static final String RANK_FUNCTION = "task_fts_rank";
+
+    /**
+     * ?1 = title, ?2 = description. Değişirse V9 indeksi de yeniden oluşturulmalıdır.
+     */
+    static final String SEARCH_VECTOR =
+            "(setweight(to_tsvector('simple', coalesce(?1, '')), 'A')"
+                    + " || setweight(to_tsvector('simple', coalesce(?2, '')), 'B'))";
+
+    static final String SEARCH_QUERY = "websearch_to_tsquery('simple', ?3)";
+
+    static final String TRIGRAM_MATCH_FUNCTION = "task_trgm_match";
+    static final String TRIGRAM_RANK_FUNCTION = "task_trgm_rank";
+
+    /**
+     * ?1 = title, ?2 = description, ?3 = küçük harfe çevrilmiş sorgu. {@code <%} operatörü
+     * V10'daki {@code lower(...) gin_trgm_ops} indekslerini kullanır; eşik değeri
+     * {@code pg_trgm.word_similarity_threshold} oturum ayarından gelir (bkz. SearchConfig).
+     */
+    static final String TRIGRAM_MATCH = "(?3 <% lower(?1) or ?3 <% lower(?2))";
+
+    static final String TRIGRAM_RANK =
+            "greatest(word_similarity(?3, lower(?1)), word_similarity(?3, coalesce(lower(?2), '')))";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        if (!(functionContributions.getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_FUNCTION, SEARCH_VECTOR + " @@ " + SEARCH_QUERY,
+                types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(
+                RANK_FUNCTION, "ts_rank(" + SEARCH_VECTOR + ", " + SEARCH_QUERY + ")",
+                types.resolve(StandardBasicTypes.DOUBLE));
+        functionContributions.getFunctionRegistry().registerPattern(
+                TRIGRAM_MATCH_FUNCTION, TRIGRAM_MATCH,
+                types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(
+                TRIGRAM_RANK_FUNCTION, TRIGRAM_RANK,
+                types.resolve(StandardBasicTypes.DOUBLE));
+    }
+}
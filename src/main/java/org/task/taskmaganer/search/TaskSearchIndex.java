@@ -0,0 +1,27 @@
+package org.task.taskmaganer.search;
+
+import org.task.taskmaganer.entity.Task;
+
+import java.util.UUID;
+
+/**
+ * Uygulama belleğinde tutulan arama indeksleri. Veritabanı indeksi kullanan
+ * backend'lerin bakımı gerekmez, bu arayüzü uygulamazlar.
+ */
+public interface TaskSearchIndex {
+
+    /**
+     * İndeksi tasks tablosundan baştan oluşturur (uygulama açılışında).
+     */
+    void rebuild();
+
+    /**
+     * Görev oluşturulduğunda/güncellendiğinde commit sonrası indeksi günceller.
+     */
+    void onTaskSaved(Task task);
+
+    /**
+     * Görev kalıcı olarak silindiğinde commit sonrası indeksten çıkarır.
+     */
+    void onTaskRemoved(UUID taskId);
+}
@@ -0,0 +1,30 @@
+package org.task.taskmaganer.search;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.task.taskmaganer.entity.Task;
+
+/**
+ * Arama sıralaması için ortak specification'lar.
+ */
+final class TaskSearchOrders {
+
+    private TaskSearchOrders() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+    /**
+     * COUNT sorgularında sıralama eklenmez; sadece satır döndüren sorgular sıralanır.
+     */
+    static boolean isRowQuery(jakarta.persistence.criteria.CriteriaQuery<?> query) {
+        return query.getResultType() != Long.class && query.getResultType() != long.class;
+    }
+
+    static Specification<Task> newestFirst() {
+        return (root, query, cb) -> {
+            if (isRowQuery(query)) {
+                query.orderBy(cb.desc(root.get(Task.Fields.createdAt)), cb.desc(root.get(Task.Fields.id)));
+            }
+            return cb.conjunction();
+        };
+    }
+}
@@ -0,0 +1,240 @@
+package org.task.taskmaganer.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.task.taskmaganer.entity.Task;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * H2/dev için pg_trgm benzeri, bellekte tutulan trigram indeksi.
+ * <p>
+ * İki posting listesi tutulur: başlık/açıklama metninin ham trigramları (alt dize araması,
+ * {@code LIKE '%q%'} yerine) ve kelime bazında boşlukla doldurulmuş trigramlar (yazım
+ * hatası toleranslı arama). Benzerlik pg_trgm'deki {@code word_similarity} gibi
+ * hesaplanır: sorgu kelimesinin trigramlarının, görevdeki en yakın kelimede bulunan oranı.
+ */
+public class TrigramTaskSearchIndex implements TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TrigramTaskSearchIndex.class);
+    static final int GRAM = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Set<UUID>> substringPostings = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> wordPostings = new ConcurrentHashMap<>();
+    private final Map<UUID, Document> documents = new ConcurrentHashMap<>();
+
+    public TrigramTaskSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        substringPostings.clear();
+        wordPostings.clear();
+        documents.clear();
+        jdbcTemplate.query("SELECT id, title, description FROM tasks", rs -> {
+            index(rs.getObject("id", UUID.class), rs.getString("title"), rs.getString("description"));
+        });
+        log.info("In-memory trigram index built with {} tasks and {} trigrams",
+                documents.size(), substringPostings.size());
+    }
+
+    @Override
+    public void onTaskSaved(Task task) {
+        UUID id = task.getId();
+        String title = task.getTitle();
+        String description = task.getDescription();
+        AfterCommit.run(() -> reindex(id, title, description));
+    }
+
+    @Override
+    public void onTaskRemoved(UUID id) {
+        AfterCommit.run(() -> remove(id));
+    }
+
+    /**
+     * Başlık veya açıklamasında sorguyu alt dize olarak içeren görevler ve benzerlik puanları.
+     * Sorgu en az {@link #GRAM} karakter olmalıdır; daha kısa sorgularda trigram yoktur ve
+     * aday kümesi tüm görevler olurdu ({@link NgramTaskSearchEngine} bunları LIKE ile arar).
+     */
+    Map<UUID, Double> containing(String searchQuery) {
+        String needle = searchQuery.toLowerCase(Locale.ROOT).trim();
+        if (needle.length() < GRAM) {
+            throw new IllegalArgumentException("Substring search needs at least " + GRAM + " characters");
+        }
+        Set<UUID> candidates = intersect(substringPostings, substringTrigrams(needle));
+
+        List<Set<String>> queryWords = queryWords(searchQuery);
+        Map<UUID, Double> scores = new HashMap<>();
+        for (UUID id : candidates) {
+            Document document = documents.get(id);
+            if (document != null && document.contains(needle)) {
+                scores.put(id, document.similarity(queryWords, 0));
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Sorgudaki her kelime için en az {@code threshold} benzerlikte bir kelime içeren
+     * görevler ve ortalama benzerlik puanları.
+     */
+    Map<UUID, Double> similarTo(String searchQuery, double threshold) {
+        List<Set<String>> queryWords = queryWords(searchQuery);
+        Set<UUID> candidates = new HashSet<>();
+        for (Set<String> grams : queryWords) {
+            for (String gram : grams) {
+                Set<UUID> ids = wordPostings.get(gram);
+                if (ids != null) {
+                    candidates.addAll(ids);
+                }
+            }
+        }
+
+        Map<UUID, Double> scores = new HashMap<>();
+        for (UUID id : candidates) {
+            Document document = documents.get(id);
+            double score = document != null ? document.similarity(queryWords, threshold) : -1;
+            if (score >= 0) {
+                scores.put(id, score);
+            }
+        }
+        return scores;
+    }
+
+    private synchronized void reindex(UUID id, String title, String description) {
+        remove(id);
+        index(id, title, description);
+    }
+
+    private synchronized void index(UUID id, String title, String description) {
+        Document document = Document.of(title, description);
+        documents.put(id, document);
+        for (String gram : document.substringGrams()) {
+            substringPostings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        for (Set<String> grams : document.words().values()) {
+            for (String gram : grams) {
+                wordPostings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+    }
+
+    private synchronized void remove(UUID id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        document.substringGrams().forEach(gram -> unlink(substringPostings, gram, id));
+        document.words().values().forEach(grams -> grams.forEach(gram -> unlink(wordPostings, gram, id)));
+    }
+
+    private static void unlink(Map<String, Set<UUID>> postings, String gram, UUID id) {
+        postings.computeIfPresent(gram, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static Set<UUID> intersect(Map<String, Set<UUID>> postings, Set<String> grams) {
+        Set<UUID> result = null;
+        for (String gram : grams) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            if (result == null) {
+                result = new HashSet<>(ids);
+            } else {
+                result.retainAll(ids);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result != null ? result : Set.of();
+    }
+
+    private static List<Set<String>> queryWords(String searchQuery) {
+        return InMemoryTaskSearchEngine.tokenize(searchQuery).stream()
+                .map(TrigramTaskSearchIndex::wordTrigrams)
+                .toList();
+    }
+
+    private static Set<String> substringTrigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * pg_trgm ile aynı şekilde kelimenin başına iki, sonuna bir boşluk eklenir.
+     */
+    private static Set<String> wordTrigrams(String word) {
+        return substringTrigrams("  " + word + " ");
+    }
+
+    private record Document(String title, String description, Set<String> substringGrams,
+                            Map<String, Set<String>> words) {
+
+        static Document of(String title, String description) {
+            String lowerTitle = title != null ? title.toLowerCase(Locale.ROOT) : "";
+            String lowerDescription = description != null ? description.toLowerCase(Locale.ROOT) : "";
+
+            Set<String> grams = substringTrigrams(lowerTitle);
+            grams.addAll(substringTrigrams(lowerDescription));
+
+            Map<String, Set<String>> words = new HashMap<>();
+            Set<String> tokens = InMemoryTaskSearchEngine.tokenize(lowerTitle);
+            tokens.addAll(InMemoryTaskSearchEngine.tokenize(lowerDescription));
+            tokens.forEach(token -> words.put(token, wordTrigrams(token)));
+            return new Document(lowerTitle, lowerDescription, grams, words);
+        }
+
+        boolean contains(String needle) {
+            return title.contains(needle) || description.contains(needle);
+        }
+
+        /**
+         * Sorgu kelimelerinin ortalama benzerliği; bir kelime eşiğin altında kalırsa -1.
+         */
+        double similarity(List<Set<String>> queryWords, double threshold) {
+            if (queryWords.isEmpty()) {
+                return 0;
+            }
+            double total = 0;
+            for (Set<String> queryGrams : queryWords) {
+                double best = 0;
+                for (Set<String> wordGrams : words.values()) {
+                    best = Math.max(best, overlap(queryGrams, wordGrams));
+                }
+                if (best < threshold) {
+                    return -1;
+                }
+                total += best;
+            }
+            return total / queryWords.size();
+        }
+
+        private static double overlap(Set<String> queryGrams, Set<String> wordGrams) {
+            int common = 0;
+            for (String gram : queryGrams) {
+                if (wordGrams.contains(gram)) {
+                    common++;
+                }
+            }
+            return (double) common / queryGrams.size();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package org.task.taskmaganer.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -19,10 +21,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final boolean statelessEnabled;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   UserDetailsService userDetailsService,
+                                   PrincipalCache principalCache,
+                                   TokenRevocationRegistry revocationRegistry,
+                                   @Value("${jwt.stateless.enabled:false}") boolean statelessEnabled) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.revocationRegistry = revocationRegistry;
+        this.statelessEnabled = statelessEnabled;
     }
 
     @Override
@@ -40,12 +52,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String jwt = authHeader.substring(7);
 
         try {
-            String username = jwtService.extractUsername(jwt);
+            // Token istek başına tek kez parse edilir; claim'ler aşağıda yeniden kullanılır
+            Claims claims = jwtService.verify(jwt);
+            String username = claims.getSubject();
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                if (authenticateStateless(claims, request)) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                long issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+                UserDetails userDetails = principalCache.getOrLoad(
+                        username, issuedAt, userDetailsService::loadUserByUsername);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -62,4 +83,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Stateless modda Authentication'ı doğrudan token claim'lerinden kurar.
+     * Claim'leri eksik eski token'lar veya registry henüz yüklenmemişse false döner
+     * ve istek veritabanı üzerinden doğrulanır.
+     */
+    private boolean authenticateStateless(Claims claims, HttpServletRequest request) {
+        if (!statelessEnabled || !revocationRegistry.isReady()) {
+            return false;
+        }
+
+        TokenPrincipal principal = TokenPrincipal.fromClaims(claims);
+        if (principal == null) {
+            return false;
+        }
+
+        // İptal edilmiş token için DB'ye düşmeye gerek yok: istek anonim devam eder
+        if (!revocationRegistry.isRevoked(principal.id(), principal.tokenVersion())) {
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+        }
+        return true;
+    }
 }
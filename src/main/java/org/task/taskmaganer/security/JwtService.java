@@ -1,70 +1,137 @@
 package org.task.taskmaganer.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.task.taskmaganer.entity.User;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.function.Function;
 
+/**
+ * JWT üretimi ve doğrulaması.
+ * <p>
+ * İmza anahtarı ve parser uygulama açılışında bir kez oluşturulur. Token her istekte
+ * sadece bir kez parse edilir ({@link #verify(String)}); doğrulanmış claim'ler token
+ * süresi dolana kadar küçük bir cache'te tutulur, aynı token ile gelen sonraki
+ * istekler imza/JSON çözümleme maliyeti ödemez. Cache erişim sırasına göre tutulur;
+ * dolunca en uzun süredir kullanılmayan token O(1) ile atılır.
+ */
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_ACCOUNT_VERSION = "ver";
 
-    @Value("${jwt.expiration}")
-    private long expiration;
+    private final long expiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    private final Object verifiedLock = new Object();
+    private final LinkedHashMap<String, Claims> verifiedTokens;
+
+    public JwtService(@Value("${jwt.secret}") String secretKey,
+                      @Value("${jwt.expiration}") long expiration,
+                      @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                return size() > verifiedCacheMaxSize;
+            }
+        };
+    }
 
     public String generateToken(UserDetails userDetails) {
         return generateToken(Map.of(), userDetails);
     }
 
+    /**
+     * Stateless doğrulama için kullanıcı id'si, rol ve hesap versiyonunu içeren token üretir.
+     * Sadece {@code jwt.stateless.enabled=true} iken kullanılır; aksi halde token'lar
+     * {@link #generateToken(UserDetails)} ile claim'siz üretilir ve her istekte kullanıcı
+     * veritabanından yüklenir.
+     */
+    public String generateStatelessToken(User user) {
+        return generateToken(Map.of(
+                CLAIM_USER_ID, user.getId().toString(),
+                CLAIM_ROLE, user.getRole().name(),
+                CLAIM_ACCOUNT_VERSION, user.getTokenVersion()
+        ), user);
+    }
+
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .claims(extraClaims)
                 .subject(userDetails.getUsername())
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
+                .signWith(signingKey)
                 .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+    /**
+     * Token'ı tek seferde parse edip imzasını ve süresini doğrular.
+     *
+     * @return doğrulanmış claim'ler
+     * @throws io.jsonwebtoken.JwtException token geçersiz veya süresi dolmuşsa
+     */
+    public Claims verify(String token) {
+        // Cache anahtarı token'ın kendisi: zayıf bir hash çakışması başka bir token'ı
+        // doğrulanmış gösterebileceği için kısaltılmış hash kullanılmaz.
+        synchronized (verifiedLock) {
+            Claims cached = verifiedTokens.get(token);
+            if (cached != null) {
+                if (!isExpired(cached)) {
+                    return cached;
+                }
+                verifiedTokens.remove(token);
+            }
+        }
+
+        // İmza doğrulaması kilit dışında yapılır
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        synchronized (verifiedLock) {
+            verifiedTokens.put(token, claims);
+        }
+        return claims;
     }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isExpired(claims);
+    }
+
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(verify(token), userDetails);
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public String extractUsername(String token) {
+        return verify(token).getSubject();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Date extractIssuedAt(String token) {
+        return verify(token).getIssuedAt();
     }
 
-    private boolean isTokenExpired(String token) {
-        Date expirationDate = extractClaim(token, Claims::getExpiration);
-        return expirationDate.before(new Date());
+    private boolean isExpired(Claims claims) {
+        Date expirationDate = claims.getExpiration();
+        return expirationDate != null && expirationDate.getTime() <= System.currentTimeMillis();
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    int verifiedCacheSize() {
+        synchronized (verifiedLock) {
+            return verifiedTokens.size();
+        }
     }
 }
@@ -0,0 +1,169 @@
+package org.task.taskmaganer.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Kimliği doğrulanmış kullanıcıları (UserDetails) bellekte tutan sınırlı, TTL'li cache.
+ * <p>
+ * Anahtar: kullanıcı adı + token'ın issued-at değeri. Böylece aynı token ile gelen
+ * istekler users tablosuna gitmeden doğrulanır. Girdiler erişim sırasına göre tutulur;
+ * kapasite aşılınca en uzun süredir kullanılmayan girdi O(1) ile atılır. Kullanıcı adı
+ * indeksi sayesinde {@link #invalidate(String)} sadece o kullanıcının girdilerine dokunur.
+ * Loader kilit dışında çağrılır; kilit altında sadece map işlemleri yapılır.
+ */
+@Component
+public class PrincipalCache {
+
+    private static final String METRIC_PREFIX = "auth.principal.cache";
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<PrincipalKey, CachedPrincipal> entries;
+    private final Map<String, Set<PrincipalKey>> keysByUsername = new HashMap<>();
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public PrincipalCache(@Value("${security.principal-cache.enabled:true}") boolean enabled,
+                          @Value("${security.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+                          MeterRegistry meterRegistry) {
+        this(enabled, maxSize, ttlSeconds, meterRegistry, System::currentTimeMillis);
+    }
+
+    PrincipalCache(boolean enabled, int maxSize, long ttlSeconds, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.clock = clock;
+
+        this.hits = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder(METRIC_PREFIX + ".evictions").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, PrincipalCache::size).register(meterRegistry);
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PrincipalKey, CachedPrincipal> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                unindex(eldest.getKey());
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Cache'te geçerli bir girdi varsa onu, yoksa loader ile yükleyip cache'e koyar.
+     */
+    public UserDetails getOrLoad(String username, long issuedAt, Function<String, UserDetails> loader) {
+        if (!enabled) {
+            return loader.apply(username);
+        }
+
+        PrincipalKey key = new PrincipalKey(username, issuedAt);
+        long now = clock.getAsLong();
+
+        synchronized (lock) {
+            CachedPrincipal cached = entries.get(key);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    hits.increment();
+                    return cached.userDetails();
+                }
+                remove(key);
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        UserDetails userDetails = loader.apply(username);
+        synchronized (lock) {
+            entries.put(key, new CachedPrincipal(userDetails, now + ttlMillis));
+            keysByUsername.computeIfAbsent(username, name -> new HashSet<>()).add(key);
+        }
+        return userDetails;
+    }
+
+    /**
+     * Kullanıcıya ait tüm girdileri siler (update/delete sonrası çağrılır).
+     * Aktif bir transaction varsa commit sonrasında bir kez daha silinir; böylece
+     * commit'ten önce eski satırı okuyup cache'e koyan eşzamanlı istekler de temizlenir.
+     */
+    public void invalidate(String username) {
+        if (username == null) {
+            return;
+        }
+        evict(username);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (lock) {
+            entries.clear();
+            keysByUsername.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    private void evict(String username) {
+        synchronized (lock) {
+            Set<PrincipalKey> keys = keysByUsername.remove(username);
+            if (keys != null) {
+                keys.forEach(entries::remove);
+            }
+        }
+    }
+
+    private void remove(PrincipalKey key) {
+        entries.remove(key);
+        unindex(key);
+    }
+
+    private void unindex(PrincipalKey key) {
+        Set<PrincipalKey> keys = keysByUsername.get(key.username());
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysByUsername.remove(key.username());
+        }
+    }
+
+    private record PrincipalKey(String username, long issuedAt) {
+    }
+
+    private record CachedPrincipal(UserDetails userDetails, long expiresAt) {
+    }
+}
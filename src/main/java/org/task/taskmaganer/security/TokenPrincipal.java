@@ -0,0 +1,40 @@
+package org.task.taskmaganer.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.task.taskmaganer.entity.Role;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Stateless modda token claim'lerinden oluşturulan hafif kimlik.
+ * Veritabanına gitmeden Authentication oluşturmak için kullanılır.
+ */
+public record TokenPrincipal(UUID id, String username, Role role, int tokenVersion) implements Principal {
+
+    /**
+     * Claim'lerden principal oluşturur; stateless claim'ler eksikse (eski token) null döner.
+     */
+    public static TokenPrincipal fromClaims(Claims claims) {
+        String userId = claims.get(JwtService.CLAIM_USER_ID, String.class);
+        String role = claims.get(JwtService.CLAIM_ROLE, String.class);
+        Integer version = claims.get(JwtService.CLAIM_ACCOUNT_VERSION, Integer.class);
+
+        if (userId == null || role == null || version == null || claims.getSubject() == null) {
+            return null;
+        }
+        return new TokenPrincipal(UUID.fromString(userId), claims.getSubject(), Role.valueOf(role), version);
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
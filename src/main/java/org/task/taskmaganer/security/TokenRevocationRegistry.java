@@ -0,0 +1,174 @@
+package org.task.taskmaganer.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.entity.UserTombstone;
+import org.task.taskmaganer.repository.UserAccountState;
+import org.task.taskmaganer.repository.UserRepository;
+import org.task.taskmaganer.repository.UserTombstoneRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stateless JWT modunda hesap durumunu bellekte tutan iptal (revocation) kaydı.
+ * <p>
+ * Sadece token_version &gt; 0 veya pasif kullanıcılar tutulur; kayıt yoksa kullanıcı
+ * aktif ve versiyonu 0 kabul edilir. Açılışta tam yükleme, sonra periyodik olarak
+ * updated_at üzerinden artımlı yenileme yapılır. Kalıcı silinen kullanıcıların satırı
+ * kalmadığı için silme user_tombstones tablosuna yazılır ve yenilemede oradan okunur.
+ * Aynı node'daki değişiklikler commit sonrası anında yansıtılır; diğer node'lar en geç
+ * bir yenileme aralığı sonra görür.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+    // Saat farkları ve geç commit'lenen transaction'lar için yenileme penceresi geriye kaydırılır
+    private static final long REFRESH_OVERLAP_SECONDS = 5;
+    private static final AccountState DELETED = new AccountState(-1, false);
+
+    private final UserRepository userRepository;
+    private final UserTombstoneRepository tombstoneRepository;
+    private final boolean enabled;
+    private final long tokenLifetimeMs;
+    private final Map<UUID, AccountState> states = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+    private volatile LocalDateTime lastRefresh;
+
+    public TokenRevocationRegistry(UserRepository userRepository,
+                                   UserTombstoneRepository tombstoneRepository,
+                                   @Value("${jwt.stateless.enabled:false}") boolean enabled,
+                                   @Value("${jwt.expiration}") long tokenLifetimeMs) {
+        this.userRepository = userRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.enabled = enabled;
+        this.tokenLifetimeMs = tokenLifetimeMs;
+    }
+
+    /**
+     * İlk tam yükleme tamamlanmadan stateless doğrulama yapılmamalıdır.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isRevoked(UUID userId, int tokenVersion) {
+        AccountState state = states.get(userId);
+        if (state == null) {
+            return tokenVersion != 0;
+        }
+        return !state.active() || state.tokenVersion() != tokenVersion;
+    }
+
+    /**
+     * Kullanıcının güncel durumunu commit sonrasında kayda yansıtır.
+     */
+    public void record(User user) {
+        AccountState state = new AccountState(user.getTokenVersion(), Boolean.TRUE.equals(user.getIsActive()));
+        applyAfterCommit(user.getId(), state);
+    }
+
+    /**
+     * Kalıcı olarak silinen kullanıcının token'larını geçersiz kılar. Tombstone silme ile
+     * aynı transaction'da yazılır; diğer node'lar onu bir sonraki yenilemede okur.
+     */
+    public void revoke(UUID userId) {
+        tombstoneRepository.save(new UserTombstone(userId));
+        applyAfterCommit(userId, DELETED);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime started = LocalDateTime.now();
+        userRepository.findRevokedAccountStates().forEach(this::apply);
+        tombstoneRepository.findAll().forEach(this::apply);
+        lastRefresh = started;
+        ready = true;
+        log.info("Token revocation registry loaded {} account states", states.size());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.stateless.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (!enabled || !ready) {
+            return;
+        }
+        LocalDateTime started = LocalDateTime.now();
+        try {
+            LocalDateTime since = lastRefresh.minusSeconds(REFRESH_OVERLAP_SECONDS);
+            List<UserAccountState> changed = userRepository.findAccountStatesUpdatedSince(since);
+            List<UserTombstone> deleted = tombstoneRepository.findByDeletedAtGreaterThanEqual(since);
+            changed.forEach(this::apply);
+            deleted.forEach(this::apply);
+            lastRefresh = started;
+            log.debug("Token revocation registry refreshed {} account states and {} deletions",
+                    changed.size(), deleted.size());
+        } catch (Exception ex) {
+            log.warn("Token revocation registry refresh failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Token ömrünü geçmiş tombstone'ları siler; o tarihten önce verilmiş token'lar zaten
+     * süresi dolduğu için reddedilir.
+     */
+    @Scheduled(cron = "${jwt.stateless.tombstone-purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteDeletedBefore(
+                LocalDateTime.now().minus(Duration.ofMillis(tokenLifetimeMs)).minusSeconds(REFRESH_OVERLAP_SECONDS));
+        if (purged > 0) {
+            log.info("Purged {} expired user tombstones", purged);
+        }
+    }
+
+    private void applyAfterCommit(UUID userId, AccountState state) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, state);
+                }
+            });
+        } else {
+            apply(userId, state);
+        }
+    }
+
+    private void apply(UserAccountState state) {
+        apply(state.getId(), new AccountState(state.getTokenVersion(), Boolean.TRUE.equals(state.getIsActive())));
+    }
+
+    private void apply(UserTombstone tombstone) {
+        apply(tombstone.getUserId(), DELETED);
+    }
+
+    private void apply(UUID userId, AccountState state) {
+        if (state.active() && state.tokenVersion() == 0) {
+            states.remove(userId);
+        } else {
+            states.put(userId, state);
+        }
+    }
+
+    private record AccountState(int tokenVersion, boolean active) {
+    }
+}
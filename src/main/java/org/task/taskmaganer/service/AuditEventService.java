@@ -0,0 +1,76 @@
+package org.task.taskmaganer.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.task.taskmaganer.aspect.AuditEvent;
+import org.task.taskmaganer.aspect.AuditEventSink;
+import org.task.taskmaganer.dto.request.AuditEventFilter;
+import org.task.taskmaganer.dto.response.AuditEventResponse;
+import org.task.taskmaganer.dto.response.PageResponse;
+import org.task.taskmaganer.exception.InvalidRequestException;
+import org.task.taskmaganer.repository.AuditEventRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Audit event'lerini audit_events tablosuna yazan sink ve sorgu servisi.
+ * <p>
+ * Asenkron audit pipeline'ı ({@link org.task.taskmaganer.aspect.AsyncAuditDispatcher})
+ * her batch'i {@link #write(List)} ile iletir; batch tek bir JDBC batch insert olarak yazılır.
+ * audit_events tablosu sadece Flyway ile oluşturulur; {@code audit.persistence.enabled=false}
+ * iken (dev, loadtest) servis ve {@code /audit-events} endpoint'i yüklenmez.
+ */
+@Service
+@ConditionalOnProperty(name = "audit.persistence.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditEventService implements AuditEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditEventService.class);
+
+    private final AuditEventRepository auditEventRepository;
+    private final int partitionsAhead;
+
+    public AuditEventService(AuditEventRepository auditEventRepository,
+                             @Value("${audit.persistence.partitions-ahead:2}") int partitionsAhead) {
+        this.auditEventRepository = auditEventRepository;
+        this.partitionsAhead = partitionsAhead;
+    }
+
+    @Override
+    public void write(List<AuditEvent> events) {
+        auditEventRepository.batchInsert(events);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<AuditEventResponse> findEvents(AuditEventFilter filter, Pageable pageable) {
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to())) {
+            throw new InvalidRequestException("from", "'from' must be before 'to'");
+        }
+        return new PageResponse<>(auditEventRepository.findAll(filter, pageable));
+    }
+
+    /**
+     * Bu ay ve önümüzdeki aylar için partition'ları hazırlar; böylece event'ler
+     * default partition'a düşmez.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${audit.persistence.partition-cron:0 0 3 * * *}")
+    public void ensurePartitions() {
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        try {
+            for (int i = 0; i <= partitionsAhead; i++) {
+                auditEventRepository.createMonthlyPartition(month.plusMonths(i));
+            }
+        } catch (Exception ex) {
+            log.warn("Could not create audit_events partitions: {}", ex.getMessage());
+        }
+    }
+}
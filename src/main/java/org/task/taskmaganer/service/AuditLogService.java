@@ -4,7 +4,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
+import org.task.taskmaganer.aspect.AuditEvent;
+import org.task.taskmaganer.aspect.AuditEventSink;
+import org.task.taskmaganer.config.CorrelationIdFilter;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -20,7 +24,7 @@ import java.util.UUID;
  * - Audit trail
  */
 @Service
-public class AuditLogService {
+public class AuditLogService implements AuditEventSink {
 
     private static final Logger auditLog = LoggerFactory.getLogger("AUDIT");
     private static final Logger log = LoggerFactory.getLogger(AuditLogService.class);
@@ -128,6 +132,19 @@ public class AuditLogService {
         clearMdc();
     }
 
+    /**
+     * Asenkron audit pipeline'ından gelen batch'i AUDIT logger'ına yazar. Batch farklı
+     * isteklerden gelebildiği için her event kendi correlation ID'si ile loglanır.
+     */
+    @Override
+    public void write(List<AuditEvent> events) {
+        for (AuditEvent event : events) {
+            CorrelationIdFilter.runWithCorrelationId(event.correlationId(), () ->
+                    logBusinessEvent(event.action(), event.entityType(), event.entityId(),
+                            event.userId(), event.message()));
+        }
+    }
+
     /**
      * Security event loglar - şüpheli aktiviteler.
      */
@@ -143,6 +160,9 @@ public class AuditLogService {
 
     /**
      * Performance metrik logları.
+     * <p>
+     * İstek içinden (ör. yavaş SQL ölçümü) çağrılabildiği için sadece kendi MDC anahtarlarını
+     * temizler; isteğin correlation ID'si korunur.
      */
     public void logPerformanceMetric(String operation, long durationMs, String details) {
         MDC.put("metricType", "PERFORMANCE");
@@ -156,10 +176,19 @@ public class AuditLogService {
                     operation, durationMs);
         }
         
-        clearMdc();
+        MDC.remove("metricType");
+        MDC.remove("operation");
     }
 
+    /**
+     * Sadece bu servisin koyduğu anahtarları siler; senkron yazımda request thread'inin
+     * correlation ID'si MDC'de kalır.
+     */
     private void clearMdc() {
-        MDC.clear();
+        MDC.remove("action");
+        MDC.remove("entityType");
+        MDC.remove("entityId");
+        MDC.remove("userId");
+        MDC.remove("event");
     }
 }
@@ -1,5 +1,7 @@
 package org.task.taskmaganer.service;
 
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,21 +16,25 @@ import org.task.taskmaganer.repository.UserRepository;
 import org.task.taskmaganer.security.JwtService;
 
 @Service
+@Timed(value = "service.invocations", histogram = true)
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final boolean statelessEnabled;
 
     public AuthService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
                        JwtService jwtService,
-                       AuthenticationManager authenticationManager) {
+                       AuthenticationManager authenticationManager,
+                       @Value("${jwt.stateless.enabled:false}") boolean statelessEnabled) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
+        this.statelessEnabled = statelessEnabled;
     }
 
     public AuthResponse register(CreateUserRequest request) {
@@ -50,7 +56,7 @@ public class AuthService {
 
         User savedUser = userRepository.save(user);
 
-        String token = jwtService.generateToken(savedUser);
+        String token = issueToken(savedUser);
         return new AuthResponse(token, savedUser.getUsername(), savedUser.getRole().name());
     }
 
@@ -65,7 +71,15 @@ public class AuthService {
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        String token = jwtService.generateToken(user);
+        String token = issueToken(user);
         return new AuthResponse(token, user.getUsername(), user.getRole().name());
     }
+
+    /**
+     * Stateless modda id/rol/versiyon claim'leri token'a yazılır; kapalıyken token sadece
+     * kullanıcı adını taşır ve yetkiler her istekte veritabanından okunur.
+     */
+    private String issueToken(User user) {
+        return statelessEnabled ? jwtService.generateStatelessToken(user) : jwtService.generateToken(user);
+    }
 }
@@ -0,0 +1,70 @@
+package org.task.taskmaganer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.task.taskmaganer.dto.request.SearchTaskRequest;
+import org.task.taskmaganer.dto.response.TaskResponse;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.export.TaskExportFormat;
+import org.task.taskmaganer.export.ExportWriter;
+import org.task.taskmaganer.repository.TaskRepository;
+import org.task.taskmaganer.search.TaskSearchEngines;
+import org.task.taskmaganer.specification.TaskSpecification;
+import org.task.taskmaganer.specification.TaskSpecification.TaskFilterCriteria;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Filtreye uyan görevleri doğrudan response stream'ine yazar.
+ * <p>
+ * Satırlar forward-only JDBC cursor ile {@code tasks.export.fetch-size}'lık parçalar
+ * halinde okunur ve {@link TaskResponse} projeksiyonu olarak yazılır; sayfalama ve
+ * COUNT yapılmaz, bellek kullanımı sonuç sayısından bağımsızdır. Cursor transaction
+ * boyunca açık kalır; PostgreSQL fetch size'ı sadece transaction içinde uygular.
+ */
+@Service
+public class TaskExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskExportService.class);
+
+    private static final Sort EXPORT_SORT = Sort.by(Sort.Order.desc(Task.Fields.createdAt), Sort.Order.desc(Task.Fields.id));
+
+    private final TaskRepository taskRepository;
+    private final TaskSearchEngines searchEngines;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public TaskExportService(TaskRepository taskRepository, TaskSearchEngines searchEngines, ObjectMapper objectMapper,
+                             @Value("${tasks.export.fetch-size:500}") int fetchSize) {
+        this.taskRepository = taskRepository;
+        this.searchEngines = searchEngines;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * @return yazılan görev sayısı
+     */
+    @Transactional(readOnly = true)
+    public long export(SearchTaskRequest request, TaskExportFormat format, OutputStream out) throws IOException {
+        TaskFilterCriteria criteria = request.toFilterCriteria();
+        long started = System.currentTimeMillis();
+        long count;
+
+        try (Stream<TaskResponse> rows = taskRepository.streamResponses(
+                TaskSpecification.withFilters(criteria, searchEngines.forCriteria(criteria)), EXPORT_SORT, fetchSize);
+             ExportWriter<TaskResponse> writer = format.open(out, objectMapper)) {
+            count = writer.writeAll(rows);
+        }
+
+        log.info("Exported {} tasks as {} in {}ms", count, format, System.currentTimeMillis() - started);
+        return count;
+    }
+}
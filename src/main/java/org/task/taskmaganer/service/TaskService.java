@@ -1,42 +1,77 @@
 package org.task.taskmaganer.service;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.task.taskmaganer.annotation.EntityId;
+import org.task.taskmaganer.dto.request.BulkUpdateTaskRequest;
 import org.task.taskmaganer.dto.request.CreateTaskRequest;
+import org.task.taskmaganer.dto.request.PageQuery;
+import org.task.taskmaganer.dto.request.PaginationMode;
 import org.task.taskmaganer.dto.request.SearchTaskRequest;
+import org.task.taskmaganer.dto.request.TaskSelectionRequest;
 import org.task.taskmaganer.dto.request.UpdateTaskRequest;
+import org.task.taskmaganer.dto.response.BulkTaskResponse;
+import org.task.taskmaganer.dto.response.BulkTaskResult;
+import org.task.taskmaganer.dto.response.BulkUpdateResponse;
 import org.task.taskmaganer.dto.response.PageResponse;
 import org.task.taskmaganer.dto.response.TaskResponse;
 import org.task.taskmaganer.entity.Task;
 import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatsKey;
 import org.task.taskmaganer.entity.TaskStatus;
 import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.exception.InvalidRequestException;
 import org.task.taskmaganer.exception.ResourceNotFoundException;
 import org.task.taskmaganer.repository.TaskRepository;
 import org.task.taskmaganer.repository.UserRepository;
 import org.task.taskmaganer.annotation.AuditLog;
+import org.task.taskmaganer.search.TaskSearchEngine;
+import org.task.taskmaganer.search.TaskSearchEngines;
 import org.task.taskmaganer.specification.TaskSpecification;
-
+import org.task.taskmaganer.specification.TaskSpecification.TaskFilterCriteria;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "service.invocations", histogram = true)
 @Transactional
 public class TaskService {
 
+    private static final String RELEVANCE_SORT = "relevance";
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final AuditLogService auditLogService;
+    private final TaskSearchEngines searchEngines;
+    private final TaskStatsService taskStatsService;
+    private final int bulkMaxSize;
 
     @Autowired
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository, AuditLogService auditLogService) {
+    public TaskService(TaskRepository taskRepository, UserRepository userRepository, AuditLogService auditLogService,
+                       TaskSearchEngines searchEngines, TaskStatsService taskStatsService,
+                       @Value("${tasks.bulk.max-size:1000}") int bulkMaxSize) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.auditLogService = auditLogService;
+        this.searchEngines = searchEngines;
+        this.taskStatsService = taskStatsService;
+        this.bulkMaxSize = bulkMaxSize;
     }
 
     @AuditLog(action = "CREATE_TASK", entityType = "TASK")
@@ -54,108 +89,134 @@ public class TaskService {
         task.setIsActive(true);
 
         Task savedTask = taskRepository.save(task);
+        searchEngines.onTaskSaved(savedTask);
+        taskStatsService.recordCreated(List.of(savedTask));
 
         return new TaskResponse(savedTask);
     }
 
+    /**
+     * Görevleri tek transaction'da oluşturur: kullanıcılar tek sorguda çözülür, INSERT'ler
+     * JDBC batch'leri halinde yapılır ve tüm istek için tek audit kaydı yazılır.
+     * Kullanıcısı bulunamayan öğeler atlanır ve sonuçta FAILED olarak döner.
+     */
+    @AuditLog(action = "BULK_CREATE_TASK", entityType = "TASK")
+    public BulkTaskResponse createTasks(List<CreateTaskRequest> requests) {
+        if (requests.size() > bulkMaxSize) {
+            throw new InvalidRequestException("tasks", "At most " + bulkMaxSize + " tasks can be created per request");
+        }
+
+        Map<UUID, User> users = findUsers(requests);
+        BulkTaskResult[] results = new BulkTaskResult[requests.size()];
+        List<Task> tasks = new ArrayList<>(requests.size());
+        List<Integer> taskIndexes = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTaskRequest request = requests.get(i);
+            User user = users.get(parseUserId(request.getUserId()));
+            if (user == null) {
+                results[i] = BulkTaskResult.failed(i, "User not found with id: " + request.getUserId());
+                continue;
+            }
+            tasks.add(new Task(request.getTitle(), request.getDescription(),
+                    request.getPriority(), request.getStatus(), user));
+            taskIndexes.add(i);
+        }
+
+        List<Task> savedTasks = taskRepository.insertAll(tasks);
+        taskStatsService.recordCreated(savedTasks);
+        for (int i = 0; i < savedTasks.size(); i++) {
+            Task savedTask = savedTasks.get(i);
+            searchEngines.onTaskSaved(savedTask);
+            results[taskIndexes.get(i)] = BulkTaskResult.created(taskIndexes.get(i), new TaskResponse(savedTask));
+        }
+        return new BulkTaskResponse(Arrays.asList(results));
+    }
+
+    @Transactional(readOnly = true)
     public TaskResponse getTaskById(UUID id) {
-        Task task = taskRepository.findById(id)
+        return taskRepository.findById(id)
+                .map(TaskResponse::new)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-        return new TaskResponse(task);
     }
 
-    public PageResponse<TaskResponse> getAllTasks(Pageable pageable) {
-        Page<Task> taskPage = taskRepository.findAll(pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> getAllTasks(PageQuery query) {
+        return findPage(query, TaskFilterCriteria.builder().build(), taskRepository::findAllResponses);
     }
 
-    public PageResponse<TaskResponse> getAllActiveTasks(Pageable pageable) {
-        Page<Task> taskPage = taskRepository.findAllActiveTasks(pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> getAllActiveTasks(PageQuery query) {
+        return findPage(query, TaskFilterCriteria.builder().isActive(true).build(), taskRepository::findAllActiveTasks);
     }
 
-    public PageResponse<TaskResponse> getTasksByStatus(TaskStatus status, Pageable pageable) {
-        Page<Task> taskPage = taskRepository.findByStatus(status, pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> getTasksByStatus(TaskStatus status, PageQuery query) {
+        return findPage(query, TaskFilterCriteria.builder().status(status).build(),
+                pageable -> taskRepository.findByStatus(status, pageable));
     }
 
-    public PageResponse<TaskResponse> getTasksByPriority(TaskPriority priority, Pageable pageable) {
-        Page<Task> taskPage = taskRepository.findByPriority(priority, pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> getTasksByPriority(TaskPriority priority, PageQuery query) {
+        return findPage(query, TaskFilterCriteria.builder().priority(priority).build(),
+                pageable -> taskRepository.findByPriority(priority, pageable));
     }
 
-    public PageResponse<TaskResponse> getActiveTasksByStatus(TaskStatus status, Pageable pageable) {
-        Page<Task> taskPage = taskRepository.findAllActiveTasksByStatus(status, pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> getActiveTasksByStatus(TaskStatus status, PageQuery query) {
+        return findPage(query, TaskFilterCriteria.builder().isActive(true).status(status).build(),
+                pageable -> taskRepository.findAllActiveTasksByStatus(status, pageable));
     }
 
-    public PageResponse<TaskResponse> getActiveTasksByPriority(TaskPriority priority, Pageable pageable) {
-        Page<Task> taskPage = taskRepository.findAllActiveTasksByPriority(priority, pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> getActiveTasksByPriority(TaskPriority priority, PageQuery query) {
+        return findPage(query, TaskFilterCriteria.builder().isActive(true).priority(priority).build(),
+                pageable -> taskRepository.findAllActiveTasksByPriority(priority, pageable));
     }
 
-    public PageResponse<TaskResponse> getTasksByUserId(UUID userId, Pageable pageable) {
-        if (!userRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("User not found with id: " + userId);
-        }
-        Page<Task> taskPage = taskRepository.findByUserId(userId, pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> getTasksByUserId(UUID userId, PageQuery query) {
+        requireUser(userId);
+        return findPage(query, TaskFilterCriteria.builder().userId(userId).build(),
+                pageable -> taskRepository.findByUserId(userId, pageable));
     }
 
-    public PageResponse<TaskResponse> getActiveTasksByUserId(UUID userId, Pageable pageable) {
-        if (!userRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("User not found with id: " + userId);
-        }
-        Page<Task> taskPage = taskRepository.findActiveTasksByUserId(userId, pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> getActiveTasksByUserId(UUID userId, PageQuery query) {
+        requireUser(userId);
+        return findPage(query, TaskFilterCriteria.builder().userId(userId).isActive(true).build(),
+                pageable -> taskRepository.findActiveTasksByUserId(userId, pageable));
     }
 
-    public PageResponse<TaskResponse> getTasksByUserIdAndStatus(UUID userId, TaskStatus status, Pageable pageable) {
-        if (!userRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("User not found with id: " + userId);
-        }
-        Page<Task> taskPage = taskRepository.findByUserIdAndStatus(userId, status, pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> getTasksByUserIdAndStatus(UUID userId, TaskStatus status, PageQuery query) {
+        requireUser(userId);
+        return findPage(query, TaskFilterCriteria.builder().userId(userId).status(status).build(),
+                pageable -> taskRepository.findByUserIdAndStatus(userId, status, pageable));
     }
 
-    public PageResponse<TaskResponse> getTasksByUserIdAndPriority(UUID userId, TaskPriority priority, Pageable pageable) {
-        if (!userRepository.existsById(userId)) {
-            throw new ResourceNotFoundException("User not found with id: " + userId);
-        }
-        Page<Task> taskPage = taskRepository.findByUserIdAndPriority(userId, priority, pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> getTasksByUserIdAndPriority(UUID userId, TaskPriority priority, PageQuery query) {
+        requireUser(userId);
+        return findPage(query, TaskFilterCriteria.builder().userId(userId).priority(priority).build(),
+                pageable -> taskRepository.findByUserIdAndPriority(userId, priority, pageable));
     }
 
-    public PageResponse<TaskResponse> searchTasks(SearchTaskRequest request, Pageable pageable) {
-        var criteria = request.toFilterCriteria();
-        Specification<Task> spec = TaskSpecification.withFilters(criteria);
-
-        Page<Task> taskPage = taskRepository.findAll(spec, pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> searchTasks(SearchTaskRequest request, PageQuery query) {
+        return findPage(query, request.toFilterCriteria(), null);
     }
 
-    public PageResponse<TaskResponse> searchTasksByQuery(String searchQuery, Pageable pageable) {
-        Specification<Task> spec = TaskSpecification.withSearchQuery(searchQuery);
-        Page<Task> taskPage = taskRepository.findAll(spec, pageable);
-        Page<TaskResponse> responsePage = taskPage.map(TaskResponse::new);
-        return new PageResponse<>(responsePage);
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> searchTasksByQuery(String searchQuery, boolean fuzzy, PageQuery query) {
+        return findPage(query, TaskFilterCriteria.builder().searchQuery(searchQuery).fuzzy(fuzzy).build(), null);
     }
 
     @AuditLog(action = "UPDATE_TASK", entityType = "TASK")
     public TaskResponse updateTask(@EntityId UUID id, UpdateTaskRequest request) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        TaskStatsKey statsKey = TaskStatsKey.of(task);
 
         if (request.getTitle() != null) {
             task.setTitle(request.getTitle());
@@ -178,26 +239,169 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        searchEngines.onTaskSaved(updatedTask);
+        taskStatsService.recordChanged(statsKey, updatedTask);
         return new TaskResponse(updatedTask);
     }
 
     @AuditLog(action = "DELETE_TASK", entityType = "TASK")
     public void deleteTask(@EntityId UUID id) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
 
+        TaskStatsKey statsKey = TaskStatsKey.of(task);
         task.setIsActive(false);
         taskRepository.save(task);
+        taskStatsService.recordChanged(statsKey, task);
     }
 
-    public void hardDeleteTask(UUID id) {
-        if (!taskRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Task not found with id: " + id);
+    /**
+     * Seçilen görevlerin durum/önceliğini entity yüklemeden tek bir UPDATE ile değiştirir.
+     * Sayaçlar için değişecek satırlar önce kilitlenip anahtar başına sayılır.
+     * Tüm işlem için tek audit kaydı yazılır.
+     */
+    @AuditLog(action = "BULK_UPDATE_TASK", entityType = "TASK")
+    public BulkUpdateResponse updateTasks(BulkUpdateTaskRequest request) {
+        TaskStatus status = request.getStatus();
+        TaskPriority priority = request.getPriority();
+        if (status == null && priority == null) {
+            throw new InvalidRequestException("status", "Status or priority is required");
         }
-        taskRepository.deleteById(id);
+
+        Specification<Task> selection = selectTasks(request);
+        Map<TaskStatsKey, Long> counts = taskRepository.lockAndCountByStatsKey(
+                selection.and(TaskSpecification.differsFrom(status, priority)));
+        int affected = taskRepository.updateStatusAndPriority(selection, status, priority);
+        requireCounted(counts, affected);
+        taskStatsService.recordMoved(counts, key -> key.with(status, priority));
+        return new BulkUpdateResponse(affected);
+    }
+
+    /**
+     * Seçilen görevleri tek bir UPDATE ile soft delete eder.
+     */
+    @AuditLog(action = "BULK_DELETE_TASK", entityType = "TASK")
+    public BulkUpdateResponse deleteTasks(TaskSelectionRequest request) {
+        Specification<Task> selection = selectTasks(request);
+        Map<TaskStatsKey, Long> counts = taskRepository.lockAndCountByStatsKey(
+                selection.and(TaskSpecification.withActiveStatus()));
+        int affected = taskRepository.deactivateAll(selection);
+        requireCounted(counts, affected);
+        taskStatsService.recordMoved(counts, TaskStatsKey::deactivated);
+        return new BulkUpdateResponse(affected);
+    }
+
+    public void hardDeleteTask(UUID id) {
+        Task task = taskRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        taskRepository.delete(task);
+        taskStatsService.recordRemoved(task);
+        searchEngines.onTaskRemoved(id);
     }
 
+    @Transactional(readOnly = true)
     public boolean existsByTitle(String title) {
         return taskRepository.existsByTitle(title);
     }
+
+    /**
+     * Kilitli satırlar değişemez, ama sayımdan sonra başka bir transaction'ın commit ettiği
+     * satırlar seçime girebilir (READ COMMITTED). Güncellenen satır sayısı sayımla
+     * tutmuyorsa sayaçlar kaymasın diye işlem geri alınır; istemci yeniden dener.
+     */
+    private static void requireCounted(Map<TaskStatsKey, Long> counts, int affected) {
+        long counted = counts.values().stream().mapToLong(Long::longValue).sum();
+        if (counted != affected) {
+            throw new OptimisticLockingFailureException(
+                    "Selected tasks changed during bulk update: counted " + counted + ", updated " + affected);
+        }
+    }
+
+    /**
+     * Toplu işlemin hedefini id listesinden veya arama filtresinden oluşturur.
+     * Boş filtre tüm tabloyu seçeceği için reddedilir.
+     */
+    private Specification<Task> selectTasks(TaskSelectionRequest request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean byFilter = request.getFilter() != null;
+        if (byIds == byFilter) {
+            throw new InvalidRequestException("Exactly one of ids or filter is required");
+        }
+
+        if (byIds) {
+            if (request.getIds().size() > bulkMaxSize) {
+                throw new InvalidRequestException("ids", "At most " + bulkMaxSize + " ids can be given per request");
+            }
+            return TaskSpecification.withIds(request.getIds());
+        }
+
+        TaskFilterCriteria criteria = request.getFilter().toFilterCriteria();
+        if (!criteria.hasFilters()) {
+            throw new InvalidRequestException("filter", "Filter must contain at least one criterion");
+        }
+        return TaskSpecification.withFilters(criteria, searchEngines.forCriteria(criteria));
+    }
+
+    private Map<UUID, User> findUsers(List<CreateTaskRequest> requests) {
+        Set<UUID> userIds = new HashSet<>();
+        for (CreateTaskRequest request : requests) {
+            UUID userId = parseUserId(request.getUserId());
+            if (userId != null) {
+                userIds.add(userId);
+            }
+        }
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private static UUID parseUserId(String userId) {
+        try {
+            return UUID.fromString(userId);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Kullanıcı second-level cache'te varsa veritabanına gidilmez (existsById her seferinde COUNT atar).
+     */
+    private void requireUser(UUID userId) {
+        if (userRepository.findById(userId).isEmpty()) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+    }
+
+    /**
+     * Sayfalama moduna göre sorguyu çalıştırır. Tüm modlar entity yerine doğrudan
+     * {@link TaskResponse} projeksiyonu okur.
+     * OFFSET modunda repository'nin Page sorgusu (içerik + COUNT), diğer modlarda ise
+     * aynı filtrenin Specification karşılığı kullanılır:
+     * KEYSET seek predicate'i, SLICE size+1 okuma, ESTIMATED ise SLICE + planner tahmini.
+     * offsetQuery null ise OFFSET modu da Specification ile sorgulanır.
+     * {@code sort=relevance} verilirse (KEYSET hariç) sonuçlar arama alaka düzeyine göre sıralanır.
+     */
+    private PageResponse<TaskResponse> findPage(PageQuery query, TaskFilterCriteria criteria,
+                                                Function<Pageable, Page<TaskResponse>> offsetQuery) {
+        TaskSearchEngine searchEngine = searchEngines.forCriteria(criteria);
+        Specification<Task> spec = TaskSpecification.withFilters(criteria, searchEngine);
+
+        if (query.mode() != PaginationMode.KEYSET && query.pageable().getSort().getOrderFor(RELEVANCE_SORT) != null) {
+            query = query.withPageable(PageRequest.of(query.pageable().getPageNumber(), query.pageable().getPageSize()));
+            spec = spec.and(searchEngine.orderByRelevance(criteria.searchQuery()));
+            offsetQuery = null;
+        }
+
+        Specification<Task> filter = spec;
+        Pageable pageable = query.pageable();
+        return switch (query.mode()) {
+            case OFFSET -> new PageResponse<>(offsetQuery != null
+                    ? offsetQuery.apply(pageable)
+                    : taskRepository.findResponses(filter, pageable));
+            case KEYSET -> TaskSpecification.KEYSET.page(query, spec, taskRepository::findResponses);
+            case SLICE -> PageResponse.slice(taskRepository.findResponseSlice(spec, pageable));
+            case ESTIMATED -> PageResponse.estimated(
+                    taskRepository.findResponseSlice(spec, pageable),
+                    taskRepository.estimateCount(criteria));
+        };
+    }
 }
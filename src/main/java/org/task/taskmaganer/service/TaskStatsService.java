@@ -0,0 +1,204 @@
+package org.task.taskmaganer.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.task.taskmaganer.dto.response.TaskStatsResponse;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatCounter;
+import org.task.taskmaganer.entity.TaskStatsKey;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.exception.ResourceNotFoundException;
+import org.task.taskmaganer.repository.TaskStatCounterRepository;
+import org.task.taskmaganer.repository.TaskStatTotal;
+import org.task.taskmaganer.repository.UserRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * Görev sayaçlarını tutar; istatistik okumaları COUNT(*) çalıştırmaz.
+ * <p>
+ * Kalıcı sayaçlar {@code task_stat_counters} tablosunda kullanıcı + durum + öncelik + aktiflik
+ * başına bir satırdır ve görevi değiştiren transaction içinde güncellenir; görev yazılamazsa
+ * sayaç da geri alınır. Tüm kullanıcıların toplamı ayrıca bellekte, hücre başına bir
+ * {@link LongAdder} ile tutulur: değişiklikler commit sonrasında eklenir, okuma sabit sayıda
+ * hücreyi toplar. Yenileme yeni bir hücre dizisi hazırlayıp tek referansla değiştirir; okuyan
+ * bir istek yarıda sıfırlanmış hücreler görmez. Diğer node'ların yazmaları en geç bir yenileme
+ * aralığı sonra görülür.
+ */
+@Service
+public class TaskStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatsService.class);
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final int CELLS = STATUSES.length * PRIORITIES.length * 2;
+
+    private final TaskStatCounterRepository counterRepository;
+    private final UserRepository userRepository;
+    private volatile LongAdder[] totals = newTotals(new long[CELLS]);
+
+    public TaskStatsService(TaskStatCounterRepository counterRepository, UserRepository userRepository) {
+        this.counterRepository = counterRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<Task> tasks) {
+        Map<TaskStatsKey, Long> deltas = new HashMap<>();
+        for (Task task : tasks) {
+            deltas.merge(TaskStatsKey.of(task), 1L, Long::sum);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * @param before görev değiştirilmeden önceki anahtar
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanged(TaskStatsKey before, Task task) {
+        TaskStatsKey after = TaskStatsKey.of(task);
+        if (!before.equals(after)) {
+            apply(Map.of(before, -1L, after, 1L));
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRemoved(Task task) {
+        apply(Map.of(TaskStatsKey.of(task), -1L));
+    }
+
+    /**
+     * Toplu güncellemede taşınan görevleri sayaçlara yansıtır.
+     *
+     * @param counts güncellemeden önce okunan anahtar başına görev sayıları
+     * @param target bir anahtarın güncelleme sonrası karşılığı
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordMoved(Map<TaskStatsKey, Long> counts, UnaryOperator<TaskStatsKey> target) {
+        Map<TaskStatsKey, Long> deltas = new HashMap<>();
+        counts.forEach((key, count) -> {
+            deltas.merge(key, -count, Long::sum);
+            deltas.merge(target.apply(key), count, Long::sum);
+        });
+        apply(deltas);
+    }
+
+    /**
+     * Tüm görevlerin istatistikleri; bellekten okunur.
+     */
+    public TaskStatsResponse getStats() {
+        LongAdder[] current = totals;
+        TaskStatsResponse response = new TaskStatsResponse();
+        for (TaskStatus status : STATUSES) {
+            for (TaskPriority priority : PRIORITIES) {
+                response.add(status, priority, false, current[cell(status, priority, false)].sum());
+                response.add(status, priority, true, current[cell(status, priority, true)].sum());
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Kullanıcının istatistikleri; kullanıcının sayaç satırları primary key ile okunur.
+     */
+    @Transactional(readOnly = true)
+    public TaskStatsResponse getUserStats(UUID userId) {
+        if (userRepository.findById(userId).isEmpty()) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        TaskStatsResponse response = new TaskStatsResponse(userId.toString());
+        for (TaskStatCounter counter : counterRepository.findByIdUserId(userId)) {
+            TaskStatsKey key = counter.getId();
+            response.add(key.getStatus(), key.getPriority(), key.getIsActive(), counter.getTaskCount());
+        }
+        return response;
+    }
+
+    /**
+     * Sayaçları tasks tablosundan yeniden hesaplar. Sayaçlar görevle aynı transaction'da
+     * tutulduğu için normalde gerekmez; sayaçların dışında yapılan veri değişikliklerinden
+     * sonra (ör. elle SQL) kullanılır.
+     */
+    @Transactional
+    public void rebuild() {
+        counterRepository.rebuild();
+        long[] values = readTotals();
+        afterCommit(() -> totals = newTotals(values));
+        log.info("Task stat counters rebuilt");
+    }
+
+    /**
+     * Bellekteki toplamları tablodan yeniler; başka node'ların yazmalarını buraya taşır.
+     * Yenileme sırasında commit edilen bir değişiklik bir sonraki yenilemeye kadar eksik
+     * görülebilir.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tasks.stats.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            totals = newTotals(readTotals());
+        } catch (Exception ex) {
+            log.warn("Task stat counters refresh failed: {}", ex.getMessage());
+        }
+    }
+
+    private void apply(Map<TaskStatsKey, Long> deltas) {
+        counterRepository.addAll(deltas);
+        afterCommit(() -> {
+            LongAdder[] current = totals;
+            deltas.forEach((key, delta) ->
+                    current[cell(key.getStatus(), key.getPriority(), key.getIsActive())].add(delta));
+        });
+    }
+
+    private long[] readTotals() {
+        long[] values = new long[CELLS];
+        List<TaskStatTotal> rows = counterRepository.sumByStatusPriorityAndActive();
+        for (TaskStatTotal row : rows) {
+            values[cell(row.getStatus(), row.getPriority(), row.getIsActive())] += row.getTaskCount();
+        }
+        return values;
+    }
+
+    private static LongAdder[] newTotals(long[] values) {
+        LongAdder[] cells = new LongAdder[values.length];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new LongAdder();
+            cells[i].add(values[i]);
+        }
+        return cells;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static int cell(TaskStatus status, TaskPriority priority, boolean isActive) {
+        return (status.ordinal() * PRIORITIES.length + priority.ordinal()) * 2 + (isActive ? 1 : 0);
+    }
+}
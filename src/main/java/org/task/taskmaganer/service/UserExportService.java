@@ -0,0 +1,64 @@
+package org.task.taskmaganer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.task.taskmaganer.dto.response.UserResponse;
+import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.export.ExportWriter;
+import org.task.taskmaganer.export.NdjsonExportWriter;
+import org.task.taskmaganer.repository.UserRepository;
+import org.task.taskmaganer.specification.UserSpecification;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Kullanıcı listesini sayfalama yapmadan NDJSON olarak response stream'ine yazar.
+ * <p>
+ * {@link TaskExportService} ile aynı yaklaşım: satırlar forward-only cursor ile
+ * {@code users.export.fetch-size}'lık parçalar halinde okunur ve {@link UserResponse}
+ * projeksiyonu olarak {@link NdjsonExportWriter} ile yazılır; bellek kullanımı kullanıcı
+ * sayısından bağımsızdır.
+ */
+@Service
+public class UserExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserExportService.class);
+
+    private static final Sort EXPORT_SORT = Sort.by(User.Fields.username);
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public UserExportService(UserRepository userRepository, ObjectMapper objectMapper,
+                             @Value("${users.export.fetch-size:500}") int fetchSize) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * @return yazılan kullanıcı sayısı
+     */
+    @Transactional(readOnly = true)
+    public long export(boolean activeOnly, OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        long count;
+
+        try (Stream<UserResponse> rows = userRepository.streamResponses(
+                activeOnly ? UserSpecification.isActive() : UserSpecification.all(), EXPORT_SORT, fetchSize);
+             ExportWriter<UserResponse> writer = new NdjsonExportWriter<>(out, objectMapper, UserResponse.class)) {
+            count = writer.writeAll(rows);
+        }
+
+        log.info("Streamed {} users in {}ms", count, System.currentTimeMillis() - started);
+        return count;
+    }
+}
@@ -1,36 +1,67 @@
 package org.task.taskmaganer.service;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.task.taskmaganer.dto.request.CreateUserRequest;
+import org.task.taskmaganer.dto.request.PageQuery;
 import org.task.taskmaganer.dto.request.UpdateUserRequest;
+import org.task.taskmaganer.dto.response.PageResponse;
 import org.task.taskmaganer.dto.response.UserResponse;
+import org.task.taskmaganer.entity.Role;
 import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.exception.AccessDeniedException;
+import org.task.taskmaganer.exception.InvalidRequestException;
 import org.task.taskmaganer.exception.ResourceNotFoundException;
 import org.task.taskmaganer.exception.UserAlreadyExistsException;
 import org.task.taskmaganer.annotation.AuditLog;
 import org.task.taskmaganer.annotation.EntityId;
 import org.task.taskmaganer.repository.UserRepository;
+import org.task.taskmaganer.security.PrincipalCache;
+import org.task.taskmaganer.security.TokenRevocationRegistry;
+import org.task.taskmaganer.specification.UserSpecification;
 
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "service.invocations", histogram = true)
 @Transactional
 public class UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuditLogService auditLogService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final int listMaxSize;
+    
+    // Yanıttaki kolonlar dışında (ör. password) sıralamaya izin verilmez
+    private static final Set<String> SORT_FIELDS = Set.of(User.Fields.username, User.Fields.email,
+            User.Fields.firstName, User.Fields.lastName, User.Fields.createdAt, User.Fields.updatedAt);
+    private static final Sort LIST_SORT = Sort.by(User.Fields.username);
     
     @Autowired
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, AuditLogService auditLogService) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       AuditLogService auditLogService, PrincipalCache principalCache,
+                       TokenRevocationRegistry revocationRegistry,
+                       @Value("${users.list.max-size:1000}") int listMaxSize) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.auditLogService = auditLogService;
+        this.principalCache = principalCache;
+        this.revocationRegistry = revocationRegistry;
+        this.listMaxSize = listMaxSize;
     }
     
     @AuditLog(action = "CREATE_USER", entityType = "USER")
@@ -52,34 +83,49 @@ public class UserService {
         return new UserResponse(savedUser);
     }
     
+    @Transactional(readOnly = true)
     public UserResponse getUserById(UUID id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         return new UserResponse(user);
     }
     
+    @Transactional(readOnly = true)
     public UserResponse getUserByUsername(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with username: " + username));
         return new UserResponse(user);
     }
     
+    @Transactional(readOnly = true)
     public UserResponse getUserByEmail(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
         return new UserResponse(user);
     }
     
-    public List<UserResponse> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(UserResponse::new)
-                .collect(Collectors.toList());
+    /**
+     * Sayfalama parametresi verilmeyen liste isteği: kullanıcı adına göre ilk
+     * {@code users.list.max-size} kullanıcı. {@link Slice#hasNext()} true ise liste kesilmiştir.
+     */
+    @Transactional(readOnly = true)
+    public Slice<UserResponse> getAllUsers() {
+        return userRepository.findResponseSlice(UserSpecification.all(), PageRequest.of(0, listMaxSize, LIST_SORT));
+    }
+    
+    @Transactional(readOnly = true)
+    public Slice<UserResponse> getAllActiveUsers() {
+        return userRepository.findResponseSlice(UserSpecification.isActive(), PageRequest.of(0, listMaxSize, LIST_SORT));
     }
     
-    public List<UserResponse> getAllActiveUsers() {
-        return userRepository.findAllActiveUsers().stream()
-                .map(UserResponse::new)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public PageResponse<UserResponse> getAllUsers(PageQuery query) {
+        return findPage(query, UserSpecification.all());
+    }
+    
+    @Transactional(readOnly = true)
+    public PageResponse<UserResponse> getAllActiveUsers(PageQuery query) {
+        return findPage(query, UserSpecification.isActive());
     }
     
     @AuditLog(action = "UPDATE_USER", entityType = "USER")
@@ -99,15 +145,31 @@ public class UserService {
             user.setEmail(request.getEmail());
         }
         
+        boolean revokeTokens = false;
+        
         if (request.getPassword() != null && !request.getPassword().isEmpty()) {
             user.setPassword(passwordEncoder.encode(request.getPassword()));
+            revokeTokens = true;
         }
         
         if (request.getIsActive() != null) {
+            revokeTokens |= !request.getIsActive().equals(user.getIsActive());
             user.setIsActive(request.getIsActive());
         }
         
+        // Rol token'a claim olarak yazılır; eski roldeki token'lar geçersiz olmalı
+        if (request.getRole() != null && request.getRole() != user.getRole()) {
+            user.setRole(request.getRole());
+            revokeTokens = true;
+        }
+        
+        if (revokeTokens) {
+            user.setTokenVersion(user.getTokenVersion() + 1);
+        }
+        
         User updatedUser = userRepository.save(user);
+        principalCache.invalidate(updatedUser.getUsername());
+        revocationRegistry.record(updatedUser);
         return new UserResponse(updatedUser);
     }
     
@@ -117,20 +179,26 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
         
         user.setIsActive(false);
+        user.setTokenVersion(user.getTokenVersion() + 1);
         userRepository.save(user);
+        principalCache.invalidate(user.getUsername());
+        revocationRegistry.record(user);
     }
     
     public void hardDeleteUser(UUID id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        userRepository.delete(user);
+        principalCache.invalidate(user.getUsername());
+        revocationRegistry.revoke(user.getId());
     }
     
+    @Transactional(readOnly = true)
     public boolean existsByUsername(String username) {
         return userRepository.existsByUsername(username);
     }
     
+    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
@@ -151,5 +219,39 @@ public class UserService {
                 throw new UserAlreadyExistsException("Email already exists: " + request.getEmail());
             }
         }
+        
+        if (request.getRole() != null && request.getRole() != existingUser.getRole() && !isAdmin()) {
+            throw new AccessDeniedException("Only administrators can change user roles");
+        }
+    }
+    
+    private static boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> ("ROLE_" + Role.ADMIN.name()).equals(authority.getAuthority()));
+    }
+    
+    /**
+     * Tek sayfalık kullanıcı listesi. Sayfa boyutu da {@code users.list.max-size} ile sınırlıdır.
+     * ESTIMATED desteklenmez: users tablosu için planner tahmini COUNT'tan anlamlı ölçüde ucuz değildir.
+     */
+    private PageResponse<UserResponse> findPage(PageQuery query, Specification<User> spec) {
+        Pageable pageable = query.pageable();
+        if (pageable.getPageSize() > listMaxSize) {
+            throw new InvalidRequestException("size", "Page size must not exceed " + listMaxSize);
+        }
+        pageable.getSort().forEach(order -> {
+            if (!SORT_FIELDS.contains(order.getProperty())) {
+                throw new InvalidRequestException("sort", "Users can only be sorted by: " + SORT_FIELDS);
+            }
+        });
+        
+        return switch (query.mode()) {
+            case OFFSET -> new PageResponse<>(userRepository.findResponses(spec, pageable));
+            case SLICE -> PageResponse.slice(userRepository.findResponseSlice(spec, pageable));
+            case KEYSET -> UserSpecification.KEYSET.page(query, spec, userRepository::findResponses);
+            case ESTIMATED -> throw new InvalidRequestException("mode",
+                    "ESTIMATED pagination is not supported for users; use OFFSET, SLICE or KEYSET");
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package org.task.taskmaganer.specification;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset (seek) sayfalama için opak imleç.
+ * <p>
+ * İmleç, son satırın sıralama anahtarını ve id'sini taşır:
+ * {@code (sortField, direction, sortValue, id)}. İstemciye Base64URL olarak verilir,
+ * bir sonraki sayfa {@code WHERE (sortField, id) < (sortValue, id)} ile okunur.
+ * Böylece N. sayfa da 1. sayfa kadar ucuzdur. Çözümleme ve predicate
+ * {@link KeysetPagination} ile yapılır; alanlar entity başına orada tanımlanır.
+ */
+public record KeysetCursor(String field, Sort.Direction direction, Comparable<?> value, UUID id) {
+
+    static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = field + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,181 @@
+package org.task.taskmaganer.specification;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.task.taskmaganer.dto.request.PageQuery;
+import org.task.taskmaganer.dto.response.PageResponse;
+import org.task.taskmaganer.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bir liste için keyset sayfalama tanımı: desteklenen sıralama alanları, {@link KeysetCursor}
+ * çözümlemesi ve "imleçten sonraki satırlar" predicate'i. Görev ve kullanıcı listeleri
+ * aynı mantığı kullanır; sadece alanlar ve yanıttan değer okuma entity'ye özeldir.
+ * <p>
+ * Sadece NOT NULL kolonlar desteklenir; NULL değerler seek predicate'ini bozar.
+ * Eşit sıralama değerleri id ile çözülür (entity'nin {@code id} alanı).
+ *
+ * @param <E> sorgulanan entity
+ * @param <R> sayfadaki satır (yanıt DTO'su)
+ */
+public final class KeysetPagination<E, R> {
+
+    private static final String ID_FIELD = "id";
+
+    private final Sort.Order defaultOrder;
+    private final Function<R, UUID> idOf;
+    private final Map<String, Field<R>> fields;
+
+    private KeysetPagination(Builder<E, R> builder) {
+        this.defaultOrder = builder.defaultOrder;
+        this.idOf = builder.idOf;
+        this.fields = Collections.unmodifiableMap(new LinkedHashMap<>(builder.fields));
+    }
+
+    public static <E, R> Builder<E, R> builder(Sort.Order defaultOrder, Function<R, UUID> idOf) {
+        return new Builder<>(defaultOrder, idOf);
+    }
+
+    /**
+     * Pageable sıralamasından keyset için kullanılacak birincil sıralamayı döner.
+     */
+    public Sort.Order order(Sort sort) {
+        Sort.Order order = sort.stream()
+                .findFirst()
+                .orElse(defaultOrder);
+
+        if (!fields.containsKey(order.getProperty())) {
+            throw new InvalidRequestException("sort",
+                    "Keyset pagination supports only these sort fields: " + fields.keySet());
+        }
+        return order;
+    }
+
+    /**
+     * Keyset sorgusunun tam sıralaması: birincil alan + id (tie-breaker).
+     */
+    public Sort sort(Sort.Order order) {
+        return Sort.by(order, new Sort.Order(order.getDirection(), ID_FIELD));
+    }
+
+    public KeysetCursor cursorOf(R row, Sort.Order order) {
+        Field<R> field = fields.get(order.getProperty());
+        if (field == null) {
+            throw new InvalidRequestException("sort", "Unsupported keyset sort field: " + order.getProperty());
+        }
+        return new KeysetCursor(order.getProperty(), order.getDirection(), field.value().apply(row), idOf.apply(row));
+    }
+
+    /**
+     * İmleci çözer ve mevcut sıralama ile uyumlu olduğunu doğrular.
+     */
+    public KeysetCursor decode(String token, Sort.Order expectedOrder) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // Değer (ör. title) ayırıcı içerebileceği için son parça olarak okunur
+            String[] parts = raw.split("\\" + KeysetCursor.SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Unexpected cursor format");
+            }
+
+            String field = parts[0];
+            Sort.Direction direction = Sort.Direction.valueOf(parts[1]);
+            if (!field.equals(expectedOrder.getProperty()) || direction != expectedOrder.getDirection()) {
+                throw new InvalidRequestException("cursor",
+                        "Cursor does not match the requested sort: " + expectedOrder);
+            }
+
+            return new KeysetCursor(field, direction, fields.get(field).parser().apply(parts[3]),
+                    UUID.fromString(parts[2]));
+        } catch (InvalidRequestException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            throw new InvalidRequestException("cursor", "Invalid cursor: " + token);
+        }
+    }
+
+    /**
+     * İmleçteki satırdan sonra gelen satırlar: {@code (sortField, id) > (value, id)}
+     * (DESC için {@code <}). İmleç yoksa filtre uygulanmaz.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public Specification<E> after(KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            Path sortPath = root.get(cursor.field());
+            Path<UUID> idPath = root.get(ID_FIELD);
+            Comparable value = cursor.value();
+            boolean ascending = cursor.direction().isAscending();
+
+            Predicate beyondValue = ascending ? cb.greaterThan(sortPath, value) : cb.lessThan(sortPath, value);
+            Predicate beyondId = ascending ? cb.greaterThan(idPath, cursor.id()) : cb.lessThan(idPath, cursor.id());
+            return cb.or(beyondValue, cb.and(cb.equal(sortPath, value), beyondId));
+        };
+    }
+
+    /**
+     * Keyset sayfasını okur. {@code size + 1} satır istenir: fazladan gelen satır bir sonraki
+     * sayfanın varlığını gösterir, COUNT çalışmaz.
+     */
+    public PageResponse<R> page(PageQuery query, Specification<E> spec, Reader<E, R> reader) {
+        Sort.Order order = order(query.pageable().getSort());
+        KeysetCursor after = query.cursor() != null ? decode(query.cursor(), order) : null;
+        int size = query.pageable().getPageSize();
+
+        List<R> rows = reader.read(spec.and(after(after)), sort(order), size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<R> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf(content.get(size - 1), order).encode() : null;
+
+        return PageResponse.keyset(content, size, after == null, nextCursor);
+    }
+
+    /**
+     * Sıralı ve sınırlı okuma; repository'lerin {@code findResponses(spec, sort, limit)} metodu.
+     */
+    @FunctionalInterface
+    public interface Reader<E, R> {
+        List<R> read(Specification<E> spec, Sort sort, int limit);
+    }
+
+    private record Field<R>(Function<String, Comparable<?>> parser, Function<R, Comparable<?>> value) {
+    }
+
+    public static final class Builder<E, R> {
+
+        private final Sort.Order defaultOrder;
+        private final Function<R, UUID> idOf;
+        private final Map<String, Field<R>> fields = new LinkedHashMap<>();
+
+        private Builder(Sort.Order defaultOrder, Function<R, UUID> idOf) {
+            this.defaultOrder = defaultOrder;
+            this.idOf = idOf;
+        }
+
+        /**
+         * @param parser imleçteki metin değeri çözer
+         * @param value  satırdan sıralama değerini okur
+         */
+        public Builder<E, R> field(String name, Function<String, Comparable<?>> parser, Function<R, Comparable<?>> value) {
+            fields.put(name, new Field<>(parser, value));
+            return this;
+        }
+
+        public KeysetPagination<E, R> build() {
+            return new KeysetPagination<>(this);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package org.task.taskmaganer.specification;
 
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.task.taskmaganer.dto.response.TaskResponse;
 import org.task.taskmaganer.entity.Task;
 import org.task.taskmaganer.entity.TaskPriority;
 import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.search.TaskSearchEngine;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,8 +39,20 @@ public class TaskSpecification {
      * Null olan kriterler ignore edilir.
      */
     public static Specification<Task> withFilters(TaskFilterCriteria criteria) {
+        return withFilters(criteria, withSearchQuery(criteria.searchQuery()));
+    }
+
+    /**
+     * {@link #withFilters(TaskFilterCriteria)} ile aynı, metin araması verilen
+     * {@link TaskSearchEngine} ile yapılır (full-text / inverted index).
+     */
+    public static Specification<Task> withFilters(TaskFilterCriteria criteria, TaskSearchEngine searchEngine) {
+        return withFilters(criteria, searchEngine.matching(criteria.searchQuery()));
+    }
+
+    private static Specification<Task> withFilters(TaskFilterCriteria criteria, Specification<Task> searchSpec) {
         return Specification.where(
-                withSearchQuery(criteria.searchQuery())
+                searchSpec
                         .and(withStatus(criteria.status()))
                         .and(withPriority(criteria.priority()))
                         .and(withUserId(criteria.userId()))
@@ -72,6 +88,10 @@ public class TaskSpecification {
                 equalsPredicate(cb, root.get(Task.Fields.priority), priority);
     }
 
+    public static Specification<Task> withIds(Collection<UUID> ids) {
+        return (root, query, cb) -> root.get(Task.Fields.id).in(ids);
+    }
+
     public static Specification<Task> withUserId(UUID userId) {
         return (root, query, cb) ->
                 equalsPredicate(cb, root.get(Task.Fields.user).get("id"), userId);
@@ -86,6 +106,23 @@ public class TaskSpecification {
         return withIsActive(true);
     }
 
+    /**
+     * Durumu veya önceliği verilen değerden farklı olan görevler; null değerler dikkate alınmaz.
+     * Toplu güncellemede zaten hedef değerde olan satırları dışarıda bırakır.
+     */
+    public static Specification<Task> differsFrom(TaskStatus status, TaskPriority priority) {
+        return (root, query, cb) -> {
+            List<Predicate> changes = new ArrayList<>();
+            if (status != null) {
+                changes.add(cb.notEqual(root.get(Task.Fields.status), status));
+            }
+            if (priority != null) {
+                changes.add(cb.notEqual(root.get(Task.Fields.priority), priority));
+            }
+            return cb.or(changes.toArray(Predicate[]::new));
+        };
+    }
+
     // ==================== DATE RANGE SPECIFICATIONS ====================
 
     public static Specification<Task> withDueDateBetween(LocalDateTime from, LocalDateTime to) {
@@ -98,6 +135,19 @@ public class TaskSpecification {
                 dateRangePredicate(cb, root.get(Task.Fields.createdAt), from, to);
     }
 
+    // ==================== KEYSET SPECIFICATIONS ====================
+
+    /**
+     * Görev listelerinin keyset sayfalaması; varsayılan sıralama createdAt DESC.
+     * createdAt/updatedAt (değer, id) index'lerinden, title (title, id) index'inden okunur.
+     */
+    public static final KeysetPagination<Task, TaskResponse> KEYSET = KeysetPagination.<Task, TaskResponse>builder(
+                    Sort.Order.desc(Task.Fields.createdAt), task -> UUID.fromString(task.getId()))
+            .field(Task.Fields.createdAt, LocalDateTime::parse, TaskResponse::getCreatedAt)
+            .field(Task.Fields.updatedAt, LocalDateTime::parse, TaskResponse::getUpdatedAt)
+            .field(Task.Fields.title, value -> value, TaskResponse::getTitle)
+            .build();
+
     // ==================== HELPER METHODS ====================
 
     private static boolean isEmpty(String str) {
@@ -153,7 +203,8 @@ public class TaskSpecification {
             LocalDateTime dueDateFrom,
             LocalDateTime dueDateTo,
             LocalDateTime createdAtFrom,
-            LocalDateTime createdAtTo
+            LocalDateTime createdAtTo,
+            boolean fuzzy
     ) {
         // Compact constructor - validation
         public TaskFilterCriteria {
@@ -163,6 +214,15 @@ public class TaskSpecification {
             }
         }
 
+        /**
+         * En az bir filtre verilmiş mi? Toplu güncellemelerde boş filtre tüm tabloyu seçer.
+         */
+        public boolean hasFilters() {
+            return !isEmpty(searchQuery) || status != null || priority != null || userId != null
+                    || isActive != null || dueDateFrom != null || dueDateTo != null
+                    || createdAtFrom != null || createdAtTo != null;
+        }
+
         // Builder pattern alternative
         public static Builder builder() {
             return new Builder();
@@ -178,6 +238,7 @@ public class TaskSpecification {
             private LocalDateTime dueDateTo;
             private LocalDateTime createdAtFrom;
             private LocalDateTime createdAtTo;
+            private boolean fuzzy;
 
             public Builder searchQuery(String searchQuery) {
                 this.searchQuery = searchQuery;
@@ -224,10 +285,15 @@ public class TaskSpecification {
                 return this;
             }
 
+            public Builder fuzzy(boolean fuzzy) {
+                this.fuzzy = fuzzy;
+                return this;
+            }
+
             public TaskFilterCriteria build() {
                 return new TaskFilterCriteria(
                         searchQuery, status, priority, userId, isActive,
-                        dueDateFrom, dueDateTo, createdAtFrom, createdAtTo
+                        dueDateFrom, dueDateTo, createdAtFrom, createdAtTo, fuzzy
                 );
             }
         }
@@ -0,0 +1,38 @@
+package org.task.taskmaganer.specification;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.task.taskmaganer.dto.response.UserResponse;
+import org.task.taskmaganer.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Kullanıcı listeleri için JPA Specification'ları.
+ */
+public class UserSpecification {
+
+    private UserSpecification() {
+        // Utility class - instantiation engelleme
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+    public static Specification<User> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    public static Specification<User> isActive() {
+        return (root, query, cb) -> cb.isTrue(root.get(User.Fields.isActive));
+    }
+
+    /**
+     * Kullanıcı listelerinin keyset sayfalaması; varsayılan sıralama username ASC.
+     * username unique index'ten, createdAt (created_at, id) index'inden okunur.
+     */
+    public static final KeysetPagination<User, UserResponse> KEYSET = KeysetPagination.<User, UserResponse>builder(
+                    Sort.Order.asc(User.Fields.username), user -> UUID.fromString(user.getId()))
+            .field(User.Fields.username, value -> value, UserResponse::getUsername)
+            .field(User.Fields.createdAt, LocalDateTime::parse, UserResponse::getCreatedAt)
+            .build();
+}
@@ -0,0 +1,15 @@
+-- V10: Alt dize ve yazim hatasi toleransli arama icin pg_trgm index'leri
+-- lower(title|description) uzerindeki trigram GIN index'leri hem
+-- "lower(title) LIKE '%q%'" (search.engine=TRIGRAM / LIKE) hem de fuzzy aramadaki
+-- "q <% lower(title)" (word similarity) kosullarini index ile cozer; tablo taranmaz.
+-- Ifadeler TaskSearchFunctionContributor'daki task_trgm_* fonksiyonlari ile aynidir.
+-- CONCURRENTLY: transaction disinda calisir (.sql.conf); CREATE EXTENSION da autocommit
+-- calisir ve IF NOT EXISTS sayesinde tekrar calistirilabilir.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_title_trgm ON tasks USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_description_trgm ON tasks USING GIN (lower(description) gin_trgm_ops);
+
+-- Fuzzy esik degeri (pg_trgm.word_similarity_threshold) burada degil, uygulamanin her
+-- baglantiyi acarken calistirdigi SET ile verilir (search.fuzzy.similarity-threshold).
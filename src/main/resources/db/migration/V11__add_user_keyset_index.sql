@@ -0,0 +1,5 @@
+-- V11: Kullanici listeleri icin keyset index'i
+-- /users/?mode=KEYSET&sort=createdAt "(created_at, id) > (?, ?) ORDER BY created_at, id LIMIT n"
+-- seklinde okunur. username siralamasi mevcut unique index'i kullanir.
+-- CONCURRENTLY: transaction disinda calisir (.sql.conf), tablo yazmalara acik kalir.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_created_at_id ON users(created_at, id);
@@ -0,0 +1,20 @@
+-- V12: Gorev sayaclari
+-- Kullanici + durum + oncelik + aktiflik basina gorev sayisi. Satirlar gorevi degistiren
+-- transaction icinde "task_count = task_count + ?" ile guncellenir; istatistik okumalari
+-- tasks tablosunda COUNT(*) calistirmaz. Satirlar kullanici bazinda oldugu icin tek bir
+-- global satir uzerinde kilit yarisi olusmaz.
+CREATE TABLE IF NOT EXISTS task_stat_counters (
+    user_id UUID NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    priority VARCHAR(255) NOT NULL,
+    is_active BOOLEAN NOT NULL,
+    task_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_task_stat_counters PRIMARY KEY (user_id, status, priority, is_active),
+    CONSTRAINT fk_task_stat_counters_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- Mevcut gorevlerden ilk degerler
+INSERT INTO task_stat_counters (user_id, status, priority, is_active, task_count)
+SELECT user_id, status, priority, is_active, COUNT(*)
+FROM tasks
+GROUP BY user_id, status, priority, is_active;
@@ -0,0 +1,40 @@
+-- V13: TaskRepository sorgu sekillerine gore composite ve partial index'ler
+-- Liste sorgulari "WHERE <1-2 esitlik> [AND is_active] ORDER BY created_at DESC, id DESC LIMIT n"
+-- seklindedir. Esitlik kolonlari + (created_at, id) sirali index ile Postgres filtreyi ve
+-- siralamayi index'ten okur; sayfa icin tablo taranmaz ve sort yapilmaz. Ayni index'ler
+-- COUNT sorgularinda index-only scan ile kullanilir.
+-- Sadece aktif gorevleri okuyan sorgular icin partial index (WHERE is_active) pasif
+-- satirlari icermez; index kucuk kalir.
+-- Index'ler CONCURRENTLY olusturulup kaldirilir; migration transaction disinda calisir
+-- (.sql.conf). Yarida kalan bir CREATE gecersiz (INVALID) index birakabilir; tekrar calistirmadan
+-- once o index DROP INDEX CONCURRENTLY ile silinmelidir.
+-- Dogrulama: QueryPlanTest (varsayilan olarak gomulu PostgreSQL 16 ile, ya da
+-- QUERY_PLAN_TEST_DATASOURCE_URL ile verilen veritabaninda calisir).
+
+-- =============================================
+-- AKTIF GOREV LISTELERI (/tasks/active, /tasks/active/status, /tasks/active/priority)
+-- =============================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_created_at_id_active ON tasks(created_at, id) WHERE is_active;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_status_created_at_id_active ON tasks(status, created_at, id) WHERE is_active;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_priority_created_at_id_active ON tasks(priority, created_at, id) WHERE is_active;
+
+-- =============================================
+-- KULLANICI GOREV LISTELERI (/tasks/user/{userId}/...)
+-- =============================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_created_at_id_active ON tasks(user_id, created_at, id) WHERE is_active;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_status_created_at_id ON tasks(user_id, status, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_priority_created_at_id ON tasks(user_id, priority, created_at, id);
+
+-- =============================================
+-- GEREKSIZ HALE GELEN INDEX'LER
+-- Her yazma tum index'leri gunceller; yukaridakilerin kapsadigi index'ler kaldirilir.
+-- =============================================
+-- (is_active, created_at, id): aktif sorgular partial index'i kullanir
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_active_created_at_id;
+-- Tek kolonlu index'ler V6'daki (kolon, created_at, id) index'lerinin on ekidir;
+-- user_id on eki tasks.user_id yabanci anahtar aramalarini da karsilar
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_user_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_status;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_priority;
+-- Dusuk secicilikli boolean index; planner kullanmaz
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_is_active;
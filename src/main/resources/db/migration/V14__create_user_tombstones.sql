@@ -0,0 +1,10 @@
+-- V14: Kalici olarak silinen kullanicilar
+-- Stateless JWT modunda diger node'lar silinen kullanicinin token'larini bu tablodan
+-- ogrenir (users satiri artik yok, updated_at uzerinden gorulemez). Satirlar token
+-- omru (jwt.expiration) dolduktan sonra uygulama tarafindan silinir.
+CREATE TABLE IF NOT EXISTS user_tombstones (
+    user_id UUID PRIMARY KEY,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_tombstones_deleted_at ON user_tombstones(deleted_at);
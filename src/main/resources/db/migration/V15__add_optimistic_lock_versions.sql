@@ -0,0 +1,5 @@
+-- V15: Optimistic locking icin satir versiyonu
+-- Second-level cache'ten okunan eski bir kopyayla yapilan yazma, versiyon uyusmadigi
+-- icin reddedilir (UPDATE ... WHERE version = ? hic satir degistirmez).
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
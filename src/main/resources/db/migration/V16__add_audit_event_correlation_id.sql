@@ -0,0 +1,8 @@
+-- V16: Audit event'lerinin istek korelasyon ID'si
+-- AuditEvent.correlationId (X-Correlation-Id) V8'de yazilmiyordu; bir istegin urettigi
+-- event'ler log satirlariyla bu kolon uzerinden eslestirilir (/audit-events?correlationId=).
+-- Partitioned tablolarda CREATE INDEX CONCURRENTLY desteklenmez; index tum partition'lara
+-- uygulanir ve olusturulurken yazmalari kisa sure bekletir.
+ALTER TABLE audit_events ADD COLUMN IF NOT EXISTS correlation_id VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_audit_events_correlation_id ON audit_events(correlation_id, occurred_at DESC);
@@ -0,0 +1,22 @@
+-- V6: Keyset (cursor) sayfalama icin composite index'ler
+-- Keyset sorgulari "WHERE <filtre> AND (sort_key, id) < (?, ?) ORDER BY sort_key, id LIMIT n"
+-- seklindedir. (filtre, sort_key, id) index'i ile Postgres offset kadar satiri atlamak yerine
+-- dogrudan son satirdan devam eder; N. sayfa 1. sayfa ile ayni maliyettedir.
+-- B-tree index'ler geriye dogru da taranabildigi icin DESC siralama icin ayri index gerekmez.
+-- Index'ler CONCURRENTLY olusturulur (yazmalar kilitlenmez); migration transaction disinda
+-- calisir (V6__add_keyset_pagination_indexes.sql.conf).
+
+-- =============================================
+-- FILTRESIZ LISTELER (/tasks/)
+-- =============================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_created_at_id ON tasks(created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_updated_at_id ON tasks(updated_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_title_id ON tasks(title, id);
+
+-- =============================================
+-- FILTRELI LISTELER (/tasks/active, /status, /priority, /user)
+-- =============================================
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_active_created_at_id ON tasks(is_active, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_status_created_at_id ON tasks(status, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_priority_created_at_id ON tasks(priority, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_created_at_id ON tasks(user_id, created_at, id);
@@ -0,0 +1,7 @@
+-- V7: Stateless JWT dogrulamasi icin hesap versiyonu
+-- Token'a "ver" claim'i olarak yazilir. Sifre degisikligi, deaktivasyon veya silme
+-- durumunda artirilir; eski versiyonlu token'lar DB'ye gitmeden reddedilir.
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
+
+-- Revocation registry'nin periyodik yenilemesi updated_at uzerinden yapilir
+CREATE INDEX IF NOT EXISTS idx_users_updated_at ON users(updated_at);
@@ -0,0 +1,48 @@
+-- V8: Audit events tablosu
+-- AuditLogAspect'ten gelen event'ler batch JDBC insert ile yazilir.
+-- Tablo occurred_at uzerinden aylik RANGE partition'lidir; eski aylar
+-- DETACH/DROP PARTITION ile tablo taranmadan arsivlenebilir.
+-- Gelecek aylarin partition'lari uygulama tarafindan (AuditEventService) olusturulur.
+
+-- =============================================
+-- AUDIT_EVENTS TABLE (partitioned)
+-- =============================================
+CREATE TABLE IF NOT EXISTS audit_events (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    action VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(50),
+    entity_id VARCHAR(100),
+    user_id VARCHAR(100),
+    message TEXT,
+    success BOOLEAN NOT NULL,
+    execution_time_ms BIGINT,
+    occurred_at TIMESTAMP NOT NULL,
+    -- Partition anahtari primary key'in parcasi olmak zorunda
+    PRIMARY KEY (id, occurred_at)
+) PARTITION BY RANGE (occurred_at);
+
+-- Partition'i henuz olusturulmamis aralik icin guvenlik agi
+CREATE TABLE IF NOT EXISTS audit_events_default PARTITION OF audit_events DEFAULT;
+
+-- Gecen aydan itibaren 3 ay ileriye kadar aylik partition'lar
+DO $$
+DECLARE
+    month_start DATE;
+BEGIN
+    FOR i IN -1..3 LOOP
+        month_start := (date_trunc('month', CURRENT_DATE) + make_interval(months => i))::DATE;
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_events FOR VALUES FROM (%L) TO (%L)',
+            'audit_events_' || to_char(month_start, 'YYYY_MM'),
+            month_start,
+            (month_start + INTERVAL '1 month')::DATE
+        );
+    END LOOP;
+END $$;
+
+-- =============================================
+-- INDEXES (partitioned index, tum partition'lara uygulanir)
+-- =============================================
+CREATE INDEX IF NOT EXISTS idx_audit_events_entity ON audit_events(entity_type, entity_id, occurred_at DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_events_user ON audit_events(user_id, occurred_at DESC);
+CREATE INDEX IF NOT EXISTS idx_audit_events_occurred_at ON audit_events(occurred_at DESC);
@@ -0,0 +1,12 @@
+-- V9: Gorev basligi ve aciklamasi icin full-text search index'i
+-- Arama "lower(title) LIKE '%q%'" yerine tsvector @@ websearch_to_tsquery ile yapilir.
+-- Ifade, TaskSearchFunctionContributor'daki task_fts_match/task_fts_rank fonksiyonlarinin
+-- urettigi SQL ile birebir aynidir; planner bu sayede GIN index'ini kullanir.
+-- Generated column yerine expression index secildi: entity ve H2 semasi degismeden kalir.
+-- Baslik eslesmeleri (A) aciklama eslesmelerinden (B) daha yuksek puan alir.
+-- CONCURRENTLY: transaction disinda calisir (.sql.conf), tablo yazmalara acik kalir.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (
+    (setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'B'))
+);
@@ -0,0 +1,244 @@
+package org.task.taskmaganer.aspect;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.task.taskmaganer.annotation.AuditLog;
+import org.task.taskmaganer.config.CorrelationIdFilter;
+import org.task.taskmaganer.service.AuditLogService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Kuyruk doluyken her {@link AuditBackpressurePolicy}'nin davranışı ve correlation ID'nin
+ * yazıcı thread'ine taşınması. Kuyruğu doldurmak için sink ilk event'te bekletilir.
+ */
+class AsyncAuditDispatcherTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingSink sink = new BlockingSink();
+    private AsyncAuditDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        sink.release();
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+        MDC.clear();
+    }
+
+    @Test
+    void dropPolicyRejectsImmediatelyWhenFull() throws Exception {
+        dispatcher = start(List.of(sink), 2, AuditBackpressurePolicy.DROP, 5000, 0.75, 10);
+        fillQueue();
+
+        long startedAt = System.nanoTime();
+        dispatcher.submit(context(true));
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1000);
+        assertThat(events("dropped")).isEqualTo(1);
+        assertThat(events("enqueued")).isEqualTo(3);
+    }
+
+    @Test
+    void blockPolicyWaitsForSpace() throws Exception {
+        dispatcher = start(List.of(sink), 2, AuditBackpressurePolicy.BLOCK, 5000, 0.75, 10);
+        fillQueue();
+
+        Thread releaser = new Thread(() -> {
+            sleep(100);
+            sink.release();
+        });
+        releaser.start();
+        dispatcher.submit(context(true));
+        releaser.join();
+
+        assertThat(events("enqueued")).isEqualTo(4);
+        assertThat(events("dropped")).isZero();
+        assertThat(sink.awaitEvents(4)).isTrue();
+    }
+
+    @Test
+    void blockPolicyDropsAfterTimeout() throws Exception {
+        dispatcher = start(List.of(sink), 2, AuditBackpressurePolicy.BLOCK, 50, 0.75, 10);
+        fillQueue();
+
+        long startedAt = System.nanoTime();
+        dispatcher.submit(context(true));
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(50);
+        assertThat(events("dropped")).isEqualTo(1);
+    }
+
+    @Test
+    void samplePolicyThinsSuccessesAboveThresholdButKeepsFailures() throws Exception {
+        // Kapasite 8, eşik 2: kuyrukta 2 event varken başarılıların sadece 1/2'si kabul edilir
+        dispatcher = start(List.of(sink), 8, AuditBackpressurePolicy.SAMPLE, 50, 0.25, 2);
+        fillQueue();
+
+        for (int i = 0; i < 4; i++) {
+            dispatcher.submit(context(true));
+        }
+        dispatcher.submit(context(false));
+
+        assertThat(events("sampled")).isEqualTo(2);
+        assertThat(events("enqueued")).isEqualTo(3 + 2 + 1);
+        assertThat(events("dropped")).isZero();
+    }
+
+    @Test
+    void correlationIdReachesWriterThreadLogs() throws Exception {
+        Logger auditLogger = (Logger) LoggerFactory.getLogger("AUDIT");
+        // Aynı JVM'de daha önce açılan Spring context'leri root seviyesini WARN yapabilir
+        Level previousLevel = auditLogger.getLevel();
+        auditLogger.setLevel(Level.INFO);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        auditLogger.addAppender(appender);
+        try {
+            dispatcher = start(List.of(new AuditLogService(), sink), 16, AuditBackpressurePolicy.BLOCK, 50, 0.75, 10);
+            sink.release();
+
+            MDC.put(CorrelationIdFilter.MDC_KEY, "req-1");
+            dispatcher.submit(context(true));
+            MDC.put(CorrelationIdFilter.MDC_KEY, "req-2");
+            dispatcher.submit(context(true));
+            MDC.remove(CorrelationIdFilter.MDC_KEY);
+
+            assertThat(sink.awaitEvents(2)).isTrue();
+            assertThat(sink.events).extracting(AuditEvent::correlationId).containsExactly("req-1", "req-2");
+            assertThat(appender.list)
+                    .extracting(event -> event.getMDCPropertyMap().get(CorrelationIdFilter.MDC_KEY))
+                    .containsExactly("req-1", "req-2");
+            assertThat(appender.list).allSatisfy(event ->
+                    assertThat(event.getThreadName()).isEqualTo("audit-writer"));
+        } finally {
+            auditLogger.detachAppender(appender);
+            auditLogger.setLevel(previousLevel);
+        }
+    }
+
+    @Test
+    void synchronousWriteKeepsRequestCorrelationId() {
+        dispatcher = new AsyncAuditDispatcher(List.of(new AuditLogService(), sink), new AuditMessageBuilder(),
+                meterRegistry, false, 16, 1, 10, AuditBackpressurePolicy.BLOCK, 50, 0.75, 10);
+        sink.release();
+
+        MDC.put(CorrelationIdFilter.MDC_KEY, "sync-req");
+        dispatcher.submit(context(true));
+
+        assertThat(sink.events).extracting(AuditEvent::correlationId).containsExactly("sync-req");
+        assertThat(MDC.get(CorrelationIdFilter.MDC_KEY)).isEqualTo("sync-req");
+    }
+
+    /**
+     * İlk event sink'te bekletilir, sonraki ikisi kuyrukta kalır.
+     */
+    private void fillQueue() throws InterruptedException {
+        dispatcher.submit(context(true));
+        assertThat(sink.awaitBlocked()).isTrue();
+        dispatcher.submit(context(true));
+        dispatcher.submit(context(true));
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(2);
+    }
+
+    private AsyncAuditDispatcher start(List<AuditEventSink> sinks, int capacity, AuditBackpressurePolicy policy,
+                                       long blockTimeoutMs, double sampleThreshold, int sampleRate) {
+        AsyncAuditDispatcher started = new AsyncAuditDispatcher(sinks, new AuditMessageBuilder(), meterRegistry,
+                true, capacity, 1, 10, policy, blockTimeoutMs, sampleThreshold, sampleRate);
+        started.start();
+        return started;
+    }
+
+    private double events(String outcome) {
+        return meterRegistry.get("audit.queue.events").tag("outcome", outcome).counter().count();
+    }
+
+    private static AuditContext context(boolean success) {
+        AuditContext context = AuditContext.builder()
+                .auditLog(auditLog())
+                .action("UPDATE")
+                .entityType("TASK")
+                .entityId("42")
+                .userId("tester")
+                .methodParams(Map.of())
+                .build();
+        if (success) {
+            context.markSuccess(null, 1);
+        } else {
+            context.markFailure(new IllegalStateException("boom"), 1);
+        }
+        return context;
+    }
+
+    private static AuditLog auditLog() {
+        try {
+            return AsyncAuditDispatcherTest.class.getDeclaredMethod("audited").getAnnotation(AuditLog.class);
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @AuditLog(action = "UPDATE", entityType = "TASK")
+    private static void audited() {
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * {@link #release()} çağrılana kadar yazıcı thread'ini ilk batch'te bekleten sink.
+     */
+    private static final class BlockingSink implements AuditEventSink {
+
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final List<AuditEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void write(List<AuditEvent> batch) {
+            blocked.countDown();
+            try {
+                released.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            events.addAll(batch);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        boolean awaitBlocked() throws InterruptedException {
+            return blocked.await(5, TimeUnit.SECONDS);
+        }
+
+        boolean awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return events.size() >= count;
+        }
+    }
+}
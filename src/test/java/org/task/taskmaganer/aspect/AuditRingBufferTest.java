@@ -0,0 +1,132 @@
+package org.task.taskmaganer.aspect;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new AuditRingBuffer<Integer>(5).capacity()).isEqualTo(8);
+        assertThat(new AuditRingBuffer<Integer>(8).capacity()).isEqualTo(8);
+        assertThatThrownBy(() -> new AuditRingBuffer<Integer>(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void emptyBufferDrainsNothing() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.drainTo(drained::add, 10)).isZero();
+        assertThat(drained).isEmpty();
+    }
+
+    @Test
+    void fullBufferRejectsUntilDrained() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained::add, 1)).isEqualTo(1);
+        assertThat(buffer.offer(4)).isTrue();
+        buffer.drainTo(drained::add, 10);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void keepsOrderAcrossWraparound() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        // Pozisyonlar kapasitenin birkaç katına çıkar; her turda slotlar yeniden kullanılır
+        int next = 0;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertThat(buffer.offer(next++)).isTrue();
+            }
+            buffer.drainTo(drained::add, 3);
+        }
+        buffer.drainTo(drained::add, Integer.MAX_VALUE);
+
+        assertThat(drained).hasSize(next);
+        for (int i = 0; i < next; i++) {
+            assertThat(drained.get(i)).isEqualTo(i);
+        }
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void concurrentProducersLoseAndDuplicateNothing() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> duplicates = new ArrayList<>();
+        List<Integer> reordered = new ArrayList<>();
+        int[] lastPerProducer = new int[producers];
+        Arrays.fill(lastPerProducer, -1);
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+            int drained = buffer.drainTo(value -> {
+                if (!seen.add(value)) {
+                    duplicates.add(value);
+                }
+                // Tek üreticinin event'leri kendi içinde sıralı kalır
+                int producer = value / perProducer;
+                if (value < lastPerProducer[producer]) {
+                    reordered.add(value);
+                }
+                lastPerProducer[producer] = value;
+            }, 128);
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(duplicates).isEmpty();
+        assertThat(reordered).isEmpty();
+        assertThat(seen).hasSize(producers * perProducer);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,92 @@
+package org.task.taskmaganer.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link CorrelationIdFilter}: istemcinin ID'si sadece loga güvenle yazılabiliyorsa kullanılır,
+ * aksi halde yenisi üretilir; ID istek boyunca MDC'dedir ve yanıt başlığında döner.
+ */
+class CorrelationIdFilterTest {
+
+    private static final String GENERATED = "[0-9a-f]{16}";
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void correlationIdIsEchoedInResponse() throws Exception {
+        assertThat(filter(null).getHeader(CorrelationIdFilter.HEADER)).matches(GENERATED);
+        assertThat(filter("client-42").getHeader(CorrelationIdFilter.HEADER)).isEqualTo("client-42");
+        // Log'a yazılamayacak karakterler içeren ID yerine yenisi üretilir
+        assertThat(filter("bad\nid").getHeader(CorrelationIdFilter.HEADER)).matches(GENERATED);
+    }
+
+    @Test
+    void correlationIdIsInMdcOnlyDuringRequest() throws Exception {
+        AtomicReference<String> seen = new AtomicReference<>();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(CorrelationIdFilter.HEADER, "client-42");
+
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        assertThat(seen.get()).isEqualTo("client-42");
+        assertThat(MDC.get(CorrelationIdFilter.MDC_KEY)).isNull();
+    }
+
+    @Test
+    void acceptsLogSafeIds() {
+        assertThat(CorrelationIdFilter.isValid("client-42")).isTrue();
+        assertThat(CorrelationIdFilter.isValid("a.b_C-9")).isTrue();
+        assertThat(CorrelationIdFilter.isValid("x".repeat(64))).isTrue();
+    }
+
+    @Test
+    void rejectsEmptyOrOverlongIds() {
+        assertThat(CorrelationIdFilter.isValid(null)).isFalse();
+        assertThat(CorrelationIdFilter.isValid("")).isFalse();
+        assertThat(CorrelationIdFilter.isValid("x".repeat(65))).isFalse();
+    }
+
+    @Test
+    void rejectsControlAndNonAsciiCharacters() {
+        assertThat(CorrelationIdFilter.isValid("bad\nid")).isFalse();
+        assertThat(CorrelationIdFilter.isValid("bad\rid")).isFalse();
+        assertThat(CorrelationIdFilter.isValid("bad id")).isFalse();
+        assertThat(CorrelationIdFilter.isValid("ğüşıöç")).isFalse();
+        assertThat(CorrelationIdFilter.isValid("id ")).isFalse();
+    }
+
+    @Test
+    void runWithCorrelationIdRestoresPreviousValue() {
+        AtomicReference<String> seen = new AtomicReference<>();
+        MDC.put(CorrelationIdFilter.MDC_KEY, "outer");
+
+        CorrelationIdFilter.runWithCorrelationId("inner", () -> seen.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        assertThat(seen.get()).isEqualTo("inner");
+        assertThat(MDC.get(CorrelationIdFilter.MDC_KEY)).isEqualTo("outer");
+    }
+
+    private MockHttpServletResponse filter(String header) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (header != null) {
+            request.addHeader(CorrelationIdFilter.HEADER, header);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> { });
+        return response;
+    }
+}
@@ -0,0 +1,106 @@
+package org.task.taskmaganer.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.task.taskmaganer.support.IntegrationTest;
+import org.task.taskmaganer.support.TestFixtures;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@link LoggingAspect}'in controller timer'ları, servislerdeki {@code @Timed} timer'ları ve
+ * Prometheus endpoint'inin erişim kuralı. Sayımlar test sırasından bağımsız olmak için
+ * istek öncesi/sonrası farkla okunur.
+ */
+@IntegrationTest
+@AutoConfigureObservability(tracing = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoggingAspectMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private UUID taskId;
+
+    @BeforeAll
+    void seed() {
+        taskId = fixtures.tasks(fixtures.user("metrics"), 1).get(0).getId();
+    }
+
+    @Test
+    @WithMockUser
+    void controllerCallsAreTimedWithStatusAndException() throws Exception {
+        long ok = controllerCalls("200", "none");
+        long notFound = controllerCalls("404", "ResourceNotFoundException");
+
+        mockMvc.perform(get("/tasks/{id}", taskId)).andExpect(status().isOk());
+        mockMvc.perform(get("/tasks/{id}", UUID.randomUUID())).andExpect(status().isNotFound());
+
+        assertThat(controllerCalls("200", "none") - ok).isEqualTo(1);
+        assertThat(controllerCalls("404", "ResourceNotFoundException") - notFound).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser
+    void serviceCallsAreTimed() throws Exception {
+        long failed = serviceCalls("getTaskById", "ResourceNotFoundException");
+
+        mockMvc.perform(get("/tasks/{id}", UUID.randomUUID())).andExpect(status().isNotFound());
+
+        assertThat(serviceCalls("getTaskById", "ResourceNotFoundException") - failed).isEqualTo(1);
+    }
+
+    @Test
+    void prometheusEndpointRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    @WithMockUser
+    void prometheusEndpointIsAdminOnly() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void prometheusEndpointPublishesHistograms() throws Exception {
+        mockMvc.perform(get("/tasks/{id}", taskId)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("controller_invocations_seconds_bucket")));
+    }
+
+    private long controllerCalls(String status, String exception) {
+        Timer timer = meterRegistry.find("controller.invocations")
+                .tags("controller", "TaskController", "method", "getTaskById", "status", status, "exception", exception)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private long serviceCalls(String method, String exception) {
+        Timer timer = meterRegistry.find("service.invocations")
+                .tags("class", "org.task.taskmaganer.service.TaskService", "method", method, "exception", exception)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
+}
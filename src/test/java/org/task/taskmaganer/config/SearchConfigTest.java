@@ -0,0 +1,40 @@
+package org.task.taskmaganer.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchConfigTest {
+
+    private final BeanPostProcessor postProcessor = SearchConfig.trigramThresholdPostProcessor(0.4);
+
+    @Test
+    void postgresPoolsSetTrigramThresholdPerConnection() {
+        HikariDataSource dataSource = pool("jdbc:postgresql://localhost:5432/task_manager");
+
+        postProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getConnectionInitSql()).isEqualTo("SET pg_trgm.word_similarity_threshold = 0.4");
+    }
+
+    @Test
+    void otherDatabasesAndExistingInitSqlAreLeftAlone() {
+        HikariDataSource h2 = pool("jdbc:h2:mem:search-config");
+        HikariDataSource customized = pool("jdbc:postgresql://localhost:5432/task_manager");
+        customized.setConnectionInitSql("SET statement_timeout = 1000");
+
+        postProcessor.postProcessAfterInitialization(h2, "dataSource");
+        postProcessor.postProcessAfterInitialization(customized, "replicaDataSource");
+
+        assertThat(h2.getConnectionInitSql()).isNull();
+        assertThat(customized.getConnectionInitSql()).isEqualTo("SET statement_timeout = 1000");
+    }
+
+    private static HikariDataSource pool(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        return dataSource;
+    }
+}
@@ -0,0 +1,59 @@
+package org.task.taskmaganer.controller;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.task.taskmaganer.dto.request.AuditEventFilter;
+import org.task.taskmaganer.dto.response.PageResponse;
+import org.task.taskmaganer.service.AuditEventService;
+import org.task.taskmaganer.support.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /audit-events sayfa parametrelerinin sınırlanması.
+ */
+@IntegrationTest(properties = {"audit.persistence.enabled=true", "audit.query.max-page-size=50"})
+@WithMockUser(roles = "ADMIN")
+class AuditEventControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AuditEventService auditEventService;
+
+    @Test
+    void pageSizeIsClampedToConfiguredMaximum() throws Exception {
+        assertThat(requestedPage("size", "100000").getPageSize()).isEqualTo(50);
+        assertThat(requestedPage("size", "0").getPageSize()).isEqualTo(1);
+        assertThat(requestedPage("size", "20").getPageSize()).isEqualTo(20);
+    }
+
+    @Test
+    void negativePageNumberStartsFromFirstPage() throws Exception {
+        assertThat(requestedPage("page", "-3").getPageNumber()).isZero();
+    }
+
+    private Pageable requestedPage(String param, String value) throws Exception {
+        clearInvocations(auditEventService);
+        when(auditEventService.findEvents(any(), any())).thenReturn(new PageResponse<>(Page.empty()));
+
+        mockMvc.perform(get("/audit-events").param(param, value)).andExpect(status().isOk());
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(auditEventService).findEvents(any(AuditEventFilter.class), pageable.capture());
+        return pageable.getValue();
+    }
+}
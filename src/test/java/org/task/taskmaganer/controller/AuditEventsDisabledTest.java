@@ -0,0 +1,35 @@
+package org.task.taskmaganer.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.task.taskmaganer.service.AuditEventService;
+import org.task.taskmaganer.support.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code audit.persistence.enabled=false} (test, dev, loadtest): audit_events tablosu yoktur;
+ * sorgu servisi ve endpoint yüklenmez, {@code /audit-events} 500 yerine 404 döner.
+ */
+@IntegrationTest
+@WithMockUser(roles = "ADMIN")
+class AuditEventsDisabledTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void auditEventsEndpointIsNotRegistered() throws Exception {
+        assertThat(context.getBeanNamesForType(AuditEventService.class)).isEmpty();
+
+        mockMvc.perform(get("/audit-events")).andExpect(status().isNotFound());
+    }
+}
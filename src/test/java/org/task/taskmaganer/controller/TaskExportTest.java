@@ -0,0 +1,96 @@
+package org.task.taskmaganer.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.support.IntegrationTest;
+import org.task.taskmaganer.support.TestFixtures;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code POST /tasks/export}: sonuçlar tek sorgu ile stream edilir, COUNT çalıştırılmaz.
+ * CSV çıktısında formül olarak yorumlanabilecek metinler kaçırılır.
+ */
+@IntegrationTest
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Statistics statistics;
+    private UUID userId;
+
+    @BeforeAll
+    void seed() {
+        User user = fixtures.user("export");
+        fixtures.task(user, "first", "plain description", TaskPriority.LOW, TaskStatus.PENDING);
+        fixtures.task(user, "=SUM(A1:A2)", "comma, \"quoted\"", TaskPriority.HIGH, TaskStatus.COMPLETED);
+        fixtures.tasks(fixtures.user("export-other"), 1);
+        userId = user.getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void exportStreamsWithSingleQueryAndNoCount() throws Exception {
+        statistics.clear();
+        String body = export(post("/tasks/export")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"" + userId + "\"}"));
+
+        assertThat(body.lines()).hasSize(2).allMatch(line -> line.startsWith("{"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void csvExportQuotesAndEscapesFields() throws Exception {
+        String body = export(post("/tasks/export")
+                .param("format", "CSV")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"" + userId + "\"}"));
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("id,title,description");
+        assertThat(body).contains(",'=SUM(A1:A2),\"comma, \"\"quoted\"\"\",");
+    }
+
+    private String export(RequestBuilder exportRequest) throws Exception {
+        MvcResult started = mockMvc.perform(exportRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Content-Disposition"))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
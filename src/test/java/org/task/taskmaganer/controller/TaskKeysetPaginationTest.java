@@ -0,0 +1,155 @@
+package org.task.taskmaganer.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.exception.InvalidRequestException;
+import org.task.taskmaganer.specification.KeysetCursor;
+import org.task.taskmaganer.specification.TaskSpecification;
+import org.task.taskmaganer.support.IntegrationTest;
+import org.task.taskmaganer.support.TestFixtures;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Keyset (cursor) sayfalama: {@link KeysetCursor} kodlaması ve
+ * {@link TaskSpecification#KEYSET} ile sayfa sayfa okuma.
+ * <p>
+ * Testin kullanıcısının görevleri {@code /tasks/user/{userId}} ile okunur; çoğu aynı
+ * {@code created_at} değerine çekilir; eşitlik id ile çözülmezse
+ * sayfa sınırında satırlar tekrar eder ya da atlanır. Beklenen sıra veritabanından okunur
+ * (UUID karşılaştırması Java ile veritabanında farklıdır).
+ */
+@IntegrationTest
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskKeysetPaginationTest {
+
+    private static final int TASKS = 7;
+    private static final int TIED_TASKS = 5;
+    private static final LocalDateTime TIED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private UUID userId;
+
+    @BeforeAll
+    void seed() {
+        User user = fixtures.user("keyset");
+        List<Task> saved = fixtures.tasks(user, TASKS);
+        userId = user.getId();
+
+        for (int i = 0; i < TASKS; i++) {
+            LocalDateTime createdAt = i < TIED_TASKS ? TIED_AT : TIED_AT.plusMinutes(i);
+            jdbcTemplate.update("UPDATE tasks SET created_at = ? WHERE id = ?",
+                    Timestamp.valueOf(createdAt), saved.get(i).getId());
+        }
+        fixtures.evictCaches();
+    }
+
+    @Test
+    void cursorRoundTrips() {
+        Sort.Order order = Sort.Order.desc(Task.Fields.createdAt);
+        KeysetCursor cursor = new KeysetCursor(Task.Fields.createdAt, Sort.Direction.DESC, TIED_AT.plusNanos(123_000), UUID.randomUUID());
+
+        assertThat(TaskSpecification.KEYSET.decode(cursor.encode(), order)).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursorValueMayContainSeparator() {
+        Sort.Order order = Sort.Order.asc(Task.Fields.title);
+        KeysetCursor cursor = new KeysetCursor(Task.Fields.title, Sort.Direction.ASC, "a|b|c", UUID.randomUUID());
+
+        assertThat(TaskSpecification.KEYSET.decode(cursor.encode(), order)).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursorForAnotherSortIsRejected() {
+        String token = new KeysetCursor(Task.Fields.createdAt, Sort.Direction.DESC, TIED_AT, UUID.randomUUID()).encode();
+
+        assertThatThrownBy(() -> TaskSpecification.KEYSET.decode(token, Sort.Order.asc(Task.Fields.createdAt)))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> TaskSpecification.KEYSET.decode(token, Sort.Order.desc(Task.Fields.title)))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void pagesCoverEveryTaskOnceWhenTimestampsTie() throws Exception {
+        List<String> expected = jdbcTemplate.queryForList(
+                "SELECT CAST(id AS VARCHAR) FROM tasks WHERE user_id = ? ORDER BY created_at DESC, id DESC",
+                String.class, userId);
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        for (int pages = 0; pages <= TASKS; pages++) {
+            var request = get("/tasks/user/{userId}", userId).param("mode", "KEYSET").param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+
+            page.path("content").forEach(task -> seen.add(task.path("id").asText()));
+            cursor = page.path("nextCursor").isTextual() ? page.path("nextCursor").asText() : null;
+            if (cursor == null) {
+                break;
+            }
+        }
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void tamperedCursorIsBadRequest() throws Exception {
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("createdAt|DESC|not-a-uuid|2024-01-15T10:30".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/tasks/").param("cursor", tampered))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.cursor").exists());
+        mockMvc.perform(get("/tasks/").param("cursor", "%%not-base64%%"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.cursor").exists());
+    }
+
+    @Test
+    void cursorFromAnotherSortIsBadRequest() throws Exception {
+        String cursor = new KeysetCursor(Task.Fields.createdAt, Sort.Direction.DESC, TIED_AT, UUID.randomUUID()).encode();
+
+        mockMvc.perform(get("/tasks/").param("cursor", cursor).param("sort", "title,asc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.cursor").exists());
+    }
+}
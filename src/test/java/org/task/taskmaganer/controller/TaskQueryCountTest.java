@@ -0,0 +1,172 @@
+package org.task.taskmaganer.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.search.TaskSearchEngines;
+import org.task.taskmaganer.support.IntegrationTest;
+import org.task.taskmaganer.support.TestFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Task endpoint'lerinin çalıştırdığı SQL sayısını sabitler; N+1 geri gelirse test kırılır.
+ * <p>
+ * Görevler farklı kullanıcılara dağıtılır: kullanıcı satırları ayrı sorgularla yüklenseydi
+ * sayı sayfadaki kullanıcı sayısıyla artardı. Sayım Hibernate istatistiklerinden okunur.
+ * Sayfalar dolu tutulur; son sayfa eksikse Spring Data COUNT sorgusunu atlar.
+ * Her test boş second-level cache ile başlar; cache'ten okunan istekler ayrıca sayılır.
+ */
+@IntegrationTest
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskQueryCountTest {
+
+    private static final int USERS = 5;
+    private static final int TASKS_PER_USER = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskSearchEngines searchEngines;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID userId;
+    private UUID otherUserId;
+    private UUID taskId;
+
+    @BeforeAll
+    void seed() {
+        List<Task> saved = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            saved.addAll(fixtures.tasks(fixtures.user("count"), TASKS_PER_USER));
+        }
+        userId = saved.get(0).getUser().getId();
+        otherUserId = saved.get(saved.size() - 1).getUser().getId();
+        taskId = saved.get(0).getId();
+        searchEngines.rebuildIndexes();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        fixtures.evictCaches();
+    }
+
+    @Test
+    void taskDetailUsesSingleQueryThenCache() throws Exception {
+        assertThat(statementsFor(get("/tasks/{id}", taskId))).isEqualTo(1);
+        assertThat(statementsFor(get("/tasks/{id}", taskId))).isZero();
+    }
+
+    @Test
+    void offsetListUsesContentAndCountQueries() throws Exception {
+        assertThat(statementsFor(get("/tasks/").param("size", "5"))).isEqualTo(2);
+    }
+
+    @Test
+    void sliceAndKeysetListsUseSingleQuery() throws Exception {
+        assertThat(statementsFor(get("/tasks/").param("size", "5").param("mode", "SLICE"))).isEqualTo(1);
+        assertThat(statementsFor(get("/tasks/").param("size", "5").param("mode", "KEYSET"))).isEqualTo(1);
+    }
+
+    @Test
+    void enumFilteredListIsServedFromQueryCache() throws Exception {
+        RequestBuilder byStatus = get("/tasks/status/{status}", TaskStatus.PENDING).param("size", "5");
+        assertThat(statementsFor(byStatus)).isEqualTo(2);
+        assertThat(statementsFor(byStatus)).isZero();
+    }
+
+    @Test
+    void userTaskListChecksUserOnce() throws Exception {
+        // kullanıcı + içerik + COUNT; ikinci istekte kullanıcı cache'ten gelir
+        assertThat(statementsFor(get("/tasks/user/{userId}", userId).param("size", "1"))).isEqualTo(3);
+        assertThat(statementsFor(get("/tasks/user/{userId}", userId).param("size", "1"))).isEqualTo(2);
+    }
+
+    @Test
+    void searchUsesContentAndCountQueries() throws Exception {
+        RequestBuilder search = post("/tasks/search")
+                .param("size", "5")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"searchQuery\":\"task\"}");
+        assertThat(statementsFor(search)).isEqualTo(2);
+    }
+
+    @Test
+    void updateLoadsTaskWithUserInOneQuery() throws Exception {
+        RequestBuilder update = put("/tasks/{id}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"IN_PROGRESS\"}");
+        // SELECT task JOIN user + UPDATE
+        assertThat(statementsFor(update)).isEqualTo(2);
+    }
+
+    @Test
+    void bulkCreateResolvesUsersOnceAndBatchesInserts() throws Exception {
+        String item = "{\"title\":\"bulk %d\",\"priority\":\"LOW\",\"status\":\"PENDING\",\"userId\":\"%s\"}";
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            items.add(item.formatted(i, userId));
+        }
+        items.add(item.formatted(4, UUID.randomUUID()));
+
+        statistics.clear();
+        mockMvc.perform(post("/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tasks\":[" + String.join(",", items) + "]}"))
+                .andExpect(status().isMultiStatus());
+        // kullanıcılar (IN) + tek batch INSERT
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(4);
+    }
+
+    @Test
+    void bulkUpdateUsesSingleStatement() throws Exception {
+        RequestBuilder update = put("/tasks/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"filter\":{\"userId\":\"" + otherUserId + "\"},\"priority\":\"HIGH\"}");
+
+        statistics.clear();
+        mockMvc.perform(update).andExpect(status().isOk()).andExpect(jsonPath("$.affected").value(TASKS_PER_USER));
+        // sayaçlar için GROUP BY + tek UPDATE
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // Zaten hedef değerde olan satırlar tekrar yazılmaz
+        mockMvc.perform(update).andExpect(status().isOk()).andExpect(jsonPath("$.affected").value(0));
+    }
+
+    private long statementsFor(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        return statistics.getPrepareStatementCount();
+    }
+}
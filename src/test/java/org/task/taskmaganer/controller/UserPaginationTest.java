@@ -0,0 +1,215 @@
+package org.task.taskmaganer.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.exception.InvalidRequestException;
+import org.task.taskmaganer.repository.UserRepository;
+import org.task.taskmaganer.specification.KeysetCursor;
+import org.task.taskmaganer.specification.UserSpecification;
+import org.task.taskmaganer.support.IntegrationTest;
+import org.task.taskmaganer.support.TestFixtures;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Kullanıcı listeleri: OFFSET/SLICE/KEYSET sayfalama, {@link UserSpecification#KEYSET}
+ * imleç doğrulaması, sayfalamasız listenin {@code users.list.max-size} sınırı ve NDJSON stream'leri.
+ * <p>
+ * Liste sınırı küçük tutulduğu için sınıf kendi context'ini (ve veritabanını) alır; users
+ * tablosunda sadece bu sınıfın kullanıcıları vardır. Kullanıcıların çoğu aynı
+ * {@code created_at} değerine çekilir; beklenen sıra veritabanından okunur.
+ */
+@IntegrationTest(properties = "users.list.max-size=4")
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserPaginationTest {
+
+    private static final int USERS = 6;
+    private static final int LIST_MAX_SIZE = 4;
+    private static final LocalDateTime TIED_AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @BeforeAll
+    void seed() {
+        for (int i = 0; i < USERS; i++) {
+            User user = fixtures.user("paging");
+            if (i == 0) {
+                user.setIsActive(false);
+                userRepository.save(user);
+            }
+            jdbcTemplate.update("UPDATE users SET created_at = ? WHERE id = ?",
+                    Timestamp.valueOf(i < 4 ? TIED_AT : TIED_AT.plusMinutes(i)), user.getId());
+        }
+        fixtures.evictCaches();
+    }
+
+    @Test
+    void offsetModeReturnsTotals() throws Exception {
+        mockMvc.perform(get("/users/").param("mode", "OFFSET").param("size", "4").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(USERS - 4))
+                .andExpect(jsonPath("$.totalElements").value(USERS))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.last").value(true));
+    }
+
+    @Test
+    void sliceModeSkipsCount() throws Exception {
+        mockMvc.perform(get("/users/active").param("mode", "SLICE").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[*].isActive").value(everyItem(is(true))))
+                .andExpect(jsonPath("$.totalElements").value(-1))
+                .andExpect(jsonPath("$.last").value(false));
+    }
+
+    @Test
+    void keysetPagesCoverEveryUserOnceWhenTimestampsTie() throws Exception {
+        List<String> expected = jdbcTemplate.queryForList(
+                "SELECT CAST(id AS VARCHAR) FROM users ORDER BY created_at DESC, id DESC", String.class);
+
+        assertThat(walkKeyset("/users/", "createdAt,desc")).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void keysetDefaultsToUsernameOrder() throws Exception {
+        List<String> expected = jdbcTemplate.queryForList(
+                "SELECT CAST(id AS VARCHAR) FROM users WHERE is_active = TRUE ORDER BY username, id", String.class);
+
+        assertThat(walkKeyset("/users/active", "username,asc")).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void cursorRoundTripsAndMustMatchSort() {
+        Sort.Order order = Sort.Order.asc(User.Fields.username);
+        KeysetCursor cursor = new KeysetCursor(User.Fields.username, Sort.Direction.ASC, "a|b", UUID.randomUUID());
+
+        assertThat(UserSpecification.KEYSET.decode(cursor.encode(), order)).isEqualTo(cursor);
+        assertThatThrownBy(() -> UserSpecification.KEYSET.decode(cursor.encode(), Sort.Order.desc(User.Fields.username)))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> UserSpecification.KEYSET.order(Sort.by(User.Fields.email)))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void invalidCursorIsBadRequest() throws Exception {
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("username|ASC|not-a-uuid|paging".getBytes(StandardCharsets.UTF_8));
+        String otherSort = new KeysetCursor(User.Fields.createdAt, Sort.Direction.DESC, TIED_AT, UUID.randomUUID()).encode();
+
+        // Sayfa boyutu sınırın altında tutulur; aksi halde önce size reddedilir
+        mockMvc.perform(get("/users/").param("size", "2").param("cursor", tampered))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.cursor").exists());
+        mockMvc.perform(get("/users/").param("size", "2").param("cursor", otherSort))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.cursor").exists());
+        mockMvc.perform(get("/users/").param("size", "2").param("mode", "KEYSET").param("sort", "email,asc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.sort").exists());
+    }
+
+    @Test
+    void unpagedListIsCappedAndMarkedTruncated() throws Exception {
+        mockMvc.perform(get("/users/"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(UserController.RESULT_TRUNCATED_HEADER, "true"))
+                .andExpect(jsonPath("$.length()").value(LIST_MAX_SIZE));
+        mockMvc.perform(get("/users/active"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(UserController.RESULT_TRUNCATED_HEADER, "true"))
+                .andExpect(jsonPath("$.length()").value(LIST_MAX_SIZE));
+        mockMvc.perform(get("/users/").param("mode", "OFFSET").param("size", String.valueOf(LIST_MAX_SIZE + 1)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.size").exists());
+    }
+
+    @Test
+    void streamsAreNotCapped() throws Exception {
+        List<JsonNode> all = stream("/users/stream");
+        List<JsonNode> active = stream("/users/active/stream");
+
+        assertThat(all).hasSize(USERS);
+        assertThat(active).hasSize(USERS - 1).allMatch(user -> user.path("isActive").asBoolean());
+        assertThat(all).extracting(user -> user.path("username").asText()).isSorted();
+    }
+
+    private List<String> walkKeyset(String path, String sort) throws Exception {
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        for (int pages = 0; pages <= USERS; pages++) {
+            var request = get(path).param("mode", "KEYSET").param("size", "2").param("sort", sort);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+
+            page.path("content").forEach(user -> seen.add(user.path("id").asText()));
+            cursor = page.path("nextCursor").isTextual() ? page.path("nextCursor").asText() : null;
+            if (cursor == null) {
+                break;
+            }
+        }
+        return seen;
+    }
+
+    private List<JsonNode> stream(String path) throws Exception {
+        MvcResult started = mockMvc.perform(get(path))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> users = new ArrayList<>();
+        for (String line : body.lines().toList()) {
+            users.add(objectMapper.readTree(line));
+        }
+        return users;
+    }
+}
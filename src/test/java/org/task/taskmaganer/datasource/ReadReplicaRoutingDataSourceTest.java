@@ -0,0 +1,129 @@
+package org.task.taskmaganer.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link ReadReplicaRoutingDataSource}: sadece read-only transaction'lar replica'ya gider;
+ * replica devre dışıysa veya bağlantı alınamazsa okuma primary'ye düşer.
+ * Transaction durumu {@link TransactionSynchronizationManager} üzerinden taklit edilir.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final StubLagMonitor lagMonitor = new StubLagMonitor();
+
+    private ReadReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        dataSource = new ReadReplicaRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void connectionOutsideTransactionGoesToPrimary() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(connections("primary")).isEqualTo(1);
+    }
+
+    @Test
+    void readWriteTransactionGoesToPrimary() throws SQLException {
+        transaction(false);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(connections("replica")).isZero();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() throws SQLException {
+        transaction(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(connections("replica")).isEqualTo(1);
+        assertThat(connections("primary")).isZero();
+    }
+
+    @Test
+    void readOnlyTransactionStaysOnPrimaryWhileReplicaIsOutOfRotation() throws SQLException {
+        transaction(true);
+        lagMonitor.available = false;
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(connections("primary")).isEqualTo(1);
+    }
+
+    @Test
+    void failedReplicaConnectionFallsBackToPrimary() throws SQLException {
+        SQLException refused = new SQLException("connection refused");
+        when(replica.getConnection()).thenThrow(refused);
+        transaction(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(lagMonitor.failures).containsExactly(refused);
+        assertThat(lagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(connections("fallback")).isEqualTo(1);
+
+        // Replica bir sonraki kontrole kadar denenmez
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(lagMonitor.failures).hasSize(1);
+    }
+
+    private void transaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private double connections(String target) {
+        return meterRegistry.get("datasource.routing.connections").tag("target", target).counter().count();
+    }
+
+    /**
+     * Kontrol yapmayan lag monitor; erişilebilirlik test tarafından belirlenir.
+     */
+    private static class StubLagMonitor extends ReplicaLagMonitor {
+
+        private boolean available = true;
+        private final List<SQLException> failures = new ArrayList<>();
+
+        StubLagMonitor() {
+            super(mock(DataSource.class), 0, new SimpleMeterRegistry());
+        }
+
+        @Override
+        public boolean isReplicaAvailable() {
+            return available;
+        }
+
+        @Override
+        void markUnavailable(SQLException cause) {
+            failures.add(cause);
+            available = false;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.task.taskmaganer.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link ReplicaLagMonitor}: gecikme sınırı aşılınca veya bağlantı alınamayınca replica
+ * rotasyondan çıkar, bir sonraki başarılı kontrolde geri döner. Replica, gecikmeyi
+ * PostgreSQL sorgusu sonucu olarak dönen bir stub DataSource'tur.
+ */
+class ReplicaLagMonitorTest {
+
+    private static final long MAX_LAG_MS = 1_000;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource replica = mock(DataSource.class);
+    private final ResultSet lagResult = mock(ResultSet.class);
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
+        when(connection.createStatement().executeQuery(anyString())).thenReturn(lagResult);
+        when(lagResult.next()).thenReturn(true);
+        when(replica.getConnection()).thenReturn(connection);
+
+        monitor = new ReplicaLagMonitor(replica, MAX_LAG_MS, meterRegistry);
+    }
+
+    @Test
+    void lagAboveThresholdTakesReplicaOutOfRotationUntilItCatchesUp() throws SQLException {
+        lag(MAX_LAG_MS);
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+
+        lag(MAX_LAG_MS + 1);
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+        assertThat(gauge("datasource.replica.lag")).isEqualTo(MAX_LAG_MS + 1);
+        assertThat(gauge("datasource.replica.available")).isZero();
+
+        lag(10);
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+        assertThat(gauge("datasource.replica.available")).isEqualTo(1);
+    }
+
+    @Test
+    void unreachableReplicaRecoversOnNextSuccessfulCheck() throws SQLException {
+        Connection connection = replica.getConnection();
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused")).thenReturn(connection);
+        lag(0);
+
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    void routerFailureHoldsUntilNextCheck() throws SQLException {
+        lag(0);
+
+        monitor.markUnavailable(new SQLException("connection refused"));
+        assertThat(monitor.isReplicaAvailable()).isFalse();
+
+        monitor.check();
+        assertThat(monitor.isReplicaAvailable()).isTrue();
+    }
+
+    private void lag(long millis) throws SQLException {
+        when(lagResult.getLong(1)).thenReturn(millis);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
@@ -0,0 +1,80 @@
+package org.task.taskmaganer.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.task.taskmaganer.support.IntegrationTest;
+import org.task.taskmaganer.support.TestFixtures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@link SqlMetricsDataSource}: JDBC ifadeleri repository metodu ve işlem tipi başına
+ * sayılır, okunan satırlar ResultSet üzerinden toplanır. Sayımlar test sırasından bağımsız
+ * olmak için istek öncesi/sonrası farkla okunur.
+ */
+@IntegrationTest
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SqlMetricsDataSourceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @BeforeAll
+    void seed() {
+        // İlk sayfa dolu olmalı; eksik sayfada COUNT çalışmaz
+        fixtures.tasks(fixtures.user("sqlmetrics"), 6);
+    }
+
+    @Test
+    void statementsAreMeasuredPerRepositoryMethod() throws Exception {
+        long statements = sqlStatements("findAllResponses");
+        double rows = sqlRows("findAllResponses");
+
+        mockMvc.perform(get("/tasks/").param("size", "5")).andExpect(status().isOk());
+
+        // içerik + COUNT; 5 görev satırı + 1 sayım satırı JDBC katmanında okunur
+        assertThat(sqlStatements("findAllResponses") - statements).isEqualTo(2);
+        assertThat(sqlRows("findAllResponses") - rows).isEqualTo(6);
+        assertThat(meterRegistry.find("repository.invocation.statements")
+                .tags("repository", "TaskRepository", "method", "findAllResponses").summary().max()).isEqualTo(2);
+    }
+
+    @Test
+    void operationIsReadFromLeadingKeyword() {
+        assertThat(SqlMetrics.operation("select * from tasks")).isEqualTo("select");
+        assertThat(SqlMetrics.operation("/* comment */ (SELECT 1)")).isEqualTo("select");
+        assertThat(SqlMetrics.operation("WITH t AS (SELECT 1) SELECT * FROM t")).isEqualTo("select");
+        assertThat(SqlMetrics.operation("  insert into tasks values (?)")).isEqualTo("insert");
+        assertThat(SqlMetrics.operation("MERGE INTO task_stat_counters")).isEqualTo("merge");
+        assertThat(SqlMetrics.operation("call refresh()")).isEqualTo("other");
+        assertThat(SqlMetrics.operation("/* unterminated")).isEqualTo("other");
+    }
+
+    private long sqlStatements(String method) {
+        Timer timer = meterRegistry.find("sql.statements")
+                .tags("repository", "TaskRepository", "method", method, "operation", "select").timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    private double sqlRows(String method) {
+        DistributionSummary summary = meterRegistry.find("sql.statement.rows")
+                .tags("repository", "TaskRepository", "method", method, "operation", "select").summary();
+        return summary != null ? summary.totalAmount() : 0;
+    }
+}
@@ -0,0 +1,155 @@
+package org.task.taskmaganer.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.task.taskmaganer.aspect.AuditEvent;
+import org.task.taskmaganer.dto.request.AuditEventFilter;
+import org.task.taskmaganer.dto.response.AuditEventResponse;
+import org.task.taskmaganer.support.PostgresTestDatabase;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AuditEventRepository}: batch insert (korelasyon ID'si dahil), filtre SQL'i ve aylık
+ * partition'lar. audit_events partition'lı bir PostgreSQL tablosudur ve sadece Flyway ile
+ * oluşturulur; test {@link PostgresTestDatabase} üzerinde çalışır. Her test kendi entity
+ * ID'leriyle yazar ve onlara göre filtreler.
+ */
+@SpringBootTest(properties = {
+        "cache.second-level.enabled=false",
+        "audit.persistence.enabled=true",
+        "datasource.replica.enabled=false"
+})
+class AuditEventRepositoryTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Test
+    void batchInsertWritesEveryColumn() {
+        String entityId = UUID.randomUUID().toString();
+        auditEventRepository.batchInsert(List.of(
+                new AuditEvent("CREATE_TASK", "TASK", entityId, "alice", "created", true, 12, instant(AT), "corr-1"),
+                new AuditEvent("UPDATE_TASK", "TASK", entityId, "bob", "failed", false, 7,
+                        instant(AT.plusMinutes(1)), null)));
+
+        List<AuditEventResponse> events = find(filter(entityId, null, null, null, null)).getContent();
+
+        assertThat(events).extracting(AuditEventResponse::getAction).containsExactly("UPDATE_TASK", "CREATE_TASK");
+        AuditEventResponse created = events.get(1);
+        assertThat(created.getEntityType()).isEqualTo("TASK");
+        assertThat(created.getUserId()).isEqualTo("alice");
+        assertThat(created.getMessage()).isEqualTo("created");
+        assertThat(created.isSuccess()).isTrue();
+        assertThat(created.getExecutionTimeMs()).isEqualTo(12);
+        assertThat(created.getOccurredAt()).isEqualTo(AT);
+        assertThat(created.getCorrelationId()).isEqualTo("corr-1");
+        assertThat(events.get(0).getCorrelationId()).isNull();
+        assertThat(events.get(0).isSuccess()).isFalse();
+    }
+
+    @Test
+    void filtersAreCombinedAndTimeRangeIsHalfOpen() {
+        String entityId = UUID.randomUUID().toString();
+        String correlationId = UUID.randomUUID().toString();
+        auditEventRepository.batchInsert(List.of(
+                event(entityId, "alice", correlationId, AT),
+                event(entityId, "alice", correlationId, AT.plusHours(1)),
+                event(entityId, "bob", correlationId, AT.plusHours(2)),
+                event(entityId, "alice", "other", AT.plusHours(3))));
+
+        assertThat(find(filter(entityId, "alice", null, null, null)).getTotalElements()).isEqualTo(3);
+        assertThat(find(filter(entityId, "alice", correlationId, null, null)).getTotalElements()).isEqualTo(2);
+        assertThat(find(filter(null, null, correlationId, null, null)).getTotalElements()).isEqualTo(3);
+
+        // from dahil, to hariç
+        assertThat(find(filter(entityId, null, null, AT.plusHours(1), AT.plusHours(3))).getContent())
+                .extracting(AuditEventResponse::getOccurredAt)
+                .containsExactly(AT.plusHours(2), AT.plusHours(1));
+    }
+
+    @Test
+    void pagesAreReadNewestFirstWithTotal() {
+        String entityId = UUID.randomUUID().toString();
+        auditEventRepository.batchInsert(List.of(
+                event(entityId, "alice", null, AT),
+                event(entityId, "alice", null, AT.plusMinutes(1)),
+                event(entityId, "alice", null, AT.plusMinutes(2))));
+
+        Page<AuditEventResponse> page = auditEventRepository.findAll(
+                filter(entityId, null, null, null, null), PageRequest.of(1, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(AuditEventResponse::getOccurredAt).containsExactly(AT);
+    }
+
+    @Test
+    void monthlyPartitionReceivesItsRows() {
+        LocalDate month = LocalDate.of(2099, 5, 1);
+        auditEventRepository.createMonthlyPartition(month);
+        // Var olan partition tekrar oluşturulmaz
+        auditEventRepository.createMonthlyPartition(month.withDayOfMonth(20));
+
+        String inside = UUID.randomUUID().toString();
+        String outside = UUID.randomUUID().toString();
+        auditEventRepository.batchInsert(List.of(
+                event(inside, "alice", null, LocalDateTime.of(2099, 5, 31, 23, 59)),
+                event(outside, "alice", null, LocalDateTime.of(2099, 6, 1, 0, 0))));
+
+        assertThat(partitionOf(inside)).isEqualTo("audit_events_2099_05");
+        assertThat(partitionOf(outside)).isEqualTo("audit_events_default");
+    }
+
+    @Test
+    void correlationIdIsIndexed() {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT indexdef FROM pg_indexes WHERE tablename = 'audit_events' AND indexname = ?",
+                String.class, "idx_audit_events_correlation_id"))
+                .contains("(correlation_id, occurred_at DESC)");
+    }
+
+    private Page<AuditEventResponse> find(AuditEventFilter filter) {
+        return auditEventRepository.findAll(filter, PageRequest.of(0, 20));
+    }
+
+    private String partitionOf(String entityId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT tableoid::regclass::text FROM audit_events WHERE entity_id = ?", String.class, entityId);
+    }
+
+    private static AuditEventFilter filter(String entityId, String userId, String correlationId,
+                                           LocalDateTime from, LocalDateTime to) {
+        return new AuditEventFilter(entityId != null ? "TASK" : null, entityId, userId, correlationId, from, to);
+    }
+
+    private static AuditEvent event(String entityId, String userId, String correlationId, LocalDateTime at) {
+        return new AuditEvent("UPDATE_TASK", "TASK", entityId, userId, "updated", true, 1, instant(at), correlationId);
+    }
+
+    private static Instant instant(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
@@ -0,0 +1,234 @@
+package org.task.taskmaganer.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.specification.KeysetCursor;
+import org.task.taskmaganer.specification.TaskSpecification;
+import org.task.taskmaganer.support.PostgresTestDatabase;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository sorgularının PostgreSQL planında tasks tablosunu taramadığını (Seq Scan) doğrular.
+ * <p>
+ * Veritabanı {@link PostgresTestDatabase}'dir (gömülü PostgreSQL 16 veya
+ * {@code QUERY_PLAN_TEST_DATASOURCE_URL}). Büyük bir veri seti eklenir ve test sonunda silinir.
+ * Her repository metodu gerçekten çağrılır; Hibernate'in ürettiği SQL'ler {@link SqlRecorder} ile yakalanır ve parametre değerleri olmadan {@code EXPLAIN (GENERIC_PLAN)}
+ * ile planlanır. Böylece sorgu veya index değişiklikleri aynı testte yakalanır.
+ * <p>
+ * Tablonun büyük kısmını seçen COUNT sorgularında (ör. sadece status filtresi) tarama
+ * planner'ın doğru seçimi olabilir; bu sorgular için sadece içerik sorgusu kontrol edilir.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.task.taskmaganer.repository.QueryPlanTest$SqlRecorder",
+        "cache.second-level.enabled=false",
+        "audit.persistence.enabled=false",
+        "datasource.replica.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final int USERS = 1_000;
+    private static final int TASKS = 200_000;
+    private static final String SEED_PREFIX = "plan-seed-";
+    private static final Pageable PAGE = PageRequest.of(5, 20, Sort.by(Sort.Order.desc(Task.Fields.createdAt)));
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+    private UUID taskId;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO users (username, email, first_name, last_name, password, created_at, updated_at)
+                SELECT ? || g, ? || g || '@plan.test', 'Plan', 'Seed', 'x',
+                       now() - g * interval '1 minute', now()
+                FROM generate_series(1, ?) g
+                """, SEED_PREFIX, SEED_PREFIX, USERS);
+
+        // Durum, öncelik ve kullanıcılar eşit dağıtılır; görevlerin %10'u pasiftir
+        jdbcTemplate.update("""
+                WITH seed_users AS (
+                    SELECT id, row_number() OVER (ORDER BY username) - 1 AS n
+                    FROM users WHERE username LIKE ? || '%'
+                )
+                INSERT INTO tasks (title, description, priority, status, user_id, is_active, created_at, updated_at)
+                SELECT ? || g, 'query plan seed',
+                       (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + g % 3],
+                       (ARRAY['PENDING', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED'])[1 + g % 4],
+                       u.id, g % 10 <> 0,
+                       now() - g * interval '1 second', now()
+                FROM generate_series(1, ?) g
+                JOIN seed_users u ON u.n = g % ?
+                """, SEED_PREFIX, SEED_PREFIX, TASKS, USERS);
+
+        // Planner istatistikleri ve visibility map (index-only scan) için
+        jdbcTemplate.execute("VACUUM ANALYZE users");
+        jdbcTemplate.execute("VACUUM ANALYZE tasks");
+
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", UUID.class, SEED_PREFIX + 1);
+        taskId = jdbcTemplate.queryForObject("SELECT id FROM tasks WHERE user_id = ? LIMIT 1", UUID.class, userId);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE title LIKE ? || '%'", SEED_PREFIX);
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE ? || '%'", SEED_PREFIX);
+    }
+
+    @Test
+    void repositoryQueriesDoNotScanTasks() throws Exception {
+        KeysetCursor cursor = new KeysetCursor(Task.Fields.createdAt, Sort.Direction.DESC,
+                LocalDateTime.now().minusHours(1), UUID.randomUUID());
+        Sort.Order keysetOrder = Sort.Order.desc(Task.Fields.createdAt);
+
+        List<PlanCase> cases = List.of(
+                new PlanCase("findAllActiveTasks", true, () -> taskRepository.findAllActiveTasks(PAGE)),
+                new PlanCase("findByStatus", true, () -> taskRepository.findByStatus(TaskStatus.PENDING, PAGE)),
+                new PlanCase("findByPriority", true, () -> taskRepository.findByPriority(TaskPriority.HIGH, PAGE)),
+                new PlanCase("findAllActiveTasksByStatus", true,
+                        () -> taskRepository.findAllActiveTasksByStatus(TaskStatus.PENDING, PAGE)),
+                new PlanCase("findAllActiveTasksByPriority", true,
+                        () -> taskRepository.findAllActiveTasksByPriority(TaskPriority.HIGH, PAGE)),
+                new PlanCase("findByUserId", false, () -> taskRepository.findByUserId(userId, PAGE)),
+                new PlanCase("findActiveTasksByUserId", false, () -> taskRepository.findActiveTasksByUserId(userId, PAGE)),
+                new PlanCase("findByUserIdAndStatus", false,
+                        () -> taskRepository.findByUserIdAndStatus(userId, TaskStatus.PENDING, PAGE)),
+                new PlanCase("findByUserIdAndPriority", false,
+                        () -> taskRepository.findByUserIdAndPriority(userId, TaskPriority.HIGH, PAGE)),
+                new PlanCase("findResponses keyset", false, () -> taskRepository.findResponses(
+                        TaskSpecification.withStatus(TaskStatus.PENDING).and(TaskSpecification.KEYSET.after(cursor)),
+                        TaskSpecification.KEYSET.sort(keysetOrder), 21)),
+                new PlanCase("lockAndCountByStatsKey by user", false, () -> transactionTemplate.executeWithoutResult(
+                        status -> taskRepository.lockAndCountByStatsKey(TaskSpecification.withUserId(userId)))),
+                new PlanCase("findByIdForUpdate", false, () -> transactionTemplate.executeWithoutResult(
+                        status -> taskRepository.findByIdForUpdate(taskId)))
+        );
+
+        List<String> violations = new ArrayList<>();
+        for (PlanCase planCase : cases) {
+            SqlRecorder.STATEMENTS.clear();
+            planCase.query().run();
+            List<String> statements = List.copyOf(SqlRecorder.STATEMENTS);
+            assertThat(statements).as(planCase.name()).isNotEmpty();
+
+            for (String sql : statements) {
+                boolean count = sql.trim().toLowerCase().startsWith("select count(");
+                if (count && planCase.countMayScan()) {
+                    continue;
+                }
+                JsonNode plan = explain(sql);
+                if (scansTasks(plan)) {
+                    violations.add(planCase.name() + ": " + sql + System.lineSeparator() + plan.toPrettyString());
+                }
+            }
+        }
+
+        assertThat(violations).as("Queries with a sequential scan on tasks").isEmpty();
+    }
+
+    /**
+     * JDBC parametreleri ({@code ?}) PostgreSQL'in {@code $n} biçimine çevrilir; GENERIC_PLAN
+     * değer olmadan, parametre tiplerini kolonlardan çıkararak planlar. Extended protokolde
+     * sunucu {@code $n} için bind değeri beklediğinden EXPLAIN ayrı bir bağlantıda simple
+     * query modunda çalıştırılır.
+     */
+    private JsonNode explain(String sql) throws Exception {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        Properties properties = new Properties();
+        properties.setProperty("user", PostgresTestDatabase.username());
+        properties.setProperty("password", PostgresTestDatabase.password());
+        properties.setProperty("preferQueryMode", "simple");
+        try (Connection connection = DriverManager.getConnection(PostgresTestDatabase.jdbcUrl(), properties);
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numbered)) {
+            result.next();
+            return objectMapper.readTree(result.getString(1)).path(0).path("Plan");
+        }
+    }
+
+    private static boolean scansTasks(JsonNode node) {
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && "tasks".equals(node.path("Relation Name").asText())) {
+            return true;
+        }
+        for (JsonNode child : node.path("Plans")) {
+            if (scansTasks(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param countMayScan sorgunun COUNT'u tablonun büyük kısmını seçiyorsa true
+     */
+    private record PlanCase(String name, boolean countMayScan, Runnable query) {
+    }
+
+    /**
+     * Hibernate'in çalıştırdığı SQL'leri kaydeder; SQL'i değiştirmez.
+     */
+    public static class SqlRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
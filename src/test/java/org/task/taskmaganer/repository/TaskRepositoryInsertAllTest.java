@@ -0,0 +1,60 @@
+package org.task.taskmaganer.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.specification.TaskSpecification;
+import org.task.taskmaganer.support.IntegrationTest;
+import org.task.taskmaganer.support.TestFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link TaskRepositoryCustom#insertAll} batch'ler arasında sadece eklediği görevleri detach
+ * eder; aynı transaction'da yüklenmiş diğer entity'ler managed kalır.
+ */
+@IntegrationTest(properties = "spring.jpa.properties.hibernate.jdbc.batch_size=2")
+class TaskRepositoryInsertAllTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void insertAllKeepsCallersEntitiesManaged() {
+        User saved = fixtures.user("inserter");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = entityManager.find(User.class, saved.getId());
+            List<Task> tasks = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                tasks.add(new Task("insert " + i, null, TaskPriority.LOW, TaskStatus.PENDING, user));
+            }
+
+            List<Task> inserted = taskRepository.insertAll(tasks);
+
+            assertThat(entityManager.contains(user)).isTrue();
+            assertThat(inserted).noneMatch(entityManager::contains);
+            assertThat(inserted).allSatisfy(task -> assertThat(task.getId()).isNotNull());
+        });
+
+        assertThat(taskRepository.count(TaskSpecification.withUserId(saved.getId()))).isEqualTo(5);
+    }
+}
@@ -0,0 +1,68 @@
+package org.task.taskmaganer.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.specification.TaskSpecification;
+import org.task.taskmaganer.support.IntegrationTest;
+import org.task.taskmaganer.support.TestFixtures;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@code @Version}: second-level cache'teki eski bir kopyayla yapılan yazma reddedilir.
+ * Başka bir node'un yazması, cache'i boşaltmadan JDBC ile yapılan güncellemeyle taklit edilir.
+ */
+@IntegrationTest
+class TaskVersionTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void staleCachedCopyCannotBeWritten() {
+        Task saved = fixtures.tasks(fixtures.user("version"), 1).get(0);
+        taskRepository.findById(saved.getId());
+
+        jdbcTemplate.update("UPDATE tasks SET title = ?, version = version + 1 WHERE id = ?",
+                "written elsewhere", saved.getId());
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            Task stale = taskRepository.findById(saved.getId()).orElseThrow();
+            assertThat(stale.getTitle()).isEqualTo(saved.getTitle());
+            stale.setTitle("stale write");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM tasks WHERE id = ?", String.class, saved.getId()))
+                .isEqualTo("written elsewhere");
+    }
+
+    @Test
+    void bulkUpdateIncrementsVersion() {
+        List<Task> saved = fixtures.tasks(fixtures.user("version"), 2);
+        Long before = saved.get(0).getVersion();
+
+        transactionTemplate.executeWithoutResult(status -> taskRepository.updateStatusAndPriority(
+                TaskSpecification.withUserId(saved.get(0).getUser().getId()), TaskStatus.COMPLETED, TaskPriority.HIGH));
+
+        assertThat(jdbcTemplate.queryForList("SELECT version FROM tasks WHERE user_id = ?", Long.class,
+                saved.get(0).getUser().getId())).containsOnly(before + 1);
+    }
+}
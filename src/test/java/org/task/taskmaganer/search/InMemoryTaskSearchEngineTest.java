@@ -0,0 +1,110 @@
+package org.task.taskmaganer.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.task.taskmaganer.entity.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@link InMemoryTaskSearchEngine}: kelime önekiyle ve AND ile eşleşme, commit sonrası
+ * indeks güncellemesi ve sınırı aşan sorguların LIKE'a düşmesi. Eşleşen id'ler
+ * {@code nativeCondition} parametrelerinden okunur.
+ */
+class InMemoryTaskSearchEngineTest {
+
+    private final InMemoryTaskSearchEngine engine = new InMemoryTaskSearchEngine(mock(JdbcTemplate.class), 3);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void termsMatchWordPrefixes() {
+        Task report = save("Quarterly report", "Draft for review");
+
+        assertThat(matches("rep")).containsExactly(report.getId());
+        assertThat(matches("QUARTER")).containsExactly(report.getId());
+        assertThat(matches("port")).isEmpty();
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        Task draft = save("Quarterly report", "Draft for review");
+        save("Quarterly report", "Final version");
+
+        assertThat(matches("report draft")).containsExactly(draft.getId());
+        assertThat(matches("report budget")).isEmpty();
+    }
+
+    @Test
+    void indexChangesOnlyAfterCommit() {
+        Task task = save("Quarterly report", null);
+
+        TransactionSynchronizationManager.initSynchronization();
+        task.setTitle("Budget plan");
+        engine.onTaskSaved(task);
+        assertThat(matches("report")).containsExactly(task.getId());
+        assertThat(matches("budget")).isEmpty();
+
+        commit();
+        assertThat(matches("report")).isEmpty();
+        assertThat(matches("budget")).containsExactly(task.getId());
+
+        TransactionSynchronizationManager.initSynchronization();
+        engine.onTaskRemoved(task.getId());
+        // Rollback: afterCommit çağrılmaz
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(matches("budget")).containsExactly(task.getId());
+
+        engine.onTaskRemoved(task.getId());
+        assertThat(matches("budget")).isEmpty();
+    }
+
+    @Test
+    void queriesMatchingMoreThanTheLimitFallBackToLike() {
+        for (int i = 0; i < 4; i++) {
+            save("Report " + i, "Review");
+        }
+        List<Object> params = new ArrayList<>();
+
+        String condition = engine.nativeCondition("t", "r rev", params);
+
+        assertThat(condition).doesNotContain(" IN ").contains("LIKE").contains(" AND ");
+        assertThat(params).containsOnly("%r%", "%rev%");
+        assertThat(matches("report 1")).hasSize(1);
+    }
+
+    private List<Object> matches(String searchQuery) {
+        List<Object> params = new ArrayList<>();
+        String condition = engine.nativeCondition("t", searchQuery, params);
+        assertThat(condition).doesNotContain("LIKE");
+        return params;
+    }
+
+    private Task save(String title, String description) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle(title);
+        task.setDescription(description);
+        engine.onTaskSaved(task);
+        return task;
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
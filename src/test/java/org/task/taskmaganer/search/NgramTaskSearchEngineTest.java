@@ -0,0 +1,128 @@
+package org.task.taskmaganer.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.task.taskmaganer.entity.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@link NgramTaskSearchEngine} ve {@link TrigramTaskSearchIndex}: alt dize araması, fuzzy
+ * aramada benzerlik eşiği ve AND, commit sonrası indeks güncellemesi, kısa veya çok geniş
+ * sorgularda LIKE'a düşme ve fuzzy sonuçların sınırlanması.
+ */
+class NgramTaskSearchEngineTest {
+
+    private static final int MAX_MATCHES = 3;
+
+    private final TrigramTaskSearchIndex index = new TrigramTaskSearchIndex(mock(JdbcTemplate.class));
+    private final NgramTaskSearchEngine substring = new NgramTaskSearchEngine(index, false, 0.5, MAX_MATCHES);
+    private final NgramTaskSearchEngine fuzzy = new NgramTaskSearchEngine(index, true, 0.5, MAX_MATCHES);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void substringSearchMatchesInsideWords() {
+        Task report = save("Quarterly report", "Draft for review");
+        save("Budget plan", null);
+
+        assertThat(matches(substring, "PORT")).containsExactly(report.getId());
+        assertThat(matches(substring, "for rev")).containsExactly(report.getId());
+        assertThat(matches(substring, "reprt")).isEmpty();
+    }
+
+    @Test
+    void fuzzySearchToleratesTyposAboveThreshold() {
+        Task report = save("Quarterly report", "Draft for review");
+        NgramTaskSearchEngine strict = new NgramTaskSearchEngine(index, true, 0.7, MAX_MATCHES);
+
+        // "reprt" ile "report" word_similarity'si 4/6
+        assertThat(matches(fuzzy, "reprt")).containsExactly(report.getId());
+        assertThat(matches(strict, "reprt")).isEmpty();
+    }
+
+    @Test
+    void fuzzySearchRequiresEveryWord() {
+        Task report = save("Quarterly report", "Draft for review");
+
+        assertThat(matches(fuzzy, "reprt drafr")).containsExactly(report.getId());
+        assertThat(matches(fuzzy, "reprt zebra")).isEmpty();
+    }
+
+    @Test
+    void indexChangesOnlyAfterCommit() {
+        Task task = save("Quarterly report", null);
+
+        TransactionSynchronizationManager.initSynchronization();
+        task.setTitle("Budget plan");
+        index.onTaskSaved(task);
+        assertThat(matches(substring, "report")).containsExactly(task.getId());
+
+        commit();
+        assertThat(matches(substring, "report")).isEmpty();
+        assertThat(matches(substring, "budget")).containsExactly(task.getId());
+
+        index.onTaskRemoved(task.getId());
+        assertThat(matches(fuzzy, "budget")).isEmpty();
+    }
+
+    @Test
+    void queriesShorterThanATrigramFallBackToLike() {
+        save("Quarterly report", null);
+        List<Object> params = new ArrayList<>();
+
+        assertThat(substring.nativeCondition("t", " re ", params)).contains("LIKE");
+        assertThat(params).containsOnly("%re%");
+    }
+
+    @Test
+    void inListIsCapped() {
+        List<UUID> exact = new ArrayList<>();
+        for (int i = 0; i < MAX_MATCHES; i++) {
+            exact.add(save("report " + i, null).getId());
+        }
+        for (int i = 0; i < MAX_MATCHES; i++) {
+            save("reports and more " + i, null);
+        }
+        List<Object> params = new ArrayList<>();
+
+        assertThat(substring.nativeCondition("t", "report", params)).contains("LIKE");
+        // Fuzzy: en benzer görevler tutulur ("reports" ile benzerlik 6/7)
+        assertThat(matches(fuzzy, "report")).containsExactlyInAnyOrderElementsOf(exact);
+    }
+
+    private static List<Object> matches(NgramTaskSearchEngine engine, String searchQuery) {
+        List<Object> params = new ArrayList<>();
+        String condition = engine.nativeCondition("t", searchQuery, params);
+        assertThat(condition).doesNotContain("LIKE");
+        return params;
+    }
+
+    private Task save(String title, String description) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle(title);
+        task.setDescription(description);
+        index.onTaskSaved(task);
+        return task;
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
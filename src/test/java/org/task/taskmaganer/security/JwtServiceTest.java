@@ -0,0 +1,62 @@
+package org.task.taskmaganer.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link JwtService}: doğrulanmış token cache'i sınırlıdır; dolunca en uzun süredir
+ * kullanılmayan token atılır, yeni token'lar cache'lenmeye devam eder. Cache'ten gelen
+ * claim'ler aynı nesnedir.
+ */
+class JwtServiceTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private final JwtService jwtService = new JwtService(SECRET, 60_000, 2);
+
+    @Test
+    void verifiedTokenIsServedFromCache() {
+        String token = token("alice");
+
+        Claims first = jwtService.verify(token);
+
+        assertThat(jwtService.verify(token)).isSameAs(first);
+        assertThat(first.getSubject()).isEqualTo("alice");
+    }
+
+    @Test
+    void fullCacheEvictsLeastRecentlyUsedToken() {
+        String alice = token("alice");
+        String bob = token("bob");
+        Claims aliceClaims = jwtService.verify(alice);
+        Claims bobClaims = jwtService.verify(bob);
+
+        // alice en son kullanılan olur; yeni token bob'u atar
+        jwtService.verify(alice);
+        jwtService.verify(token("carol"));
+
+        assertThat(jwtService.verifiedCacheSize()).isEqualTo(2);
+        assertThat(jwtService.verify(alice)).isSameAs(aliceClaims);
+        assertThat(jwtService.verify(bob)).isNotSameAs(bobClaims);
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = token("alice");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtService.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThat(jwtService.verifiedCacheSize()).isZero();
+    }
+
+    private String token(String username) {
+        return jwtService.generateToken(User.withUsername(username).password("secret").roles("USER").build());
+    }
+}
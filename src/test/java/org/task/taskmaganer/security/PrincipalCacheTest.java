@@ -0,0 +1,136 @@
+package org.task.taskmaganer.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final List<String> loads = new ArrayList<>();
+    private final Function<String, UserDetails> loader = username -> {
+        loads.add(username);
+        return User.withUsername(username).password("secret").roles("USER").build();
+    };
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void secondLookupWithSameTokenIsHit() {
+        PrincipalCache cache = cache(10, 60);
+
+        UserDetails first = cache.getOrLoad("alice", 1, loader);
+        UserDetails second = cache.getOrLoad("alice", 1, loader);
+        cache.getOrLoad("alice", 2, loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).containsExactly("alice", "alice");
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void expiredEntryIsReloaded() {
+        PrincipalCache cache = cache(10, 60);
+        cache.getOrLoad("alice", 1, loader);
+
+        now.addAndGet(59_999);
+        cache.getOrLoad("alice", 1, loader);
+        assertThat(loads).hasSize(1);
+
+        now.addAndGet(1);
+        cache.getOrLoad("alice", 1, loader);
+        assertThat(loads).hasSize(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedAtCapacity() {
+        PrincipalCache cache = cache(2, 60);
+        cache.getOrLoad("alice", 1, loader);
+        cache.getOrLoad("bob", 1, loader);
+        // alice yeniden kullanılır, en eski erişim bob'da kalır
+        cache.getOrLoad("alice", 1, loader);
+
+        cache.getOrLoad("carol", 1, loader);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.principal.cache.evictions").counter().count()).isEqualTo(1);
+        loads.clear();
+        cache.getOrLoad("alice", 1, loader);
+        cache.getOrLoad("carol", 1, loader);
+        assertThat(loads).isEmpty();
+        cache.getOrLoad("bob", 1, loader);
+        assertThat(loads).containsExactly("bob");
+    }
+
+    @Test
+    void invalidateRemovesOnlyThatUsersEntries() {
+        PrincipalCache cache = cache(10, 60);
+        cache.getOrLoad("alice", 1, loader);
+        cache.getOrLoad("alice", 2, loader);
+        cache.getOrLoad("bob", 1, loader);
+
+        cache.invalidate("alice");
+
+        assertThat(cache.size()).isEqualTo(1);
+        loads.clear();
+        cache.getOrLoad("bob", 1, loader);
+        cache.getOrLoad("alice", 1, loader);
+        assertThat(loads).containsExactly("alice");
+    }
+
+    @Test
+    void userUpdateEvictsAgainAfterCommit() {
+        PrincipalCache cache = cache(10, 60);
+        cache.getOrLoad("alice", 1, loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Güncelleme transaction'ı içinde invalidate edilir
+        cache.invalidate("alice");
+        // Commit'ten önce eşzamanlı bir istek eski satırı tekrar cache'e koyar
+        cache.getOrLoad("alice", 1, loader);
+        assertThat(cache.size()).isEqualTo(1);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void disabledCacheAlwaysLoads() {
+        PrincipalCache cache = new PrincipalCache(false, 10, 60, meterRegistry, now::get);
+
+        cache.getOrLoad("alice", 1, loader);
+        cache.getOrLoad("alice", 1, loader);
+
+        assertThat(loads).hasSize(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private PrincipalCache cache(int maxSize, long ttlSeconds) {
+        return new PrincipalCache(true, maxSize, ttlSeconds, meterRegistry, now::get);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("auth.principal.cache.requests").tag("result", result).counter().count();
+    }
+}
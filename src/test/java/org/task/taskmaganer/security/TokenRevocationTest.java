@@ -0,0 +1,215 @@
+package org.task.taskmaganer.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.task.taskmaganer.dto.request.CreateUserRequest;
+import org.task.taskmaganer.dto.request.UpdateUserRequest;
+import org.task.taskmaganer.dto.response.AuthResponse;
+import org.task.taskmaganer.entity.Role;
+import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.exception.AccessDeniedException;
+import org.task.taskmaganer.repository.UserRepository;
+import org.task.taskmaganer.repository.UserTombstoneRepository;
+import org.task.taskmaganer.service.AuthService;
+import org.task.taskmaganer.service.UserService;
+import org.task.taskmaganer.support.IntegrationTest;
+import org.task.taskmaganer.support.TestFixtures;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Stateless JWT modunda token iptali: eski versiyon, pasif kullanıcı, kalıcı silme (başka
+ * node'un kaydı dahil), rol değişikliği (sadece ADMIN) ve stateless claim'leri olmayan eski token'lar.
+ */
+@IntegrationTest(properties = "jwt.stateless.enabled=true")
+class TokenRevocationTest {
+
+    private static final long TOKEN_LIFETIME_MS = 86_400_000L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TokenRevocationRegistry revocationRegistry;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void currentTokenIsAccepted() throws Exception {
+        User user = fixtures.user("revoke");
+
+        call(jwtService.generateStatelessToken(user)).andExpect(status().isOk());
+    }
+
+    @Test
+    void tokenWithStaleVersionIsRejected() throws Exception {
+        User user = fixtures.user("revoke");
+        String oldToken = jwtService.generateStatelessToken(user);
+
+        userService.updateUser(user.getId(), new UpdateUserRequest("New", "Name", null, "changed-secret", null));
+
+        call(oldToken).andExpect(status().isForbidden());
+        call(jwtService.generateStatelessToken(reload(user))).andExpect(status().isOk());
+    }
+
+    @Test
+    void tokenOfInactiveUserIsRejected() throws Exception {
+        User user = fixtures.user("revoke");
+        String token = jwtService.generateStatelessToken(user);
+
+        userService.deleteUser(user.getId());
+
+        call(token).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void tokenOfDeletedUserIsRejectedOnAllNodes() throws Exception {
+        User user = fixtures.user("revoke");
+        String token = jwtService.generateStatelessToken(user);
+        TokenRevocationRegistry otherNode = startNode();
+
+        userService.hardDeleteUser(user.getId());
+
+        call(token).andExpect(status().isForbidden());
+        assertThat(tombstoneRepository.existsById(user.getId())).isTrue();
+        // Diğer node silmeyi users tablosundan göremez; tombstone'u bir sonraki yenilemede okur
+        assertThat(otherNode.isRevoked(user.getId(), 0)).isFalse();
+        otherNode.refresh();
+        assertThat(otherNode.isRevoked(user.getId(), 0)).isTrue();
+        // Silmeden sonra açılan node tam yüklemede görür
+        assertThat(startNode().isRevoked(user.getId(), 0)).isTrue();
+    }
+
+    @Test
+    void roleChangeRevokesTokens() throws Exception {
+        User user = fixtures.user("revoke");
+        String token = jwtService.generateStatelessToken(user);
+        TokenRevocationRegistry otherNode = startNode();
+
+        asAdmin(() -> userService.updateUser(user.getId(), changeRole(user, Role.ADMIN)));
+        otherNode.refresh();
+        revocationRegistry.refresh();
+
+        User promoted = reload(user);
+        assertThat(promoted.getTokenVersion()).isEqualTo(user.getTokenVersion() + 1);
+        assertThat(otherNode.isRevoked(user.getId(), user.getTokenVersion())).isTrue();
+        call(token).andExpect(status().isForbidden());
+        call(jwtService.generateStatelessToken(promoted)).andExpect(status().isOk());
+    }
+
+    @Test
+    void onlyAdminsCanChangeRoles() {
+        User user = fixtures.user("revoke");
+
+        assertThatThrownBy(() -> userService.updateUser(user.getId(), changeRole(user, Role.ADMIN)))
+                .isInstanceOf(AccessDeniedException.class);
+
+        User unchanged = reload(user);
+        assertThat(unchanged.getRole()).isEqualTo(Role.USER);
+        assertThat(unchanged.getTokenVersion()).isEqualTo(user.getTokenVersion());
+    }
+
+    @Test
+    void issuedTokensCarryStatelessClaims() {
+        String username = "revoke-auth-" + UUID.randomUUID();
+        AuthResponse response = authService.register(
+                new CreateUserRequest(username, username + "@test.local", "Test", "User", "secret-password"));
+
+        TokenPrincipal principal = TokenPrincipal.fromClaims(jwtService.verify(response.getToken()));
+        assertThat(principal).isNotNull();
+        assertThat(principal.username()).isEqualTo(username);
+    }
+
+    @Test
+    void tokenWithoutStatelessClaimsFallsBackToDatabase() throws Exception {
+        User user = fixtures.user("revoke");
+        String legacyToken = jwtService.generateToken(user);
+        assertThat(TokenPrincipal.fromClaims(jwtService.verify(legacyToken))).isNull();
+
+        call(legacyToken).andExpect(status().isOk());
+
+        userService.hardDeleteUser(user.getId());
+
+        call(legacyToken).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void tombstonesArePurgedAfterTokenLifetime() {
+        User expired = fixtures.user("revoke");
+        User recent = fixtures.user("revoke");
+        userService.hardDeleteUser(expired.getId());
+        userService.hardDeleteUser(recent.getId());
+        jdbcTemplate.update("UPDATE user_tombstones SET deleted_at = ? WHERE user_id = ?",
+                LocalDateTime.now().minusDays(2), expired.getId());
+
+        revocationRegistry.purgeTombstones();
+
+        assertThat(tombstoneRepository.existsById(expired.getId())).isFalse();
+        assertThat(tombstoneRepository.existsById(recent.getId())).isTrue();
+    }
+
+    private ResultActions call(String token) throws Exception {
+        return mockMvc.perform(get("/users/exists/username/{username}", "nobody")
+                .header("Authorization", "Bearer " + token));
+    }
+
+    /**
+     * Servisi ADMIN olarak çağırır. Bağlam sonra temizlenir; aksi halde MockMvc istekleri
+     * token yerine bu kimlikle doğrulanırdı.
+     */
+    private static void asAdmin(Runnable action) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+        try {
+            action.run();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static UpdateUserRequest changeRole(User user, Role role) {
+        return new UpdateUserRequest(user.getFirstName(), user.getLastName(), null, null, null, role);
+    }
+
+    private TokenRevocationRegistry startNode() {
+        TokenRevocationRegistry node = new TokenRevocationRegistry(userRepository, tombstoneRepository, true,
+                TOKEN_LIFETIME_MS);
+        node.loadAll();
+        return node;
+    }
+
+    private User reload(User user) {
+        return userRepository.findById(user.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,47 @@
+package org.task.taskmaganer.service;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.task.taskmaganer.dto.request.CreateUserRequest;
+import org.task.taskmaganer.dto.request.LoginRequest;
+import org.task.taskmaganer.dto.response.AuthResponse;
+import org.task.taskmaganer.security.JwtService;
+import org.task.taskmaganer.support.IntegrationTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@code jwt.stateless.enabled=false} (varsayılan): kayıt ve girişte üretilen token'lar
+ * sadece kullanıcı adını taşır; id/rol/versiyon claim'leri yazılmaz. Stateless mod
+ * {@code TokenRevocationTest} ile doğrulanır.
+ */
+@IntegrationTest
+class AuthServiceTest {
+
+    private static final String PASSWORD = "secret-password";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void tokensCarryNoStatelessClaimsWhenStatelessModeIsOff() {
+        String username = "auth-" + UUID.randomUUID();
+
+        AuthResponse registered = authService.register(
+                new CreateUserRequest(username, username + "@test.local", "Test", "User", PASSWORD));
+        AuthResponse loggedIn = authService.login(new LoginRequest(username, PASSWORD));
+
+        for (AuthResponse response : new AuthResponse[]{registered, loggedIn}) {
+            Claims claims = jwtService.verify(response.getToken());
+            assertThat(claims.getSubject()).isEqualTo(username);
+            assertThat(claims).doesNotContainKeys(
+                    JwtService.CLAIM_USER_ID, JwtService.CLAIM_ROLE, JwtService.CLAIM_ACCOUNT_VERSION);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.task.taskmaganer.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.task.taskmaganer.dto.request.BulkUpdateTaskRequest;
+import org.task.taskmaganer.dto.request.SearchTaskRequest;
+import org.task.taskmaganer.dto.request.UpdateTaskRequest;
+import org.task.taskmaganer.dto.response.TaskStatsResponse;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.repository.TaskRepository;
+import org.task.taskmaganer.specification.TaskSpecification;
+import org.task.taskmaganer.support.IntegrationTest;
+import org.task.taskmaganer.support.TestFixtures;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@link TaskStatsService}: {@code /tasks/stats} COUNT(*) çalıştırmadan okunur ve görev
+ * yazmalarını izler. SQL sayısı Hibernate istatistiklerinden okunur.
+ */
+@IntegrationTest
+@WithMockUser
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskStatsServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Statistics statistics;
+    private UUID userId;
+
+    @BeforeAll
+    void seed() {
+        User user = fixtures.user("stats");
+        for (TaskStatus status : TaskStatus.values()) {
+            fixtures.task(user, "stats " + status, "stats task", TaskPriority.MEDIUM, status);
+        }
+        userId = user.getId();
+        taskStatsService.rebuild();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void clearSecondLevelCache() {
+        fixtures.evictCaches();
+    }
+
+    @Test
+    void statsAreReadWithoutCountQueries() throws Exception {
+        assertThat(statementsFor(get("/tasks/stats"))).isZero();
+        // kullanıcı + kullanıcının sayaç satırları
+        assertThat(statementsFor(get("/tasks/stats").param("userId", userId.toString()))).isEqualTo(2);
+    }
+
+    @Test
+    void statsFollowTaskWrites() throws Exception {
+        long completed = taskRepository.count(TaskSpecification.withStatus(TaskStatus.COMPLETED));
+        mockMvc.perform(post("/tasks/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"stats\",\"priority\":\"HIGH\",\"status\":\"COMPLETED\",\"userId\":\"" + userId + "\"}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value((int) taskRepository.count()))
+                .andExpect(jsonPath("$.byStatus.COMPLETED").value((int) completed + 1));
+        mockMvc.perform(get("/tasks/stats").param("userId", userId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value((int) taskRepository.count(TaskSpecification.withUserId(userId))));
+    }
+
+    @Test
+    void refreshNeverExposesPartialTotals() throws Exception {
+        long total = taskStatsService.getStats().getTotal();
+        Thread refresher = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                taskStatsService.refresh();
+            }
+        });
+
+        refresher.start();
+        while (refresher.isAlive()) {
+            assertThat(taskStatsService.getStats().getTotal()).isEqualTo(total);
+            Thread.yield();
+        }
+        refresher.join();
+        assertThat(taskStatsService.getStats().getTotal()).isEqualTo(total);
+    }
+
+    /**
+     * Aynı görevleri değiştiren toplu ve tekil güncellemeler aynı anda çalışır. Çakışan bir
+     * işlem ya kilidi bekler ya da 409 ile geri alınır; sonunda kullanıcının sayaç satırları
+     * tasks tablosundaki sayımlarla aynı olmalıdır.
+     */
+    @Test
+    void concurrentUpdatesKeepCountersExact() throws Exception {
+        User user = fixtures.user("stats-race");
+        List<Task> tasks = fixtures.tasks(user, 6);
+        taskStatsService.rebuild();
+
+        SearchTaskRequest filter = new SearchTaskRequest();
+        filter.setUserId(user.getId());
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        List<IntConsumer> writers = List.of(
+                i -> taskService.updateTasks(new BulkUpdateTaskRequest(null, filter, statuses[i % statuses.length], null)),
+                i -> taskService.updateTasks(new BulkUpdateTaskRequest(null, filter, null, priorities[i % priorities.length])),
+                i -> taskService.updateTask(tasks.get(i % tasks.size()).getId(),
+                        new UpdateTaskRequest(null, null, null, statuses[(i + 1) % statuses.length], i % 5 != 0)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers.size());
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (IntConsumer writer : writers) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 30; i++) {
+                    try {
+                        writer.accept(i);
+                    } catch (ConcurrencyFailureException ex) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Map<String, Long> expected = new HashMap<>();
+        jdbcTemplate.query("SELECT status, priority, is_active, COUNT(*) FROM tasks WHERE user_id = ? "
+                        + "GROUP BY status, priority, is_active",
+                row -> { expected.put(row.getString(1) + "/" + row.getString(2) + "/" + row.getBoolean(3), row.getLong(4)); },
+                user.getId());
+        Map<String, Long> counted = new HashMap<>();
+        jdbcTemplate.query("SELECT status, priority, is_active, task_count FROM task_stat_counters "
+                        + "WHERE user_id = ? AND task_count <> 0",
+                row -> { counted.put(row.getString(1) + "/" + row.getString(2) + "/" + row.getBoolean(3), row.getLong(4)); },
+                user.getId());
+        assertThat(counted).as("conflicts: %d", conflicts.get()).isEqualTo(expected);
+
+        // Bellekteki toplamlar commit edilen değişikliklerle aynıdır
+        TaskStatsResponse inMemory = taskStatsService.getStats();
+        taskStatsService.refresh();
+        assertThat(taskStatsService.getStats().getByStatus()).isEqualTo(inMemory.getByStatus());
+        assertThat(taskStatsService.getStats().getActiveByPriority()).isEqualTo(inMemory.getActiveByPriority());
+    }
+
+    private long statementsFor(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,34 @@
+package org.task.taskmaganer.support;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * H2 üzerinde çalışan uygulama testleri: {@code test} profili (application-test.yml),
+ * MockMvc ve {@link TestFixtures}.
+ * <p>
+ * Aynı ayarlarla çalışan sınıflar Spring context'ini ve veritabanını paylaşır; testler
+ * kendi oluşturdukları kullanıcı ve görevlere göre filtrelemelidir. Farklı ayar gereken
+ * sınıflar {@link #properties()} ile ek özellik verir (ayrı context açılır).
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+public @interface IntegrationTest {
+
+    @AliasFor(annotation = SpringBootTest.class, attribute = "properties")
+    String[] properties() default {};
+}
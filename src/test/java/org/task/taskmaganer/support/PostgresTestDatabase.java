@@ -0,0 +1,76 @@
+package org.task.taskmaganer.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * PostgreSQL'e özgü davranışları (plan, partition, kilit) doğrulayan testlerin veritabanı.
+ * <p>
+ * Varsayılan olarak gömülü bir PostgreSQL 16 başlatır (zonky embedded-postgres; initdb root
+ * kullanıcısıyla çalışmaz). {@code QUERY_PLAN_TEST_DATASOURCE_URL} verilirse onun yerine o
+ * veritabanı kullanılır; hedef boş bir PostgreSQL 16+ veritabanı olmalıdır. Sunucu JVM başına
+ * bir kez başlatılır ve sınıflar arasında paylaşılır; Flyway migration'ları uygulanır.
+ */
+public final class PostgresTestDatabase {
+
+    private static EmbeddedPostgres embeddedPostgres;
+    private static String jdbcUrl;
+
+    private PostgresTestDatabase() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+    /**
+     * Datasource, dialect ve Flyway ayarlarını {@code @DynamicPropertySource} kaydına ekler.
+     */
+    public static void register(DynamicPropertyRegistry registry) {
+        String url = jdbcUrl();
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", PostgresTestDatabase::username);
+        registry.add("spring.datasource.password", PostgresTestDatabase::password);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    public static synchronized String jdbcUrl() {
+        if (jdbcUrl == null) {
+            String url = System.getenv("QUERY_PLAN_TEST_DATASOURCE_URL");
+            jdbcUrl = url != null && !url.isBlank() ? url : startEmbeddedPostgres().getJdbcUrl("postgres", "postgres");
+        }
+        return jdbcUrl;
+    }
+
+    public static String username() {
+        return env("QUERY_PLAN_TEST_DATASOURCE_USERNAME", "postgres");
+    }
+
+    public static String password() {
+        return env("QUERY_PLAN_TEST_DATASOURCE_PASSWORD", "postgres");
+    }
+
+    private static EmbeddedPostgres startEmbeddedPostgres() {
+        try {
+            embeddedPostgres = EmbeddedPostgres.builder().start();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Embedded PostgreSQL could not be started", ex);
+        }
+        // Spring context'leri test sonunda cache'te kalır; sunucu JVM kapanırken durdurulur
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                embeddedPostgres.close();
+            } catch (IOException ignored) {
+                // JVM zaten kapanıyor
+            }
+        }));
+        return embeddedPostgres;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
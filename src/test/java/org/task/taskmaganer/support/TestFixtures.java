@@ -0,0 +1,68 @@
+package org.task.taskmaganer.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.test.context.TestComponent;
+import org.task.taskmaganer.entity.Task;
+import org.task.taskmaganer.entity.TaskPriority;
+import org.task.taskmaganer.entity.TaskStatus;
+import org.task.taskmaganer.entity.User;
+import org.task.taskmaganer.repository.TaskRepository;
+import org.task.taskmaganer.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test verisi: kullanıcı ve görevleri doğrudan repository'lere yazar (servis katmanı,
+ * sayaçlar ve audit atlanır). Kullanıcı adları sıra numarası alır; context'i paylaşan
+ * sınıflar çakışmaz.
+ */
+@TestComponent
+public class TestFixtures {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public TestFixtures(UserRepository userRepository, TaskRepository taskRepository,
+                        EntityManagerFactory entityManagerFactory) {
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * {@code <prefix>-<n>} kullanıcı adıyla yeni kullanıcı.
+     */
+    public User user(String prefix) {
+        String username = prefix + "-" + SEQUENCE.incrementAndGet();
+        return userRepository.save(new User(username, username + "@test.local", "Test", "User", "secret"));
+    }
+
+    /**
+     * Kullanıcıya {@code count} adet MEDIUM/PENDING görev.
+     */
+    public List<Task> tasks(User user, int count) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Task(user.getUsername() + " task " + i, "test task", TaskPriority.MEDIUM, TaskStatus.PENDING, user));
+        }
+        return taskRepository.saveAll(tasks);
+    }
+
+    public Task task(User user, String title, String description, TaskPriority priority, TaskStatus status) {
+        return taskRepository.save(new Task(title, description, priority, status, user));
+    }
+
+    /**
+     * Second-level ve query cache bölgelerini boşaltır; JDBC ile yapılan değişikliklerden veya
+     * SQL sayımından önce.
+     */
+    public void evictCaches() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+}